@@ -0,0 +1,89 @@
+package tatracker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+import tatracker.model.util.SampleDataUtil;
+import tatracker.storage.TaTrackerStorage;
+
+/**
+ * Reads the data that TA-Tracker starts with, on the data loader thread.
+ * <p>
+ * Loading always produces some data, even if reading the data file fails in an unexpected way,
+ * so that the app never gets stuck waiting for its data. If the data file cannot be read,
+ * an empty TaTracker is used instead, along with a warning to show the user.
+ * Any warning from the storage about the data it read is also shown to the user.
+ */
+public class InitialDataLoader {
+
+    public static final String MESSAGE_LOAD_FAILED = "Your data file could not be read, "
+            + "so TA-Tracker has started with no data.\n"
+            + "Any changes you make now will replace the data file. Problem: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(InitialDataLoader.class);
+
+    private final Runnable storageMigration;
+    private final TaTrackerStorage storage;
+
+    private String warning = null;
+
+    /**
+     * Creates a loader that runs {@code storageMigration} and then reads the data from {@code storage}.
+     */
+    public InitialDataLoader(Runnable storageMigration, TaTrackerStorage storage) {
+        this.storageMigration = requireNonNull(storageMigration);
+        this.storage = requireNonNull(storage);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s TA-Tracker. <br>
+     * The data from the sample ta-tracker will be used instead if {@code storage}'s ta-tracker is not found,
+     * or an empty ta-tracker will be used instead if errors occur when reading {@code storage}'s ta-tracker.
+     */
+    public ReadOnlyTaTracker load() {
+        try {
+            storageMigration.run();
+        } catch (RuntimeException e) {
+            // The data can still be read in the original format
+            logger.warning("Could not convert the data file for the chosen storage mode: " + e);
+        }
+
+        try {
+            Optional<ReadOnlyTaTracker> taTrackerOptional = storage.readTaTracker();
+            if (!taTrackerOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample TaTracker");
+            }
+            warning = storage.getReadWarning().orElse(null);
+            return taTrackerOptional.orElseGet(SampleDataUtil::getSampleTaTracker);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TaTracker");
+            return startEmpty(e);
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TaTracker");
+            return startEmpty(e);
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while reading the data file. Will be starting with an empty TaTracker: "
+                    + e);
+            return startEmpty(e);
+        }
+    }
+
+    private ReadOnlyTaTracker startEmpty(Exception cause) {
+        warning = String.format(MESSAGE_LOAD_FAILED, cause.getMessage() == null ? cause : cause.getMessage());
+        return new TaTracker();
+    }
+
+    /**
+     * Returns the warning to show the user about the data that was loaded, if there is one.
+     */
+    public Optional<String> getWarning() {
+        return Optional.ofNullable(warning);
+    }
+}
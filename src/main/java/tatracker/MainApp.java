@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import tatracker.commons.core.Config;
 import tatracker.commons.core.LogsCenter;
@@ -13,18 +14,20 @@ import tatracker.commons.core.Notification;
 import tatracker.commons.core.Version;
 import tatracker.commons.exceptions.DataConversionException;
 import tatracker.commons.util.ConfigUtil;
+import tatracker.commons.util.FileUtil;
 import tatracker.commons.util.StringUtil;
 import tatracker.logic.Logic;
 import tatracker.logic.LogicManager;
 import tatracker.model.Model;
 import tatracker.model.ModelManager;
 import tatracker.model.ReadOnlyTaTracker;
-import tatracker.model.ReadOnlyUserPrefs;
 import tatracker.model.TaTracker;
 import tatracker.model.UserPrefs;
-import tatracker.model.util.SampleDataUtil;
+import tatracker.storage.BinaryTaTrackerStorage;
+import tatracker.storage.JournalTaTrackerStorage;
 import tatracker.storage.JsonTaTrackerStorage;
 import tatracker.storage.JsonUserPrefsStorage;
+import tatracker.storage.ShardedTaTrackerStorage;
 import tatracker.storage.Storage;
 import tatracker.storage.StorageManager;
 import tatracker.storage.TaTrackerStorage;
@@ -41,12 +44,19 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final String DATA_LOADER_THREAD_NAME = "TaTracker-data-loader";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    private LogicManager logicManager;
+
+    /** Converts the json data file for the chosen storage mode. This is slow, so it is done while loading. */
+    private Runnable storageMigration = () -> {};
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TaTracker ]===========================");
@@ -57,41 +67,97 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaTrackerStorage taTrackerStorage = new JsonTaTrackerStorage(userPrefs.getTaTrackerFilePath());
-        storage = new StorageManager(taTrackerStorage, userPrefsStorage);
+        TaTrackerStorage taTrackerStorage = initTaTrackerStorage(config, userPrefs.getTaTrackerFilePath());
+        StorageManager storageManager = new StorageManager(taTrackerStorage, userPrefsStorage);
+        if (config.getMaxSaveLatency() > 0) {
+            storageManager.enableBackgroundSaving(config.getMaxSaveLatency());
+        }
+        storage = storageManager;
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The saved data is only read after the window is shown, see #start(Stage).
+        model = new ModelManager(new TaTracker(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logicManager = new LogicManager(model, storage);
+        logicManager.startLoadingData();
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s TA-Tracker and {@code userPrefs}. <br>
-     * The data from the sample ta-tracker will be used instead if {@code storage}'s ta-tracker is not found,
-     * or an empty ta-tracker will be used instead if errors occur when reading {@code storage}'s ta-tracker.
+     * Returns the {@code TaTrackerStorage} for the data file at {@code taTrackerFilePath},
+     * in the storage mode chosen in {@code config}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyTaTracker> taTrackerOptional;
-        ReadOnlyTaTracker initialData;
-        try {
-            taTrackerOptional = storage.readTaTracker();
-            if (!taTrackerOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample TaTracker");
-            }
-            initialData = taTrackerOptional.orElseGet(SampleDataUtil::getSampleTaTracker);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TaTracker");
-            initialData = new TaTracker();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TaTracker");
-            initialData = new TaTracker();
+    private TaTrackerStorage initTaTrackerStorage(Config config, Path taTrackerFilePath) {
+        switch (config.getStorageMode()) {
+        case JOURNAL:
+            logger.info("Using journal storage for " + taTrackerFilePath);
+            return new JournalTaTrackerStorage(taTrackerFilePath);
+        case BINARY:
+            return initBinaryTaTrackerStorage(taTrackerFilePath);
+        case SHARDED:
+            return initShardedTaTrackerStorage(taTrackerFilePath);
+        default:
+            return new JsonTaTrackerStorage(taTrackerFilePath);
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns a {@code BinaryTaTrackerStorage} for the binary snapshot next to {@code jsonFilePath}.
+     * The json file is converted into the binary snapshot if the snapshot does not exist yet.
+     */
+    private TaTrackerStorage initBinaryTaTrackerStorage(Path jsonFilePath) {
+        Path binaryFilePath = BinaryTaTrackerStorage.getBinaryFilePath(jsonFilePath);
+        BinaryTaTrackerStorage binaryStorage = new BinaryTaTrackerStorage(binaryFilePath);
+        logger.info("Using binary storage for " + binaryFilePath);
+
+        if (!FileUtil.isFileExists(binaryFilePath)) {
+            storageMigration = () -> {
+                try {
+                    binaryStorage.convertFromJson(jsonFilePath);
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Could not convert " + jsonFilePath + " into a binary snapshot: " + e);
+                }
+            };
+        }
+        return binaryStorage;
+    }
+
+    /**
+     * Returns a {@code ShardedTaTrackerStorage} for the shard directory next to {@code jsonFilePath}.
+     * The json file is split into shards if the shard directory does not exist yet.
+     */
+    private TaTrackerStorage initShardedTaTrackerStorage(Path jsonFilePath) {
+        Path shardDirectoryPath = ShardedTaTrackerStorage.getShardDirectoryPath(jsonFilePath);
+        ShardedTaTrackerStorage shardedStorage = new ShardedTaTrackerStorage(shardDirectoryPath);
+        logger.info("Using sharded storage for " + shardDirectoryPath);
+
+        if (!FileUtil.isFileExists(shardDirectoryPath.resolve(ShardedTaTrackerStorage.MANIFEST_FILE_NAME))) {
+            storageMigration = () -> {
+                try {
+                    shardedStorage.convertFromJson(jsonFilePath);
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Could not split " + jsonFilePath + " into shards: " + e);
+                }
+            };
+        }
+        return shardedStorage;
+    }
+
+    /**
+     * Reads the saved data on a background thread, and shows it once it has been read.
+     */
+    private void startLoadingData() {
+        Thread loader = new Thread(() -> {
+            InitialDataLoader dataLoader = new InitialDataLoader(storageMigration, storage);
+            ReadOnlyTaTracker initialData = dataLoader.load();
+            Optional<String> warning = dataLoader.getWarning();
+            Platform.runLater(() -> logicManager.publishLoadedData(initialData, warning));
+        }, DATA_LOADER_THREAD_NAME);
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -170,11 +236,18 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TaTracker " + MainApp.VERSION);
         ui.start(primaryStage);
+        startLoadingData();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TA-Tracker ] =============================");
+        try {
+            storage.flushTaTracker();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private long maxSaveLatency = 500;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,26 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    /**
+     * Returns the most number of milliseconds that a change may wait before it is saved.
+     * Changes are saved immediately if this is 0.
+     */
+    public long getMaxSaveLatency() {
+        return maxSaveLatency;
+    }
+
+    public void setMaxSaveLatency(long maxSaveLatency) {
+        this.maxSaveLatency = maxSaveLatency;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +66,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(storageMode, o.storageMode)
+                && maxSaveLatency == o.maxSaveLatency;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode, maxSaveLatency);
     }
 
     @Override
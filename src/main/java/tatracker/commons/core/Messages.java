@@ -9,6 +9,10 @@ public class Messages {
     public static final String MESSAGE_WELCOME = "Welcome to TA-Tracker!\n\n";
     public static final String MESSAGE_HELP = "Enter help to view the list of commands";
 
+    public static final String MESSAGE_LOADING_DATA = "Loading your data...";
+    public static final String MESSAGE_COMMAND_QUEUED = "Your data is still loading.\n"
+            + "This command will run once it has loaded: %1$s";
+
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format!\n%1$s";
     public static final String MESSAGE_INVALID_COMMAND = "Invalid command format!\n\n";
 
@@ -26,7 +30,7 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_STUDENT = "This student already exists in the given module and group";
 
     public static final String MESSAGE_INVALID_SESSION_DISPLAYED_INDEX = "There is no session at the given list index";
-    public static final String MESSAGE_DUPLICATE_SESSION = "This session has a time clash with an existing session";
+    public static final String MESSAGE_DUPLICATE_SESSION = "This session already exists in the TA-Tracker";
     public static final String MESSAGE_INVALID_SESSION_TIMES = "You cannot have a session start after it ends!";
 
     public static String getUnknownCommandWithHelpMessage() {
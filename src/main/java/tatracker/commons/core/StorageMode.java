@@ -0,0 +1,15 @@
+package tatracker.commons.core;
+
+/**
+ * The ways in which the TA-Tracker data can be kept on the hard disk.
+ */
+public enum StorageMode {
+    /** The whole TA-Tracker is rewritten as a single json file on every save. */
+    JSON,
+    /** Only the changes made since the last save are appended to a journal next to the json file. */
+    JOURNAL,
+    /** The whole TA-Tracker is rewritten as a compact binary snapshot, next to where the json file would be. */
+    BINARY,
+    /** Each module, the sessions and the done sessions are kept in separate json files, rewritten only on change. */
+    SHARDED
+}
@@ -1,10 +1,18 @@
 package tatracker.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,19 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream, so it never has to be held in memory all at once.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +98,79 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, replacing its previous content in a single step.
+     * If the write is interrupted, the file is left with either its old or its new content.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        replaceFile(writeToTempFile(file, content), file);
+    }
+
+    /**
+     * Writes given bytes to a new temporary file in the same directory as {@code file},
+     * and forces them onto the storage device.
+     *
+     * @return the path of the temporary file.
+     */
+    public static Path writeToTempFile(Path file, byte[] content) throws IOException {
+        return writeToTempFile(file, out -> out.write(content));
+    }
+
+    /**
+     * Streams the content from {@code contentWriter} through a buffer into a new temporary file
+     * in the same directory as {@code file}, and forces it onto the storage device.
+     *
+     * @return the path of the temporary file.
+     */
+    public static Path writeToTempFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), STREAM_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system allows it.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(source);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file, and forces the new content onto the storage device
+     * before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
     }
 
 }
@@ -2,7 +2,9 @@ package tatracker.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -30,6 +34,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -91,6 +97,42 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that streams the JSON tokens of the given file through a buffer,
+     * without first reading the whole file into memory.
+     * The caller is responsible for closing the parser.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath), STREAM_BUFFER_SIZE));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON tokens to the given stream,
+     * in the same layout as {@link #toJsonString(Object)}.
+     * Closing the generator flushes it, but leaves the stream open.
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Reads the JSON value at the current token of the given parser as an instance of a class.
+     * The parser is left at the last token of the value.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON value
+     */
+    public static <T> T fromJsonParser(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +152,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation,
+     * without any whitespace or line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package tatracker.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 
@@ -9,6 +11,7 @@ import tatracker.logic.commands.CommandResult;
 import tatracker.logic.commands.exceptions.CommandException;
 import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTrackerSnapshot;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
@@ -27,6 +30,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message when data could not be saved in the background.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns true if the saved data has been loaded, and commands can be executed.
+     */
+    boolean isDataLoaded();
+
+    /**
+     * Sets the handler that is run on the JavaFX application thread once the saved data has been loaded.
+     */
+    void setDataLoadedHandler(Runnable dataLoadedHandler);
+
+    /**
+     * Returns the warning about the saved data to show the user once it has been loaded, if there is one.
+     * There is a warning if the data file could not be read, and an empty ta-tracker was loaded instead.
+     */
+    Optional<String> getDataLoadWarning();
+
     /**
      * Returns the TaTracker.
      *
@@ -34,6 +58,13 @@ public interface Logic {
      */
     ReadOnlyTaTracker getTaTracker();
 
+    /**
+     * Returns the snapshot of the TaTracker published after the latest command.
+     *
+     * @see tatracker.model.Model#getTaTrackerSnapshot()
+     */
+    TaTrackerSnapshot getTaTrackerSnapshot();
+
     /**
      * Returns the user prefs' ta-tracker file path.
      */
@@ -1,7 +1,11 @@
 package tatracker.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +19,7 @@ import tatracker.logic.parser.TaTrackerParser;
 import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.Model;
 import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTrackerSnapshot;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
@@ -26,12 +31,17 @@ import tatracker.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String DATA_NOT_LOADED_MESSAGE = "Your data is still loading. Please try again shortly.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TaTrackerParser taTrackerParser;
 
+    private boolean isDataLoaded = true;
+    private Runnable dataLoadedHandler = () -> {};
+    private String dataLoadWarning = null;
+
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
@@ -42,12 +52,22 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        if (!isDataLoaded) {
+            // Saving now would overwrite the data file with the empty placeholder data.
+            throw new CommandException(DATA_NOT_LOADED_MESSAGE);
+        }
+
         CommandResult commandResult;
         Command command = taTrackerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // Any changes made by the command, even one that failed partway, are undone together
+            model.commitTaTracker();
+        }
 
         try {
-            storage.saveTaTracker(model.getTaTracker());
+            storage.requestSaveTaTracker(model.getTaTrackerSnapshot());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -55,11 +75,71 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public boolean isDataLoaded() {
+        return isDataLoaded;
+    }
+
+    @Override
+    public void setDataLoadedHandler(Runnable dataLoadedHandler) {
+        requireNonNull(dataLoadedHandler);
+        this.dataLoadedHandler = dataLoadedHandler;
+    }
+
+    /**
+     * Marks the saved data as still loading, so commands are refused until {@link #publishLoadedData} is called.
+     */
+    public void startLoadingData() {
+        isDataLoaded = false;
+    }
+
+    /**
+     * Replaces the placeholder data in the model with the {@code loadedData}, and runs the data loaded handler.
+     * This must be called on the same thread that executes commands, which is the JavaFX application thread.
+     */
+    public void publishLoadedData(ReadOnlyTaTracker loadedData) {
+        publishLoadedData(loadedData, Optional.empty());
+    }
+
+    /**
+     * Replaces the placeholder data in the model with the {@code loadedData}, and runs the data loaded handler.
+     * The {@code loadWarning}, if any, is shown to the user in place of the welcome message.
+     * This must be called on the same thread that executes commands, which is the JavaFX application thread.
+     */
+    public void publishLoadedData(ReadOnlyTaTracker loadedData, Optional<String> loadWarning) {
+        requireNonNull(loadedData);
+        requireNonNull(loadWarning);
+        dataLoadWarning = loadWarning.orElse(null);
+        model.setTaTracker(loadedData);
+        model.clearTaTrackerHistory(); // Undoing must not bring back the placeholder data
+        model.setDefaultStudentViewList();
+        model.commitTaTracker(); // Publishes a snapshot of the loaded data
+        isDataLoaded = true;
+        logger.info("Loaded data is now shown");
+        dataLoadedHandler.run();
+    }
+
+    @Override
+    public Optional<String> getDataLoadWarning() {
+        return Optional.ofNullable(dataLoadWarning);
+    }
+
     @Override
     public ReadOnlyTaTracker getTaTracker() {
         return model.getTaTracker();
     }
 
+    @Override
+    public TaTrackerSnapshot getTaTrackerSnapshot() {
+        return model.getTaTrackerSnapshot();
+    }
+
     @Override
     public Path getTaTrackerFilePath() {
         return model.getTaTrackerFilePath();
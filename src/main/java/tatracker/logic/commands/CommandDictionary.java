@@ -13,7 +13,9 @@ import tatracker.logic.commands.commons.ExitCommand;
 import tatracker.logic.commands.commons.GotoCommand;
 import tatracker.logic.commands.commons.HelpCommand;
 import tatracker.logic.commands.commons.ListCommand;
+import tatracker.logic.commands.commons.RedoCommand;
 import tatracker.logic.commands.commons.SetRateCommand;
+import tatracker.logic.commands.commons.UndoCommand;
 import tatracker.logic.commands.group.AddGroupCommand;
 import tatracker.logic.commands.group.DeleteGroupCommand;
 import tatracker.logic.commands.group.EditGroupCommand;
@@ -21,6 +23,7 @@ import tatracker.logic.commands.module.AddModuleCommand;
 import tatracker.logic.commands.module.DeleteModuleCommand;
 import tatracker.logic.commands.module.EditModuleCommand;
 import tatracker.logic.commands.session.AddSessionCommand;
+import tatracker.logic.commands.session.ClashSessionCommand;
 import tatracker.logic.commands.session.DeleteSessionCommand;
 import tatracker.logic.commands.session.DoneSessionCommand;
 import tatracker.logic.commands.session.EditSessionCommand;
@@ -63,6 +66,7 @@ public class CommandDictionary {
         DeleteSessionCommand.DETAILS,
         EditSessionCommand.DETAILS,
         DoneSessionCommand.DETAILS,
+        ClashSessionCommand.DETAILS,
 
         /* Session - Claims Filtering */
         FilterSessionCommand.DETAILS,
@@ -74,6 +78,8 @@ public class CommandDictionary {
 
         /* Storage Operations */
         ClearCommand.DETAILS,
+        UndoCommand.DETAILS,
+        RedoCommand.DETAILS,
 
         /* Navigation */
         GotoCommand.DETAILS,
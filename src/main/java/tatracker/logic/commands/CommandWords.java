@@ -29,6 +29,8 @@ public final class CommandWords {
 
     /* List of command words for special actions in TA-Tracker. */
     public static final String CLEAR = "clear";
+    public static final String UNDO = "undo";
+    public static final String REDO = "redo";
     public static final String GOTO = "goto";
     public static final String REPORT = "report";
     public static final String SET_RATE = "setrate";
@@ -38,4 +40,5 @@ public final class CommandWords {
     /* Others */
     public static final String LIST = "list";
     public static final String DONE_SESSION = "done";
+    public static final String CLASHES_SESSION = "clashes";
 }
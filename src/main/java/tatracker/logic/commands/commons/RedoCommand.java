@@ -0,0 +1,43 @@
+//@@author potatocombat
+
+package tatracker.logic.commands.commons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tatracker.logic.commands.Command;
+import tatracker.logic.commands.CommandDetails;
+import tatracker.logic.commands.CommandResult;
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.logic.commands.CommandWords;
+import tatracker.logic.commands.exceptions.CommandException;
+import tatracker.model.Model;
+
+/**
+ * Redoes the changes that were undone by the latest undo command.
+ */
+public class RedoCommand extends Command {
+
+    public static final CommandDetails DETAILS = new CommandDetails(
+            CommandWords.REDO,
+            "Redoes the changes that were last undone",
+            List.of(),
+            List.of()
+    );
+
+    public static final String MESSAGE_REDO_SUCCESS = "The latest undone changes have been redone";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no undone changes to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoTaTracker()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        model.redoTaTracker();
+        return new CommandResult(MESSAGE_REDO_SUCCESS, Action.NONE);
+    }
+}
@@ -0,0 +1,43 @@
+//@@author potatocombat
+
+package tatracker.logic.commands.commons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tatracker.logic.commands.Command;
+import tatracker.logic.commands.CommandDetails;
+import tatracker.logic.commands.CommandResult;
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.logic.commands.CommandWords;
+import tatracker.logic.commands.exceptions.CommandException;
+import tatracker.model.Model;
+
+/**
+ * Undoes the changes made by the latest command that changed the TA-Tracker.
+ */
+public class UndoCommand extends Command {
+
+    public static final CommandDetails DETAILS = new CommandDetails(
+            CommandWords.UNDO,
+            "Undoes the changes made by the latest command",
+            List.of(),
+            List.of()
+    );
+
+    public static final String MESSAGE_UNDO_SUCCESS = "The latest changes have been undone";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no changes to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoTaTracker()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        model.undoTaTracker();
+        return new CommandResult(MESSAGE_UNDO_SUCCESS, Action.NONE);
+    }
+}
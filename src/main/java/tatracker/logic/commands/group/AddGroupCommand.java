@@ -71,7 +71,7 @@ public class AddGroupCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_GROUP);
         }
 
-        actualModule.addGroup(toAdd);
+        model.addGroup(toAdd, actualModule);
 
         model.updateFilteredGroupList(actualModule.getIdentifier());
         model.updateFilteredStudentList(toAdd.getIdentifier(), actualModule.getIdentifier());
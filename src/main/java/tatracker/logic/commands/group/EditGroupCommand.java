@@ -81,12 +81,12 @@ public class EditGroupCommand extends Command {
         if (!newGroupCode.equals(group.getIdentifier()) && actualModule.hasGroup(new Group(newGroupCode))) {
             throw new CommandException(MESSAGE_EDIT_GROUP_FAILURE);
         }
-        Group editedGroup = actualModule.getGroup(group.getIdentifier());
-        editedGroup.setIdentifier(newGroupCode);
+        Group actualGroup = actualModule.getGroup(group.getIdentifier());
+        GroupType editedGroupType = newGroupType != null ? newGroupType : actualGroup.getGroupType();
 
-        if (newGroupType != null) {
-            editedGroup.setGroupType(newGroupType);
-        }
+        // The edited group shares the students of the actual group, which is kept unchanged so it can be restored
+        Group editedGroup = new Group(newGroupCode, editedGroupType, actualGroup.getUniqueStudentList());
+        model.setGroup(actualGroup, editedGroup, actualModule);
 
         model.updateFilteredGroupList(actualModule.getIdentifier());
 
@@ -57,7 +57,9 @@ public class EditModuleCommand extends Command {
             throw new CommandException(Module.CONSTRAINTS_MODULE_NAME);
         }
         Module actualModule = model.getModule(targetModule);
-        actualModule.setName(newName);
+        // The edited module shares the groups of the actual module, which is kept unchanged so it can be restored
+        Module editedModule = new Module(actualModule.getIdentifier(), newName, actualModule.getUniqueGroupList());
+        model.setModule(actualModule, editedModule);
 
         model.showAllModules();
         model.updateFilteredGroupList(actualModule.getIdentifier());
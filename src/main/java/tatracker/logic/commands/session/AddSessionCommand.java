@@ -2,6 +2,7 @@
 package tatracker.logic.commands.session;
 
 import static java.util.Objects.requireNonNull;
+import static tatracker.commons.core.Messages.MESSAGE_DUPLICATE_SESSION;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_MODULE_CODE;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_SESSION_TIMES;
 import static tatracker.logic.parser.Prefixes.DATE;
@@ -67,13 +68,15 @@ public class AddSessionCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_MODULE_CODE);
         }
 
-        // if (model.hasSession(toAdd)) {
-        //     throw new CommandException(MESSAGE_DUPLICATE_SESSION);
-        // }
+        if (model.hasSession(toAdd)) {
+            throw new CommandException(MESSAGE_DUPLICATE_SESSION);
+        }
 
         model.addSession(toAdd);
+
+        String clashWarning = ClashSessionCommand.getClashWarning(model.getClashingSessions(toAdd));
         return new CommandResult(
-                String.format(MESSAGE_ADD_SESSION_SUCCESS, toAdd.getMinimalDescription()),
+                String.format(MESSAGE_ADD_SESSION_SUCCESS, toAdd.getMinimalDescription()) + clashWarning,
                 Action.GOTO_SESSION);
     }
 
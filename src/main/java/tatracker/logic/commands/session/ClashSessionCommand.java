@@ -0,0 +1,77 @@
+//@@author potatocombat
+
+package tatracker.logic.commands.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tatracker.logic.commands.Command;
+import tatracker.logic.commands.CommandDetails;
+import tatracker.logic.commands.CommandResult;
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.logic.commands.CommandWords;
+import tatracker.model.Model;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionClash;
+
+/**
+ * Lists every pair of sessions in the TA-Tracker whose timings clash.
+ */
+public class ClashSessionCommand extends Command {
+
+    public static final CommandDetails DETAILS = new CommandDetails(
+            CommandWords.SESSION,
+            CommandWords.CLASHES_SESSION,
+            "Lists every pair of sessions with clashing timings",
+            List.of(),
+            List.of()
+    );
+
+    public static final String MESSAGE_NO_CLASHES = "There are no clashing sessions";
+    public static final String MESSAGE_CLASHES = "Found %d pair(s) of clashing sessions:%s";
+    public static final String MESSAGE_CLASH_WARNING = "\nWarning: this session clashes with %d other session(s):%s";
+
+    /** For describing a session on a single line. Example: "Tutorial (CS2103T) 20 May 2020, 05:30PM - 07:30PM" */
+    private static final String FORMAT_SESSION = "%s (%s) %s - %s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<SessionClash> clashes = model.getSessionClashes();
+        if (clashes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLASHES, Action.GOTO_SESSION);
+        }
+
+        StringBuilder clashList = new StringBuilder();
+        for (int i = 0; i < clashes.size(); i++) {
+            SessionClash clash = clashes.get(i);
+            clashList.append(String.format("\n%d. %s\n    clashes with %s", i + 1,
+                    describe(clash.getFirst()), describe(clash.getSecond())));
+        }
+
+        return new CommandResult(String.format(MESSAGE_CLASHES, clashes.size(), clashList), Action.GOTO_SESSION);
+    }
+
+    /**
+     * Returns a warning listing the sessions that a new or edited session clashes with,
+     * or an empty string if there are no such sessions.
+     */
+    static String getClashWarning(List<Session> clashingSessions) {
+        if (clashingSessions.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sessionList = new StringBuilder();
+        for (Session session : clashingSessions) {
+            sessionList.append("\n- ").append(describe(session));
+        }
+        return String.format(MESSAGE_CLASH_WARNING, clashingSessions.size(), sessionList);
+    }
+
+    private static String describe(Session session) {
+        return String.format(FORMAT_SESSION, session.getSessionType(), session.getModuleCode(),
+                session.getStartDateTimeDescription(), session.getEndDateTimeDescription());
+    }
+}
@@ -2,6 +2,7 @@
 package tatracker.logic.commands.session;
 
 import static java.util.Objects.requireNonNull;
+import static tatracker.commons.core.Messages.MESSAGE_DUPLICATE_SESSION;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_SESSION_DISPLAYED_INDEX;
 import static tatracker.logic.parser.Prefixes.INDEX;
 
@@ -61,7 +62,6 @@ public class DoneSessionCommand extends Command {
         }
 
         Session session = lastShownList.get(index.getZeroBased());
-        session.done();
 
         // @@author Chuayijing
         if (session.getRecurring() > 0) {
@@ -76,22 +76,44 @@ public class DoneSessionCommand extends Command {
             Session newSession = new Session(startTime, endTime, sessionType,
                     recurring, moduleCode, description);
 
+            // @@author potatocombat
+            if (model.hasSession(newSession)) {
+                throw new CommandException(MESSAGE_DUPLICATE_SESSION);
+            }
+
+            // @@author Chuayijing
             model.addSession(newSession);
             model.deleteSession(session);
             model.updateFilteredSessionList(Model.PREDICATE_SHOW_ALL_SESSIONS);
-            model.addDoneSession(session);
+            model.addDoneSession(toDoneSession(session));
             model.updateFilteredDoneSessionList(Model.PREDICATE_SHOW_ALL_SESSIONS, "");
-            return new CommandResult(getRepeatMessage(newSession), Action.DONE);
+
+            // @@author potatocombat
+            String clashWarning = ClashSessionCommand.getClashWarning(model.getClashingSessions(newSession));
+            return new CommandResult(getRepeatMessage(newSession) + clashWarning, Action.DONE);
         }
 
         model.deleteSession(session);
-        model.addDoneSession(session);
+        model.addDoneSession(toDoneSession(session));
         model.updateFilteredDoneSessionList(Model.PREDICATE_SHOW_ALL_SESSIONS, "");
 
         return new CommandResult(String.format(MESSAGE_DONE_SESSION_SUCCESS, session.getMinimalDescription()),
                 Action.DONE);
     }
 
+    // @@author potatocombat
+
+    /**
+     * Returns a copy of {@code session} that is marked as done.
+     * The session itself is left unchanged, so that it can be put back if marking it as done is undone.
+     */
+    private static Session toDoneSession(Session session) {
+        Session doneSession = new Session(session.getStartDateTime(), session.getEndDateTime(),
+                session.getSessionType(), session.getRecurring(), session.getModuleCode(), session.getDescription());
+        doneSession.done();
+        return doneSession;
+    }
+
     // @@author Eclmist
 
     @Override
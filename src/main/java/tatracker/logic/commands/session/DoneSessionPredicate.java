@@ -2,15 +2,15 @@
 
 package tatracker.logic.commands.session;
 
-import java.util.function.Predicate;
-
 import tatracker.commons.util.StringUtil;
+import tatracker.model.session.IndexedSessionPredicate;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionQuery;
 
 /**
  * Tests that a {@code ModuleCode} matches the keyword given.
  */
-public class DoneSessionPredicate implements Predicate<Session> {
+public class DoneSessionPredicate implements IndexedSessionPredicate {
 
     private final String moduleCode;
 
@@ -22,6 +22,13 @@ public class DoneSessionPredicate implements Predicate<Session> {
         return this.moduleCode;
     }
 
+    //@@author potatocombat
+    @Override
+    public SessionQuery getQuery() {
+        return new SessionQuery(null, moduleCode, null, true);
+    }
+
+    //@@author Chuayijing
     @Override
     public boolean test(Session session) {
         return StringUtil.containsWordIgnoreCase(moduleCode, session.getModuleCode());
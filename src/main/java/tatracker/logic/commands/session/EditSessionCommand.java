@@ -3,6 +3,7 @@
 package tatracker.logic.commands.session;
 
 import static java.util.Objects.requireNonNull;
+import static tatracker.commons.core.Messages.MESSAGE_DUPLICATE_SESSION;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_MODULE_CODE;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_SESSION_DISPLAYED_INDEX;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_SESSION_TIMES;
@@ -32,6 +33,7 @@ import tatracker.logic.commands.exceptions.CommandException;
 import tatracker.model.Model;
 import tatracker.model.session.Session;
 import tatracker.model.session.SessionType;
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
 
 
 /**
@@ -80,7 +82,12 @@ public class EditSessionCommand extends Command {
         }
 
         Session sessionToEdit = lastShownList.get(index.getZeroBased());
-        Session editedSession = createEditedSession(sessionToEdit, editSessionDescriptor);
+        Session editedSession;
+        try {
+            editedSession = createEditedSession(sessionToEdit, editSessionDescriptor);
+        } catch (SessionOutOfRangeException soore) {
+            throw new CommandException(Session.CONSTRAINTS_TIMING);
+        }
 
         if (!model.hasModule(editedSession.getModuleCode())) {
             throw new CommandException(MESSAGE_INVALID_MODULE_CODE);
@@ -90,11 +97,16 @@ public class EditSessionCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_SESSION_TIMES);
         }
 
+        if (!sessionToEdit.isSameSession(editedSession) && model.hasSession(editedSession)) {
+            throw new CommandException(MESSAGE_DUPLICATE_SESSION);
+        }
+
         model.setSession(sessionToEdit, editedSession);
         model.updateFilteredSessionList(Model.PREDICATE_SHOW_ALL_SESSIONS);
 
-        return new CommandResult(String.format(MESSAGE_EDITED_SESSION_SUCCESS, editedSession.getMinimalDescription()),
-                Action.GOTO_SESSION);
+        String clashWarning = ClashSessionCommand.getClashWarning(model.getClashingSessions(editedSession));
+        return new CommandResult(String.format(MESSAGE_EDITED_SESSION_SUCCESS, editedSession.getMinimalDescription())
+                + clashWarning, Action.GOTO_SESSION);
     }
 
     // @@author potatocombat
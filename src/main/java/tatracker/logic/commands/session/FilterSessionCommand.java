@@ -3,6 +3,7 @@ package tatracker.logic.commands.session;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.logic.parser.Prefixes.DATE;
+import static tatracker.logic.parser.Prefixes.MATCH;
 import static tatracker.logic.parser.Prefixes.MODULE;
 import static tatracker.logic.parser.Prefixes.SESSION_TYPE;
 
@@ -29,7 +30,7 @@ public class FilterSessionCommand extends Command {
             CommandWords.FILTER_MODEL,
             "Filters all the sessions inside TA-Tracker",
             List.of(),
-            List.of(MODULE, DATE, SESSION_TYPE),
+            List.of(MODULE, DATE, SESSION_TYPE, MATCH),
             MODULE, DATE, SESSION_TYPE
     );
 
@@ -72,6 +73,12 @@ public class FilterSessionCommand extends Command {
             returnMsg.append("\nType: ").append(sessionTypeFilter);
         }
 
+        //@@author potatocombat
+        if (predicate.isMatchAll()) {
+            returnMsg.append("\nMatching: all of the above");
+        }
+
+        //@@author Chuayijing
         model.setCurrSessionDateFilter(dateFilter);
         model.setCurrSessionModuleFilter(moduleFilter);
         model.setCurrSessionTypeFilter(sessionTypeFilter);
@@ -5,8 +5,10 @@ package tatracker.logic.commands.statistic;
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.core.Messages.MESSAGE_INVALID_MODULE_CODE;
 import static tatracker.logic.parser.Prefixes.MODULE_ID;
+import static tatracker.logic.parser.Prefixes.NUM_STUDENTS;
 
 import java.util.List;
+import java.util.Objects;
 
 import tatracker.logic.commands.Command;
 import tatracker.logic.commands.CommandDetails;
@@ -14,6 +16,8 @@ import tatracker.logic.commands.CommandResult;
 import tatracker.logic.commands.CommandWords;
 import tatracker.logic.commands.exceptions.CommandException;
 import tatracker.model.Model;
+import tatracker.model.statistic.Statistic;
+import tatracker.model.student.Student;
 
 /**
  * Format full help instructions for every command for display.
@@ -26,36 +30,82 @@ public class ShowStatisticCommand extends Command {
             CommandWords.REPORT,
             "Shows the statistics report of a particular module",
             List.of(MODULE_ID),
-            List.of(),
-            MODULE_ID
+            List.of(NUM_STUDENTS),
+            MODULE_ID, NUM_STUDENTS
     );
 
+    public static final String MESSAGE_LOWEST_RATED_STUDENTS = "\nLowest rated students:%s";
+
     // @@author Eclmist
 
     public static final String MESSAGE_OPENED_STATS = "Opened statistic window";
 
     private final String module;
 
+    //@@author potatocombat
+    private final int numStudents;
+
+    //@@author Eclmist
     public ShowStatisticCommand() {
         this(null);
     }
 
     public ShowStatisticCommand(String module) {
+        this(module, Statistic.DEFAULT_NUM_STUDENTS);
+    }
+
+    //@@author potatocombat
+    /**
+     * Creates a command that shows the statistics of the module with the given {@code module} code,
+     * or of every module if it is null, and lists the {@code numStudents} lowest rated students.
+     */
+    public ShowStatisticCommand(String module, int numStudents) {
         this.module = module;
+        this.numStudents = numStudents;
     }
 
+    //@@author Eclmist
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
         if (module == null) {
-            return new StatisticCommandResult(MESSAGE_OPENED_STATS, null);
+            List<Student> students = model.getTaTracker().getLowestRatedStudents(numStudents);
+            return new StatisticCommandResult(MESSAGE_OPENED_STATS + getStudentList(students), null);
         }
 
         if (!model.hasModule(module)) {
             throw new CommandException(MESSAGE_INVALID_MODULE_CODE);
         }
 
-        return new StatisticCommandResult(MESSAGE_OPENED_STATS, module);
+        List<Student> students = model.getTaTracker().getLowestRatedStudents(module, numStudents);
+        return new StatisticCommandResult(MESSAGE_OPENED_STATS + getStudentList(students), module);
+    }
+
+    //@@author potatocombat
+    /**
+     * Returns the lines listing the given {@code students} and their ratings,
+     * or an empty string if there are no students.
+     */
+    private static String getStudentList(List<Student> students) {
+        if (students.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            lines.append(String.format("\n%d. %s (%d)", i + 1, student.getName().fullName, student.getRating().value));
+        }
+        return String.format(MESSAGE_LOWEST_RATED_STUDENTS, lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowStatisticCommand // instanceof handles nulls
+                && Objects.equals(module, ((ShowStatisticCommand) other).module)
+                && numStudents == ((ShowStatisticCommand) other).numStudents);
     }
 }
@@ -17,7 +17,9 @@ import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.TaTracker;
 import tatracker.model.group.GroupType;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionPredicate;
 import tatracker.model.session.SessionType;
+import tatracker.model.statistic.Statistic;
 import tatracker.model.student.Email;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Name;
@@ -249,6 +251,21 @@ public class ParserUtil {
         return SortType.getSortType(trimmedType);
     }
 
+    /**
+     * Parses a {@code String match} into whether sessions must match all of the filters, instead of any of them.
+     *
+     * @throws ParseException if the given {@code match} is not "any" or "all".
+     */
+    public static boolean parseMatchAll(String match) throws ParseException {
+        requireNonNull(match);
+        String trimmedMatch = match.trim();
+
+        if (!SessionPredicate.isValidMatch(trimmedMatch)) {
+            throw new ParseException(SessionPredicate.CONSTRAINTS_MATCH);
+        }
+        return SessionPredicate.MATCH_ALL.equalsIgnoreCase(trimmedMatch);
+    }
+
     /**
      * Parses a {@code String rating} into a {@code Rating}
      */
@@ -292,6 +309,20 @@ public class ParserUtil {
         return Tab.getTab(trimmedType);
     }
 
+    /**
+     * Parses and returns the number of students to list in the statistics report.
+     *
+     * @throws ParseException if the number is not a positive integer
+     */
+    public static int parseNumStudents(String numStudents) throws ParseException {
+        requireNonNull(numStudents);
+        String trimmedNumStudents = numStudents.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedNumStudents)) {
+            throw new ParseException(Statistic.CONSTRAINTS_NUM_STUDENTS);
+        }
+        return Integer.parseInt(trimmedNumStudents);
+    }
+
     /**
      * Parses and returns the pay rate specified by the user in the setrate command
      *
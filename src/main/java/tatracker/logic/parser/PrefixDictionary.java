@@ -22,7 +22,9 @@ import tatracker.model.group.Group;
 import tatracker.model.group.GroupType;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionPredicate;
 import tatracker.model.session.SessionType;
+import tatracker.model.statistic.Statistic;
 import tatracker.model.student.Email;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Name;
@@ -140,6 +142,14 @@ public class PrefixDictionary {
             new PrefixDetails(Prefixes.SORT_TYPE,
                     SortType.MESSAGE_CONSTRAINTS, SortType::isValidSortType,
                     "alphabetically"
+            ),
+            new PrefixDetails(Prefixes.NUM_STUDENTS,
+                    Statistic.CONSTRAINTS_NUM_STUDENTS, StringUtil::isNonZeroUnsignedInteger,
+                    "10"
+            ),
+            new PrefixDetails(Prefixes.MATCH,
+                    SessionPredicate.CONSTRAINTS_MATCH, SessionPredicate::isValidMatch,
+                    "all"
             )
     );
 
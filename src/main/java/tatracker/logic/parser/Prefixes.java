@@ -45,4 +45,6 @@ public class Prefixes {
 
     /* Action definitions */
     public static final Prefix SORT_TYPE = new Prefix("t/", "SORT_TYPE");
+    public static final Prefix NUM_STUDENTS = new Prefix("k/", "NUM_STUDENTS");
+    public static final Prefix MATCH = new Prefix("match/", "MATCH");
 }
@@ -13,6 +13,8 @@ import tatracker.logic.commands.commons.ClearCommand;
 import tatracker.logic.commands.commons.ExitCommand;
 import tatracker.logic.commands.commons.HelpCommand;
 import tatracker.logic.commands.commons.ListCommand;
+import tatracker.logic.commands.commons.RedoCommand;
+import tatracker.logic.commands.commons.UndoCommand;
 import tatracker.logic.parser.commons.GotoCommandParser;
 import tatracker.logic.parser.commons.SetRateCommandParser;
 import tatracker.logic.parser.exceptions.ParseException;
@@ -89,6 +91,13 @@ public class TaTrackerParser {
         case CommandWords.CLEAR:
             return new ClearCommand();
 
+        //@@author potatocombat
+        case CommandWords.UNDO:
+            return new UndoCommand();
+
+        case CommandWords.REDO:
+            return new RedoCommand();
+
         //@@author fatin99
         /* Navigation */
         case CommandWords.GOTO:
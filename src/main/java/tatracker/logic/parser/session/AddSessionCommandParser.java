@@ -23,6 +23,7 @@ import tatracker.logic.parser.ParserUtil;
 import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.session.Session;
 import tatracker.model.session.SessionType;
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
 
 /**
  * Parses input arguments and creates a new AddSessionCommand object
@@ -84,8 +85,11 @@ public class AddSessionCommandParser implements Parser<AddSessionCommand> {
             notes = argMultimap.getValue(NOTES).map(String::trim).get();
         }
 
-        Session sessionToAdd = new Session(startDateTime, endDateTime, sessionType, recurringWeeks, moduleCode, notes);
-
-        return new AddSessionCommand(sessionToAdd);
+        try {
+            return new AddSessionCommand(
+                    new Session(startDateTime, endDateTime, sessionType, recurringWeeks, moduleCode, notes));
+        } catch (SessionOutOfRangeException soore) {
+            throw new ParseException(Session.CONSTRAINTS_TIMING);
+        }
     }
 }
@@ -2,6 +2,7 @@
 package tatracker.logic.parser.session;
 
 import static tatracker.logic.parser.Prefixes.DATE;
+import static tatracker.logic.parser.Prefixes.MATCH;
 import static tatracker.logic.parser.Prefixes.MODULE;
 import static tatracker.logic.parser.Prefixes.SESSION_TYPE;
 
@@ -29,7 +30,7 @@ public class FilterSessionCommandParser implements Parser<FilterSessionCommand>
     public FilterSessionCommand parse(String args) throws ParseException {
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, DATE,
-                MODULE, SESSION_TYPE);
+                MODULE, SESSION_TYPE, MATCH);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(Messages.getInvalidCommandMessage(FilterSessionCommand.DETAILS.getUsage()));
@@ -55,6 +56,10 @@ public class FilterSessionCommandParser implements Parser<FilterSessionCommand>
             predicate.setSessionType(ParserUtil.parseSessionType(argMultimap.getValue(SESSION_TYPE).get()));
         }
 
+        if (argMultimap.getValue(MATCH).isPresent()) {
+            predicate.setMatchAll(ParserUtil.parseMatchAll(argMultimap.getValue(MATCH).get()));
+        }
+
         if (!predicate.isAnyFieldEdited()) {
             throw new ParseException(Messages.getInvalidCommandMessage(FilterSessionCommand.DETAILS.getUsage()));
         }
@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 import tatracker.commons.core.Messages;
 import tatracker.logic.commands.Command;
 import tatracker.logic.commands.CommandWords;
+import tatracker.logic.commands.session.ClashSessionCommand;
 import tatracker.logic.parser.exceptions.ParseException;
 
 /**
@@ -53,6 +54,12 @@ public class SessionCommandParser {
         case CommandWords.DONE_SESSION:
             return new DoneSessionCommandParser().parse(arguments);
 
+        //@@author potatocombat
+        case CommandWords.CLASHES_SESSION:
+            return new ClashSessionCommand();
+
+        //@@author Eclmist
+
         default:
             throw new ParseException(Messages.getUnknownCommandWithHelpMessage());
         }
@@ -2,8 +2,15 @@
 
 package tatracker.logic.parser.statistic;
 
+import static tatracker.logic.parser.Prefixes.NUM_STUDENTS;
+
 import tatracker.logic.commands.statistic.ShowStatisticCommand;
+import tatracker.logic.parser.ArgumentMultimap;
+import tatracker.logic.parser.ArgumentTokenizer;
 import tatracker.logic.parser.Parser;
+import tatracker.logic.parser.ParserUtil;
+import tatracker.logic.parser.exceptions.ParseException;
+import tatracker.model.statistic.Statistic;
 
 /**
  * Parses input arguments and creates a new ShowStatisticCommand object
@@ -15,13 +22,23 @@ public class ShowStatisticCommandParser implements Parser<ShowStatisticCommand>
      *
      * @param args The input arguments
      * @return a ShowStatisticCommand object
+     * @throws ParseException if the number of students is not a positive integer
      */
-    public ShowStatisticCommand parse(String args) {
-        String trimmedArgs = args.trim();
+    public ShowStatisticCommand parse(String args) throws ParseException {
+        //@@author potatocombat
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, NUM_STUDENTS);
+
+        int numStudents = Statistic.DEFAULT_NUM_STUDENTS;
+        if (argMultimap.getValue(NUM_STUDENTS).isPresent()) {
+            numStudents = ParserUtil.parseNumStudents(argMultimap.getValue(NUM_STUDENTS).get());
+        }
+
+        //@@author Eclmist
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
-            return new ShowStatisticCommand();
+            return new ShowStatisticCommand(null, numStudents);
         }
 
-        return new ShowStatisticCommand(trimmedArgs);
+        return new ShowStatisticCommand(trimmedArgs, numStudents);
     }
 }
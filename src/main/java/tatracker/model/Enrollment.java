@@ -0,0 +1,65 @@
+package tatracker.model;
+
+import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+
+/**
+ * Represents the module group that a student is enrolled in.
+ * Guarantees: immutable; details are present and not null.
+ * <p>
+ * The module and group are referred to directly. Editing a module or group replaces it with an edited copy,
+ * so {@code TaTracker} then withdraws the students of the replaced module or group from the registry
+ * and enrolls them again in the edited copy, and an enrollment never refers to a module or group that was replaced.
+ */
+public class Enrollment {
+
+    private final Module module;
+    private final Group group;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Enrollment(Module module, Group group) {
+        requireAllNonNull(module, group);
+        this.module = module;
+        this.group = group;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public String getModuleCode() {
+        return module.getIdentifier();
+    }
+
+    public String getGroupCode() {
+        return group.getIdentifier();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Enrollment // instanceof handles nulls
+                && module.equals(((Enrollment) other).module)
+                && group.equals(((Enrollment) other).group));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(module, group);
+    }
+
+    @Override
+    public String toString() {
+        return getModuleCode() + " " + getGroupCode();
+    }
+}
@@ -1,6 +1,7 @@
 package tatracker.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import tatracker.commons.core.GuiSettings;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionClash;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 
@@ -38,6 +40,45 @@ public interface Model {
      */
     void setTaTracker(ReadOnlyTaTracker taTracker);
 
+    /**
+     * Returns the snapshot of the TaTracker that was published by the latest commit.
+     * Unlike {@link #getTaTracker()}, it can be read from any thread, and does not change as the TaTracker does.
+     */
+    TaTrackerSnapshot getTaTrackerSnapshot();
+
+    // ======== History Methods ================================================
+
+    /**
+     * Saves the changes made to the TaTracker since the last commit as a version that can be undone,
+     * and publishes a snapshot of it.
+     */
+    void commitTaTracker();
+
+    /**
+     * Returns true if there is a version of the TaTracker that can be undone.
+     */
+    boolean canUndoTaTracker();
+
+    /**
+     * Returns true if there is an undone version of the TaTracker that can be redone.
+     */
+    boolean canRedoTaTracker();
+
+    /**
+     * Restores the TaTracker to the version before the latest version.
+     */
+    void undoTaTracker();
+
+    /**
+     * Restores the TaTracker to the latest version that was undone.
+     */
+    void redoTaTracker();
+
+    /**
+     * Forgets every version of the TaTracker, so that its current data cannot be undone.
+     */
+    void clearTaTrackerHistory();
+
     // ======== User Prefs Methods =============================================
 
     /**
@@ -165,6 +206,16 @@ public interface Model {
      */
     void setSession(Session target, Session editedSession);
 
+    /**
+     * Returns the sessions in the TaTracker, other than {@code session} itself, whose timings clash with it.
+     */
+    List<Session> getClashingSessions(Session session);
+
+    /**
+     * Returns every pair of sessions in the TaTracker whose timings clash.
+     */
+    List<SessionClash> getSessionClashes();
+
     /** Returns an unmodifiable view of the filtered session list */
     ObservableList<Session> getFilteredSessionList();
 
@@ -5,6 +5,7 @@ import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,6 +17,7 @@ import tatracker.commons.core.LogsCenter;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionClash;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 
@@ -36,11 +38,16 @@ public class ModelManager implements Model {
 
     //@@author Chuayijing
 
-    private final FilteredList<Session> filteredSessions;
+    private final ObservableList<Session> filteredSessions;
 
     //@@author fatin99
 
-    private final FilteredList<Session> filteredDoneSessions;
+    private final ObservableList<Session> filteredDoneSessions;
+
+    //@@author potatocombat
+
+    /** Published for other threads to read, so it must only be replaced and never modified. */
+    private volatile TaTrackerSnapshot taTrackerSnapshot;
 
     //@@author
 
@@ -55,10 +62,11 @@ public class ModelManager implements Model {
 
         this.taTracker = new TaTracker(taTracker);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredSessions = new FilteredList<>(this.taTracker.getSessionList());
-        filteredDoneSessions = new FilteredList<>(this.taTracker.getDoneSessionList());
+        filteredSessions = this.taTracker.getFilteredSessionList();
+        filteredDoneSessions = this.taTracker.getFilteredDoneSessionList();
         filteredModules = new FilteredList<>(this.taTracker.getModuleList());
         this.setDefaultStudentViewList();
+        taTrackerSnapshot = this.taTracker.getSnapshot();
     }
 
     public ModelManager() {
@@ -77,6 +85,78 @@ public class ModelManager implements Model {
         this.taTracker.resetData(taTracker);
     }
 
+    //@@author potatocombat
+
+    @Override
+    public TaTrackerSnapshot getTaTrackerSnapshot() {
+        return taTrackerSnapshot;
+    }
+
+    // ======== History ========================================================
+
+    //@@author potatocombat
+
+    @Override
+    public void commitTaTracker() {
+        taTracker.commit();
+        taTrackerSnapshot = taTracker.getSnapshot();
+    }
+
+    @Override
+    public boolean canUndoTaTracker() {
+        return taTracker.canUndo();
+    }
+
+    @Override
+    public boolean canRedoTaTracker() {
+        return taTracker.canRedo();
+    }
+
+    @Override
+    public void undoTaTracker() {
+        logger.info("Undoing the latest changes");
+        taTracker.undo();
+        refreshStudentView();
+    }
+
+    @Override
+    public void redoTaTracker() {
+        logger.info("Redoing the latest undone changes");
+        taTracker.redo();
+        refreshStudentView();
+    }
+
+    @Override
+    public void clearTaTrackerHistory() {
+        taTracker.clearHistory();
+    }
+
+    /**
+     * Shows the groups and students of the module and group that were shown before the data was restored,
+     * or the default student view if they no longer exist.
+     */
+    private void refreshStudentView() {
+        Module shownModule = TaTracker.getCurrentlyShownModule();
+        if (shownModule == null || !hasModule(shownModule.getIdentifier())) {
+            setDefaultStudentViewList();
+            return;
+        }
+
+        String moduleCode = shownModule.getIdentifier();
+        updateFilteredGroupList(moduleCode);
+
+        Group shownGroup = TaTracker.getCurrentlyShownGroup();
+        if (shownGroup != null && hasGroup(shownGroup.getIdentifier(), moduleCode)) {
+            updateFilteredStudentList(shownGroup.getIdentifier(), moduleCode);
+        } else if (getFilteredGroupList().isEmpty()) {
+            setFilteredStudentList();
+        } else {
+            setFilteredStudentList(moduleCode, FIRST_GROUP_INDEX);
+        }
+    }
+
+    //@@author
+
     // ======== UserPrefs ======================================================
 
     @Override
@@ -249,6 +329,19 @@ public class ModelManager implements Model {
         taTracker.setSession(target, editedSession);
     }
 
+    //@@author potatocombat
+    @Override
+    public List<Session> getClashingSessions(Session session) {
+        requireNonNull(session);
+        return taTracker.getClashingSessions(session);
+    }
+
+    //@@author potatocombat
+    @Override
+    public List<SessionClash> getSessionClashes() {
+        return taTracker.getSessionClashes();
+    }
+
     //@@author Chuayijing
     @Override
     public ObservableList<Session> getFilteredSessionList() {
@@ -259,7 +352,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredSessionList(Predicate<Session> predicate) {
         requireNonNull(predicate);
-        filteredSessions.setPredicate(predicate);
+        taTracker.setSessionFilter(predicate);
     }
 
     // ======== Done Session Methods =================================================
@@ -290,7 +383,7 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
         taTracker.setCurrentlyShownModuleClaim(moduleCode);
         logger.info("Done sessions are filtered by " + moduleCode);
-        filteredDoneSessions.setPredicate(predicate);
+        taTracker.setDoneSessionFilter(predicate);
     }
 
     //@@author fatin99
@@ -1,10 +1,14 @@
 package tatracker.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 
 /**
@@ -48,11 +52,52 @@ public interface ReadOnlyTaTracker {
      */
     ObservableList<Student> getCompleteStudentList();
 
+    /**
+     * Returns the module groups that the student with the given matric number is enrolled in.
+     * The list is empty if there is no such student.
+     */
+    List<Enrollment> getEnrollments(Matric matric);
+
     /**
      * Returns the number of hours spent teaching.
      */
     long getTotalHours();
 
+    /**
+     * Returns the number of whole hours spent on done sessions of the given {@code type},
+     * from their exact total duration.
+     */
+    long getDoneSessionHours(SessionType type);
+
+    /**
+     * Returns the number of whole hours spent on done sessions of the given {@code type}
+     * in the module with the given {@code moduleCode}, from their exact total duration.
+     */
+    long getDoneSessionHours(String moduleCode, SessionType type);
+
+    /**
+     * Returns the number of students with the given {@code rating}, counting each student once.
+     */
+    int getNumStudentsWithRating(int rating);
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings, from the lowest rating up,
+     * counting each student once.
+     */
+    List<Student> getLowestRatedStudents(int k);
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings in the module with the given {@code moduleCode},
+     * from the lowest rating up, counting each student once.
+     */
+    List<Student> getLowestRatedStudents(String moduleCode, int k);
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings in the group with the given {@code groupCode}
+     * of the module with the given {@code moduleCode}, from the lowest rating up.
+     */
+    List<Student> getLowestRatedStudents(String moduleCode, String groupCode, int k);
+
     /**
      * Returns the rate per hour of teaching.
      */
@@ -62,4 +107,20 @@ public interface ReadOnlyTaTracker {
      * Returns the total amount earned by teaching.
      */
     long getTotalEarnings();
+
+    /**
+     * Returns the number of times the saved data in {@code section} has been modified.
+     */
+    long getModificationCount(TaTrackerSection section);
+
+    /**
+     * Returns the number of times any of the saved data has been modified.
+     * Changes to what is currently shown or filtered are not counted.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns an immutable snapshot of the ta-tracker as it is now, which can be read from any thread.
+     */
+    TaTrackerSnapshot getSnapshot();
 }
@@ -0,0 +1,103 @@
+//@@author potatocombat
+
+package tatracker.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tatracker.model.student.Matric;
+import tatracker.model.student.Rating;
+import tatracker.model.student.Student;
+
+/**
+ * The students of a {@code StudentRegistry}, bucketed by rating.
+ * <p>
+ * The buckets are updated as students are listed and unlisted, so counting the students with a rating
+ * takes constant time, and finding the {@code k} lowest rated students takes O(k) time.
+ * Students with the same rating are kept in the order that they were listed in.
+ */
+class StudentRatings {
+
+    private final List<Map<Matric, Student>> studentsByRating = new ArrayList<>(Rating.RANGE);
+
+    StudentRatings() {
+        for (int i = 0; i < Rating.RANGE; i++) {
+            studentsByRating.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code student} to the bucket of its rating.
+     * If a student with the same matric number is already in that bucket, it is replaced in place.
+     */
+    void add(Student student) {
+        getBucket(student.getRating().value).put(student.getMatric(), student);
+    }
+
+    /**
+     * Removes {@code student} from the bucket of its rating.
+     */
+    void remove(Student student) {
+        getBucket(student.getRating().value).remove(student.getMatric());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent}, keeping its place if its rating has not changed.
+     */
+    void replace(Student target, Student editedStudent) {
+        if (target.getRating().equals(editedStudent.getRating())
+                && target.getMatric().equals(editedStudent.getMatric())) {
+            add(editedStudent);
+            return;
+        }
+        remove(target);
+        add(editedStudent);
+    }
+
+    /**
+     * Removes every student.
+     */
+    void clear() {
+        studentsByRating.forEach(Map::clear);
+    }
+
+    /**
+     * Returns the number of students with the given {@code rating}.
+     */
+    int count(int rating) {
+        return getBucket(rating).size();
+    }
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings, from the lowest rating up.
+     */
+    List<Student> getLowestRated(int k) {
+        List<Student> students = new ArrayList<>(Math.min(k, size()));
+        for (Map<Matric, Student> bucket : studentsByRating) {
+            for (Student student : bucket.values()) {
+                if (students.size() == k) {
+                    return students;
+                }
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the number of students in every bucket.
+     */
+    private int size() {
+        int size = 0;
+        for (Map<Matric, Student> bucket : studentsByRating) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    private Map<Matric, Student> getBucket(int rating) {
+        return studentsByRating.get(rating - Rating.MIN_RATING);
+    }
+}
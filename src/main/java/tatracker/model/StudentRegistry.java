@@ -0,0 +1,247 @@
+package tatracker.model;
+
+import static java.util.Objects.requireNonNull;
+import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.student.Matric;
+import tatracker.model.student.Student;
+import tatracker.model.student.UniqueStudentList;
+
+/**
+ * Every student enrolled in the module groups of a ta-tracker, listed once per matric number,
+ * along with the module groups that each student is enrolled in.
+ * <p>
+ * The registry is updated by {@code TaTracker} whenever students, groups or modules are added, edited or removed,
+ * so it never has to be rebuilt by walking every module group.
+ * A student enrolled in several groups is listed with the details from the group where they were last
+ * added or edited.
+ * The listed students are also bucketed by rating in {@code StudentRatings}, for the statistics report.
+ */
+public class StudentRegistry {
+
+    private final UniqueStudentList students = new UniqueStudentList();
+    private final Map<Matric, List<Enrollment>> enrollments = new HashMap<>();
+
+    /** The students in {@code students}, by rating. Must be updated on every change to it. */
+    private final StudentRatings ratings = new StudentRatings();
+
+    /**
+     * Returns an unmodifiable live view of every enrolled student.
+     */
+    public ObservableList<Student> asUnmodifiableObservableList() {
+        return students.asUnmodifiableObservableList();
+    }
+
+    public int size() {
+        return students.size();
+    }
+
+    /**
+     * Returns true if a student with the given matric number is enrolled in any module group.
+     */
+    public boolean contains(Matric matric) {
+        requireNonNull(matric);
+        return students.contains(matric);
+    }
+
+    /**
+     * Returns the enrolled student with the given matric number, or null if there is no such student.
+     */
+    public Student get(Matric matric) {
+        requireNonNull(matric);
+        return students.get(matric);
+    }
+
+    /**
+     * Returns the number of enrolled students with the given {@code rating}.
+     */
+    public int getNumStudentsWithRating(int rating) {
+        return ratings.count(rating);
+    }
+
+    /**
+     * Returns up to {@code k} enrolled students with the lowest ratings, from the lowest rating up.
+     */
+    public List<Student> getLowestRatedStudents(int k) {
+        return ratings.getLowestRated(k);
+    }
+
+    /**
+     * Returns the module groups that the student with the given matric number is enrolled in,
+     * in the order they were enrolled, or an empty list if there is no such student.
+     */
+    public List<Enrollment> getEnrollments(Matric matric) {
+        requireNonNull(matric);
+        List<Enrollment> studentEnrollments = enrollments.get(matric);
+        return studentEnrollments == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(studentEnrollments);
+    }
+
+    /**
+     * Enrolls the students in every group of {@code module}.
+     */
+    void enrollModule(Module module) {
+        requireNonNull(module);
+        for (Group group : module.getGroupList()) {
+            enrollGroup(module, group);
+        }
+    }
+
+    /**
+     * Withdraws the students in every group of {@code module}.
+     */
+    void withdrawModule(Module module) {
+        requireNonNull(module);
+        Set<Matric> unenrolled = new HashSet<>();
+        for (Group group : module.getGroupList()) {
+            removeEnrollments(group, unenrolled);
+        }
+        removeStudents(unenrolled);
+    }
+
+    /**
+     * Enrolls the students in {@code group}, which belongs to {@code module}.
+     */
+    void enrollGroup(Module module, Group group) {
+        requireAllNonNull(module, group);
+        for (Student student : group.getStudentList()) {
+            enroll(student, module, group);
+        }
+    }
+
+    /**
+     * Withdraws the students in {@code group}.
+     */
+    void withdrawGroup(Group group) {
+        requireNonNull(group);
+        Set<Matric> unenrolled = new HashSet<>();
+        removeEnrollments(group, unenrolled);
+        removeStudents(unenrolled);
+    }
+
+    /**
+     * Removes the enrollments of the students in {@code group},
+     * and adds the matric numbers of the students who are no longer enrolled in any group to {@code unenrolled}.
+     */
+    private void removeEnrollments(Group group, Set<Matric> unenrolled) {
+        for (Student student : group.getStudentList()) {
+            if (removeEnrollment(student.getMatric(), group)) {
+                unenrolled.add(student.getMatric());
+            }
+        }
+    }
+
+    /**
+     * Stops listing the students with the given matric numbers.
+     * They are removed together, as removing students one at a time from a large list takes quadratic time.
+     */
+    private void removeStudents(Set<Matric> matrics) {
+        if (matrics.isEmpty()) {
+            return;
+        }
+        matrics.forEach(matric -> ratings.remove(students.get(matric)));
+        students.removeAll(matrics);
+    }
+
+    /**
+     * Records that {@code student} has been added to {@code group}, which belongs to {@code module}.
+     */
+    void enroll(Student student, Module module, Group group) {
+        requireAllNonNull(student, module, group);
+
+        Matric matric = student.getMatric();
+        enrollments.computeIfAbsent(matric, unused -> new ArrayList<>()).add(new Enrollment(module, group));
+
+        Student listed = students.get(matric);
+        if (listed == null) {
+            students.add(student);
+            ratings.add(student);
+        } else if (!listed.equals(student)) {
+            setListedStudent(listed, student);
+        }
+    }
+
+    /**
+     * Records that the student with the given matric number has been removed from {@code group}.
+     */
+    void withdraw(Matric matric, Group group) {
+        requireAllNonNull(matric, group);
+        if (removeEnrollment(matric, group)) {
+            Student listed = students.get(matric);
+            students.remove(listed);
+            ratings.remove(listed);
+        }
+    }
+
+    /**
+     * Removes the enrollment of the student with the given matric number in {@code group}.
+     * The student is then listed with the details from their latest remaining enrollment.
+     *
+     * @return true if the student is no longer enrolled in any group, and should no longer be listed.
+     */
+    private boolean removeEnrollment(Matric matric, Group group) {
+        List<Enrollment> studentEnrollments = enrollments.get(matric);
+        if (studentEnrollments == null || !studentEnrollments.removeIf(enrollment -> enrollment.getGroup() == group)) {
+            return false;
+        }
+
+        if (studentEnrollments.isEmpty()) {
+            enrollments.remove(matric);
+            return true;
+        }
+
+        Student listed = students.get(matric);
+        Group latestGroup = studentEnrollments.get(studentEnrollments.size() - 1).getGroup();
+        Student latest = latestGroup.getStudent(matric);
+        if (latest != null && !latest.equals(listed)) {
+            setListedStudent(listed, latest);
+        }
+        return false;
+    }
+
+    /**
+     * Records that {@code target} in {@code group}, which belongs to {@code module},
+     * has been replaced with {@code editedStudent}.
+     */
+    void replace(Student target, Student editedStudent, Module module, Group group) {
+        requireAllNonNull(target, editedStudent, module, group);
+
+        if (!target.isSameStudent(editedStudent)) {
+            withdraw(target.getMatric(), group);
+            enroll(editedStudent, module, group);
+            return;
+        }
+
+        Student listed = students.get(target.getMatric());
+        if (listed != null && !listed.equals(editedStudent)) {
+            setListedStudent(listed, editedStudent);
+        }
+    }
+
+    private void setListedStudent(Student listed, Student student) {
+        students.setStudent(listed, student);
+        ratings.replace(listed, student);
+    }
+
+    /**
+     * Removes every student and enrollment.
+     */
+    void clear() {
+        students.setStudents(Collections.emptyList());
+        enrollments.clear();
+        ratings.clear();
+    }
+}
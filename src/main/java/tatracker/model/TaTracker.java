@@ -3,8 +3,12 @@ package tatracker.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,11 +21,15 @@ import tatracker.model.module.Module;
 import tatracker.model.module.UniqueModuleList;
 import tatracker.model.module.exception.ModuleNotFoundException;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionClash;
+import tatracker.model.session.SessionHours;
+import tatracker.model.session.SessionType;
 import tatracker.model.session.UniqueDoneSessionList;
 import tatracker.model.session.UniqueSessionList;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 import tatracker.model.student.UniqueStudentList;
+import tatracker.model.util.RankingUtil;
 
 
 /**
@@ -37,6 +45,8 @@ public class TaTracker implements ReadOnlyTaTracker {
 
     private static final int DEFAULT_RATE = 40;
 
+    private static final Comparator<Student> BY_RATING = Comparator.comparing(Student::getRating);
+
     //@@author fatin99
 
     private static String currSessionDateFilter = "";
@@ -71,6 +81,22 @@ public class TaTracker implements ReadOnlyTaTracker {
     private final UniqueGroupList currentlyShownGroups;
     private final UniqueStudentList currentlyShownStudents;
 
+    //@@author potatocombat
+
+    private final StudentRegistry studentRegistry;
+
+    private final long[] modificationCounts = new long[TaTrackerSection.values().length];
+
+    private final TaTrackerHistory history = new TaTrackerHistory();
+
+    /** The copies of the modules that are in the latest snapshot, which are reused until the modules change. */
+    private final Map<Module, Module> moduleCopies = new IdentityHashMap<>();
+
+    private TaTrackerSnapshot latestSnapshot = null;
+
+    /** Increases every time the currently shown groups or students change, so snapshots can tell. */
+    private long shownListsVersion = 0;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     //@@author
@@ -81,6 +107,7 @@ public class TaTracker implements ReadOnlyTaTracker {
         modules = new UniqueModuleList();
         currentlyShownGroups = new UniqueGroupList();
         currentlyShownStudents = new UniqueStudentList();
+        studentRegistry = new StudentRegistry();
 
         rate = DEFAULT_RATE;
     }
@@ -91,6 +118,7 @@ public class TaTracker implements ReadOnlyTaTracker {
     public TaTracker(ReadOnlyTaTracker toBeCopied) {
         this();
         resetData(toBeCopied);
+        history.clear(); // The history starts from the copied data
     }
 
     /**
@@ -104,8 +132,7 @@ public class TaTracker implements ReadOnlyTaTracker {
         setModules(newData.getModuleList());
         setCurrentlyShownGroups(newData.getCurrentlyShownGroupList());
         setCurrentlyShownStudents(newData.getCurrentlyShownStudentList());
-
-        this.rate = newData.getRate();
+        setRate(newData.getRate());
     }
 
 
@@ -231,6 +258,8 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void addSession(Session s) {
         sessions.add(s);
+        markModified(TaTrackerSection.SESSIONS);
+        history.record(() -> removeSession(s), () -> addSession(s));
     }
 
     //@@author Chuayijing
@@ -241,6 +270,8 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void removeSession(Session session) {
         sessions.remove(session);
+        markModified(TaTrackerSection.SESSIONS);
+        history.record(() -> addSession(session), () -> removeSession(session));
     }
 
     //@@author Chuayijing
@@ -254,6 +285,24 @@ public class TaTracker implements ReadOnlyTaTracker {
         requireNonNull(editedSession);
 
         sessions.setSession(target, editedSession);
+        markModified(TaTrackerSection.SESSIONS);
+        history.record(() -> setSession(editedSession, target), () -> setSession(target, editedSession));
+    }
+
+    //@@author potatocombat
+    /**
+     * Returns the sessions in the ta-tracker, other than {@code session} itself, whose timings clash with it.
+     */
+    public List<Session> getClashingSessions(Session session) {
+        return sessions.getClashingSessions(session);
+    }
+
+    //@@author potatocombat
+    /**
+     * Returns every pair of sessions in the ta-tracker whose timings clash.
+     */
+    public List<SessionClash> getSessionClashes() {
+        return sessions.getClashes();
     }
 
     //@@author Chuayijing
@@ -262,7 +311,12 @@ public class TaTracker implements ReadOnlyTaTracker {
      * {@code sessions} must not contain duplicate sessions.
      */
     public void setSessions(List<Session> sessions) {
-        this.sessions.setSessions(sessions);
+        List<Session> replacedSessions = new ArrayList<>(this.sessions.asUnmodifiableObservableList());
+        List<Session> newSessions = new ArrayList<>(sessions);
+
+        this.sessions.setSessions(newSessions);
+        markModified(TaTrackerSection.SESSIONS);
+        history.record(() -> setSessions(replacedSessions), () -> setSessions(newSessions));
     }
 
     //@@author Chuayijing
@@ -271,6 +325,22 @@ public class TaTracker implements ReadOnlyTaTracker {
         return sessions.asUnmodifiableObservableList();
     }
 
+    //@@author potatocombat
+    /**
+     * Returns the sessions that match the current session filter, in chronological order.
+     * The list is updated as sessions are added, edited and removed.
+     */
+    public ObservableList<Session> getFilteredSessionList() {
+        return sessions.asUnmodifiableFilteredList();
+    }
+
+    /**
+     * Shows only the sessions that match {@code predicate} in the filtered session list.
+     */
+    public void setSessionFilter(Predicate<Session> predicate) {
+        sessions.setFilter(predicate);
+    }
+
     // ======== Done Session Methods =================================================
 
     //@@author fatin99
@@ -280,27 +350,94 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void addDoneSession(Session s) {
         doneSessions.add(s);
+        markModified(TaTrackerSection.DONE_SESSIONS);
+        history.record(() -> removeDoneSession(s), () -> addDoneSession(s));
+    }
+
+    //@@author potatocombat
+
+    /**
+     * Removes {@code session} from the list of done sessions.
+     * {@code session} must exist in the list of done sessions.
+     */
+    public void removeDoneSession(Session session) {
+        doneSessions.remove(session);
+        markModified(TaTrackerSection.DONE_SESSIONS);
+        history.record(() -> addDoneSession(session), () -> removeDoneSession(session));
     }
 
+    //@@author potatocombat
     @Override
     public long getTotalHours() {
-        long totalHours = 0;
-        for (int i = 0; i < doneSessions.size(); i += 1) {
-            if (currentlyShownModuleClaim != null) {
-                if (doneSessions.get(i).getModuleCode().equals(currentlyShownModuleClaim.getIdentifier())) {
-                    logger.info("reached: has claim filter" + currentlyShownModuleClaim.toString());
-                    totalHours += doneSessions.get(i).getDurationToNearestHour().toHours();
-                    logger.info(String.valueOf(totalHours));
-                }
-            } else {
-                logger.info("reached: no claim filter");
-                totalHours += doneSessions.get(i).getDurationToNearestHour().toHours();
-                logger.info(String.valueOf(totalHours));
+        if (currentlyShownModuleClaim == null) {
+            return doneSessions.getTotalHours();
+        }
+        return doneSessions.getTotalHours(currentlyShownModuleClaim.getIdentifier());
+    }
+
+    @Override
+    public long getDoneSessionHours(SessionType type) {
+        return doneSessions.getTotalHours(type);
+    }
+
+    @Override
+    public long getDoneSessionHours(String moduleCode, SessionType type) {
+        return doneSessions.getTotalHours(moduleCode, type);
+    }
+
+    @Override
+    public int getNumStudentsWithRating(int rating) {
+        return studentRegistry.getNumStudentsWithRating(rating);
+    }
+
+    @Override
+    public List<Student> getLowestRatedStudents(int k) {
+        return studentRegistry.getLowestRatedStudents(k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModuleNotFoundException if there is no such module.
+     */
+    @Override
+    public List<Student> getLowestRatedStudents(String moduleCode, int k) {
+        return getLowestRatedStudents(requireModule(moduleCode), k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModuleNotFoundException if there is no such module.
+     * @throws GroupNotFoundException if there is no such group in the module.
+     */
+    @Override
+    public List<Student> getLowestRatedStudents(String moduleCode, String groupCode, int k) {
+        return getLowestRatedStudents(requireGroup(requireModule(moduleCode), groupCode), k);
+    }
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings in {@code module}, from the lowest rating up,
+     * counting each student once.
+     */
+    static List<Student> getLowestRatedStudents(Module module, int k) {
+        Map<Matric, Student> students = new LinkedHashMap<>();
+        for (Group group : module.getGroupList()) {
+            for (Student student : group.getStudentList()) {
+                students.putIfAbsent(student.getMatric(), student);
             }
         }
-        return totalHours;
+        return RankingUtil.getLowest(students.values(), k, BY_RATING);
+    }
+
+    /**
+     * Returns up to {@code k} students with the lowest ratings in {@code group}, from the lowest rating up.
+     */
+    static List<Student> getLowestRatedStudents(Group group, int k) {
+        return RankingUtil.getLowest(group.getStudentList(), k, BY_RATING);
     }
 
+    //@@author fatin99
     @Override
     public int getRate() {
         return rate;
@@ -308,7 +445,10 @@ public class TaTracker implements ReadOnlyTaTracker {
 
     public void setRate(int newRate) {
         logger.fine("Reached SetRate in TaTracker");
+        int oldRate = rate;
         rate = newRate;
+        markModified(TaTrackerSection.RATE);
+        history.record(() -> setRate(oldRate), () -> setRate(newRate));
     }
 
     @Override
@@ -323,7 +463,12 @@ public class TaTracker implements ReadOnlyTaTracker {
      * {@code donesessions} must not contain duplicate donesessions.
      */
     public void setDoneSessionList(List<Session> donesessions) {
-        this.doneSessions.setSessions(donesessions);
+        List<Session> replacedSessions = new ArrayList<>(doneSessions.asUnmodifiableObservableList());
+        List<Session> newSessions = new ArrayList<>(donesessions);
+
+        this.doneSessions.setSessions(newSessions);
+        markModified(TaTrackerSection.DONE_SESSIONS);
+        history.record(() -> setDoneSessionList(replacedSessions), () -> setDoneSessionList(newSessions));
     }
 
     @Override
@@ -331,23 +476,34 @@ public class TaTracker implements ReadOnlyTaTracker {
         return doneSessions.asUnmodifiableObservableList();
     }
 
+    //@@author potatocombat
+    /**
+     * Returns the done sessions that match the current done session filter, in chronological order.
+     * The list is updated as done sessions are added, edited and removed.
+     */
+    public ObservableList<Session> getFilteredDoneSessionList() {
+        return doneSessions.asUnmodifiableFilteredList();
+    }
+
+    /**
+     * Shows only the done sessions that match {@code predicate} in the filtered done session list.
+     */
+    public void setDoneSessionFilter(Predicate<Session> predicate) {
+        doneSessions.setFilter(predicate);
+    }
+
     //@@author Eclmist
 
     @Override
     public ObservableList<Student> getCompleteStudentList() {
-        UniqueStudentList completeStudentList = new UniqueStudentList();
+        return studentRegistry.asUnmodifiableObservableList();
+    }
 
-        // TODO: Fix this before PE, when the master student list is not stored per module group.
-        // There should be a master list of students managed by TaTracker
+    //@@author potatocombat
 
-        HashSet<Student> allStudents = new HashSet<>();
-        for (Module module : modules) {
-            for (Group group : module.getGroupList()) {
-                allStudents.addAll(group.getStudentList());
-            }
-        }
-        completeStudentList.setStudents(new ArrayList<>(allStudents));
-        return completeStudentList.asUnmodifiableObservableList();
+    @Override
+    public List<Enrollment> getEnrollments(Matric matric) {
+        return studentRegistry.getEnrollments(matric);
     }
 
     //@@author Chuayijing
@@ -388,7 +544,7 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public boolean hasModule(String moduleCode) {
         requireNonNull(moduleCode);
-        return modules.contains(new Module(moduleCode));
+        return modules.getModule(moduleCode) != null;
     }
 
     //@@author aakanksha-rai
@@ -397,6 +553,9 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void addModule(Module module) {
         modules.add(module);
+        studentRegistry.enrollModule(module);
+        markModified(module);
+        history.record(() -> removeModule(module), () -> addModule(module));
     }
 
     //@@author aakanksha-rai
@@ -404,15 +563,27 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Removes module with same module code from TA-Tracker.
      */
     public void deleteModule(Module module) {
+        Module actualModule = modules.getModule(module);
         UniqueSessionList copiedSessions = new UniqueSessionList();
         copiedSessions.setSessions(sessions);
 
+        List<Session> deletedSessions = new ArrayList<>();
         for (Session session : copiedSessions) {
             if (session.getModuleCode().equals(module.getIdentifier())) {
                 sessions.remove(session);
+                deletedSessions.add(session);
             }
         }
+        int index = modules.asUnmodifiableObservableList().indexOf(actualModule);
         modules.remove(module);
+        studentRegistry.withdrawModule(actualModule);
+        markModified(TaTrackerSection.SESSIONS);
+        markModified(actualModule);
+
+        history.record(() -> {
+            insertModule(index, actualModule);
+            deletedSessions.forEach(this::addSession);
+        }, () -> deleteModule(actualModule));
     }
 
     //@@author aakanksha-rai
@@ -421,7 +592,22 @@ public class TaTracker implements ReadOnlyTaTracker {
      * {@code key} must exist in the ta-tracker.
      */
     public void removeModule(Module key) {
+        Module actualModule = modules.getModule(key);
+        int index = modules.asUnmodifiableObservableList().indexOf(actualModule);
         modules.remove(key);
+        studentRegistry.withdrawModule(actualModule);
+        markModified(actualModule);
+        history.record(() -> insertModule(index, actualModule), () -> removeModule(actualModule));
+    }
+
+    //@@author potatocombat
+    /**
+     * Puts a removed {@code module} back at the given {@code index} of the module list.
+     */
+    private void insertModule(int index, Module module) {
+        modules.add(index, module);
+        studentRegistry.enrollModule(module);
+        markModified(module);
     }
 
     //@@author aakanksha-rai
@@ -433,7 +619,13 @@ public class TaTracker implements ReadOnlyTaTracker {
     public void setModule(Module target, Module editedModule) {
         requireNonNull(editedModule);
 
+        Module actualModule = modules.getModule(target);
         modules.setModule(target, editedModule);
+        studentRegistry.withdrawModule(actualModule);
+        studentRegistry.enrollModule(editedModule);
+        markModified(actualModule);
+        markModified(editedModule);
+        history.record(() -> setModule(editedModule, actualModule), () -> setModule(actualModule, editedModule));
     }
 
     //@@author aakanksha-rai
@@ -441,9 +633,11 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Sorts modules alphabetically.
      */
     public void sortModulesAlphabetically() {
+        recordStudentOrder(this::sortModulesAlphabetically);
         for (Module module : modules) {
             module.sortGroupsAlphabetically();
         }
+        markAllModulesModified();
     }
 
     //@@author aakanksha-rai
@@ -451,9 +645,11 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Sorts modules by rating in ascending order.
      */
     public void sortModulesByRatingAscending() {
+        recordStudentOrder(this::sortModulesByRatingAscending);
         for (Module module : modules) {
             module.sortGroupsByRatingAscending();
         }
+        markAllModulesModified();
     }
 
     //@@author aakanksha-rai
@@ -461,9 +657,11 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Sorts modules alphabetically.
      */
     public void sortModulesByRatingDescending() {
+        recordStudentOrder(this::sortModulesByRatingDescending);
         for (Module module : modules) {
             module.sortGroupsByRatingDescending();
         }
+        markAllModulesModified();
     }
 
     //@@author aakanksha-rai
@@ -471,9 +669,30 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Sorts modules by matric number.
      */
     public void sortModulesByMatricNumber() {
+        recordStudentOrder(this::sortModulesByMatricNumber);
         for (Module module : modules) {
             module.sortGroupsByMatricNumber();
         }
+        markAllModulesModified();
+    }
+
+    //@@author potatocombat
+    /**
+     * Records the order of the students in every group, so that sorting them can be undone.
+     */
+    private void recordStudentOrder(Runnable sort) {
+        List<Runnable> restoreOrders = new ArrayList<>();
+        for (Module module : modules) {
+            for (Group group : module.getGroupList()) {
+                List<Student> order = new ArrayList<>(group.getStudentList());
+                restoreOrders.add(() -> group.getUniqueStudentList().setStudents(order));
+            }
+        }
+
+        history.record(() -> {
+            restoreOrders.forEach(Runnable::run);
+            markAllModulesModified();
+        }, sort);
     }
 
     //@@author aakanksha-rai
@@ -482,7 +701,14 @@ public class TaTracker implements ReadOnlyTaTracker {
      * {@code modules} must not contain duplicate modules.
      */
     public void setModules(List<Module> modules) {
-        this.modules.setModules(modules);
+        List<Module> replacedModules = new ArrayList<>(this.modules.asUnmodifiableObservableList());
+        List<Module> newModules = new ArrayList<>(modules);
+
+        this.modules.setModules(newModules);
+        studentRegistry.clear();
+        newModules.forEach(studentRegistry::enrollModule);
+        markAllModulesModified();
+        history.record(() -> setModules(replacedModules), () -> setModules(newModules));
     }
 
     //@@author aakanksha-rai
@@ -510,12 +736,34 @@ public class TaTracker implements ReadOnlyTaTracker {
     public boolean hasGroup(String groupCode, String moduleCode) {
         requireNonNull(groupCode, moduleCode);
 
-        if (!hasModule(moduleCode)) {
-            return false;
+        Module module = modules.getModule(moduleCode);
+        return module != null && module.getGroup(groupCode) != null;
+    }
+
+    //@@author potatocombat
+
+    /**
+     * Returns the module in the TATracker with the given module code.
+     * @throws ModuleNotFoundException if there is no such module.
+     */
+    private Module requireModule(String moduleCode) {
+        Module module = modules.getModule(moduleCode);
+        if (module == null) {
+            throw new ModuleNotFoundException();
         }
+        return module;
+    }
 
-        Module module = getModule(moduleCode);
-        return module.hasGroup(new Group(groupCode));
+    /**
+     * Returns the group in {@code module} with the given group code.
+     * @throws GroupNotFoundException if there is no such group.
+     */
+    static Group requireGroup(Module module, String groupCode) {
+        Group group = module.getGroup(groupCode);
+        if (group == null) {
+            throw new GroupNotFoundException();
+        }
+        return group;
     }
 
     //@@author aakanksha-rai
@@ -523,11 +771,11 @@ public class TaTracker implements ReadOnlyTaTracker {
      * Adds a group to the TATracker.
      */
     public void addGroup(Group group, Module targetModule) {
-        if (!hasModule(targetModule.getIdentifier())) {
-            throw new ModuleNotFoundException();
-        }
-        Module module = getModule(targetModule.getIdentifier());
+        Module module = requireModule(targetModule.getIdentifier());
         module.addGroup(group);
+        studentRegistry.enrollGroup(module, group);
+        markModified(module);
+        history.record(() -> removeGroup(group, module), () -> addGroup(group, module));
     }
 
     //@@author aakanksha-rai
@@ -536,11 +784,23 @@ public class TaTracker implements ReadOnlyTaTracker {
      * {@code key} must exist in the ta-tracker.
      */
     public void removeGroup(Group group, Module targetModule) {
-        if (!hasModule(targetModule.getIdentifier())) {
-            throw new ModuleNotFoundException();
-        }
-        Module module = getModule(targetModule.getIdentifier());
+        Module module = requireModule(targetModule.getIdentifier());
+        Group actualGroup = module.getGroup(group.getIdentifier());
+        int index = module.getGroupList().indexOf(actualGroup);
         module.deleteGroup(group);
+        studentRegistry.withdrawGroup(actualGroup);
+        markModified(module);
+        history.record(() -> insertGroup(module, index, actualGroup), () -> removeGroup(actualGroup, module));
+    }
+
+    //@@author potatocombat
+    /**
+     * Puts a removed {@code group} back at the given {@code index} of the group list of {@code module}.
+     */
+    private void insertGroup(Module module, int index, Group group) {
+        module.addGroup(index, group);
+        studentRegistry.enrollGroup(module, group);
+        markModified(module);
     }
 
     //@@author aakanksha-rai
@@ -552,12 +812,13 @@ public class TaTracker implements ReadOnlyTaTracker {
     public void setGroup(Group target, Group editedGroup, Module targetModule) {
         requireNonNull(editedGroup);
 
-        if (!hasModule(targetModule.getIdentifier())) {
-            throw new ModuleNotFoundException();
-        }
-
-        Module module = getModule(targetModule.getIdentifier());
-        module.setGroup(target, editedGroup);
+        Module module = requireModule(targetModule.getIdentifier());
+        Group replacedGroup = module.setGroup(target, editedGroup);
+        studentRegistry.withdrawGroup(replacedGroup);
+        studentRegistry.enrollGroup(module, editedGroup);
+        markModified(module);
+        history.record(() -> setGroup(editedGroup, replacedGroup, module),
+                () -> setGroup(replacedGroup, editedGroup, module));
     }
 
     //@@author aakanksha-rai
@@ -570,6 +831,7 @@ public class TaTracker implements ReadOnlyTaTracker {
             currentlyShownGroup = null;
         }
         currentlyShownGroups.setGroups(groups);
+        shownListsVersion++;
     }
 
     //@@author aakanksha-rai
@@ -653,17 +915,13 @@ public class TaTracker implements ReadOnlyTaTracker {
      * @param targetModule module to add {@code student} into, which must exist in the TaTracker.
      */
     public void addStudent(Student student, String targetGroup, String targetModule) {
-        if (!hasModule(targetModule)) {
-            throw new ModuleNotFoundException();
-        }
-
-        if (!hasGroup(targetGroup, targetModule)) {
-            throw new GroupNotFoundException();
-        }
-
-        Module module = getModule(targetModule);
-        Group group = module.getGroup(targetGroup);
+        Module module = requireModule(targetModule);
+        Group group = requireGroup(module, targetGroup);
         group.addStudent(student);
+        studentRegistry.enroll(student, module, group);
+        markModified(module);
+        history.record(() -> deleteStudent(student, targetGroup, targetModule),
+                () -> addStudent(student, targetGroup, targetModule));
     }
 
     //@@author
@@ -674,6 +932,7 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void addStudent(Student p) {
         currentlyShownStudents.add(p);
+        shownListsVersion++;
     }
 
     //@@author fatin99
@@ -685,17 +944,25 @@ public class TaTracker implements ReadOnlyTaTracker {
      * @param targetModule module to delete student {@code target} from, which must exist in the TaTracker.
      */
     public void deleteStudent(Student target, String targetGroup, String targetModule) {
-        if (!hasModule(targetModule)) {
-            throw new ModuleNotFoundException();
-        }
+        Module module = requireModule(targetModule);
+        Group group = requireGroup(module, targetGroup);
+        int index = group.getStudentList().indexOf(target);
+        group.deleteStudent(target);
+        studentRegistry.withdraw(target.getMatric(), group);
+        markModified(module);
+        history.record(() -> insertStudent(target, index, group, module),
+                () -> deleteStudent(target, targetGroup, targetModule));
+    }
 
-        if (!hasGroup(targetGroup, targetModule)) {
-            throw new GroupNotFoundException();
-        }
+    //@@author potatocombat
 
-        Module module = getModule(targetModule);
-        Group group = module.getGroup(targetGroup);
-        group.deleteStudent(target);
+    /**
+     * Puts a deleted {@code student} back at the given {@code index} of the student list of {@code group}.
+     */
+    private void insertStudent(Student student, int index, Group group, Module module) {
+        group.addStudent(index, student);
+        studentRegistry.enroll(student, module, group);
+        markModified(module);
     }
 
     //@@author
@@ -706,6 +973,7 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void removeStudent(Student key) {
         currentlyShownStudents.remove(key);
+        shownListsVersion++;
     }
 
     //@@author potatocombat
@@ -719,15 +987,13 @@ public class TaTracker implements ReadOnlyTaTracker {
      * @param targetModule module with the student to edit, which must exist in the TaTracker.
      */
     public void setStudent(Student target, Student editedStudent, String targetGroup, String targetModule) {
-        if (!hasModule(targetModule)) {
-            throw new ModuleNotFoundException();
-        }
-
-        if (!hasGroup(targetGroup, targetModule)) {
-            throw new GroupNotFoundException();
-        }
-
-        modules.getModule(targetModule).setStudent(target, editedStudent, targetGroup);
+        Module module = requireModule(targetModule);
+        Group group = requireGroup(module, targetGroup);
+        module.setStudent(target, editedStudent, targetGroup);
+        studentRegistry.replace(target, editedStudent, module, group);
+        markModified(module);
+        history.record(() -> setStudent(editedStudent, target, targetGroup, targetModule),
+                () -> setStudent(target, editedStudent, targetGroup, targetModule));
     }
 
     //@@author
@@ -741,6 +1007,7 @@ public class TaTracker implements ReadOnlyTaTracker {
         requireNonNull(editedStudent);
 
         currentlyShownStudents.setStudent(target, editedStudent);
+        shownListsVersion++;
     }
 
     //@@author aakanksha-rai
@@ -750,6 +1017,7 @@ public class TaTracker implements ReadOnlyTaTracker {
      */
     public void setCurrentlyShownStudents(List<Student> students) {
         this.currentlyShownStudents.setStudents(students);
+        shownListsVersion++;
     }
 
     //@@author aakanksha-rai
@@ -791,6 +1059,125 @@ public class TaTracker implements ReadOnlyTaTracker {
         return currentlyShownStudents.asUnmodifiableObservableList();
     }
 
+    // ======== History ========================================================
+
+    //@@author potatocombat
+    /**
+     * Saves the changes made to the ta-tracker since the last commit as a version that can be undone.
+     */
+    public void commit() {
+        history.commit();
+    }
+
+    /**
+     * Returns true if there is a committed version of the ta-tracker that can be undone.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if there is an undone version of the ta-tracker that can be redone.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Restores the ta-tracker to the version before the latest version.
+     * Any changes that have not been committed are committed first.
+     *
+     * @throws IllegalStateException if there is no version to undo.
+     */
+    public void undo() {
+        history.undo();
+    }
+
+    /**
+     * Restores the ta-tracker to the latest version that was undone.
+     *
+     * @throws IllegalStateException if there is no version to redo.
+     */
+    public void redo() {
+        history.redo();
+    }
+
+    /**
+     * Forgets every version of the ta-tracker, so that the current data cannot be undone.
+     */
+    public void clearHistory() {
+        history.clear();
+    }
+
+    // ======== Snapshots ======================================================
+
+    //@@author potatocombat
+    /**
+     * {@inheritDoc}
+     * Only the sections, and the modules, that have changed since the previous snapshot are copied.
+     */
+    @Override
+    public TaTrackerSnapshot getSnapshot() {
+        latestSnapshot = new TaTrackerSnapshot(this, latestSnapshot,
+                module -> moduleCopies.computeIfAbsent(module, TaTrackerSnapshot::copyOf));
+        return latestSnapshot;
+    }
+
+    /**
+     * Returns a number that changes whenever the currently shown groups or students change.
+     */
+    long getShownListsVersion() {
+        return shownListsVersion;
+    }
+
+    /**
+     * Returns a copy of the hours of the done sessions, which later changes to this ta-tracker do not affect.
+     */
+    SessionHours copyDoneSessionHours() {
+        return doneSessions.copyHours();
+    }
+
+    // ======== Modification Tracking ==========================================
+
+    //@@author potatocombat
+    /**
+     * Records that the saved data in the given {@code section} has changed.
+     */
+    private void markModified(TaTrackerSection section) {
+        modificationCounts[section.ordinal()]++;
+    }
+
+    /**
+     * Records that {@code module}, or the groups and students in it, have changed.
+     */
+    private void markModified(Module module) {
+        moduleCopies.remove(module);
+        markModified(TaTrackerSection.MODULES);
+    }
+
+    /**
+     * Records that every module may have changed, such as when they are sorted or replaced.
+     */
+    private void markAllModulesModified() {
+        moduleCopies.clear();
+        markModified(TaTrackerSection.MODULES);
+    }
+
+    @Override
+    public long getModificationCount(TaTrackerSection section) {
+        requireNonNull(section);
+        return modificationCounts[section.ordinal()];
+    }
+
+    @Override
+    public long getModificationCount() {
+        long total = 0;
+        for (long count : modificationCounts) {
+            total += count;
+        }
+        return total;
+    }
+
     // ======== Utility Methods ================================================
 
     //@@author
@@ -0,0 +1,156 @@
+//@@author potatocombat
+
+package tatracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The changes made to a {@code TaTracker}, grouped into the versions that can be undone and redone.
+ * <p>
+ * Each change is recorded as the pair of actions that undo and redo it, which only hold on to the entries
+ * that were changed. So each version takes up memory in proportion to the size of its changes,
+ * instead of the size of the whole TaTracker, and undoing or redoing it takes time in proportion to them too.
+ * Only the latest {@code capacity} versions are kept.
+ */
+class TaTrackerHistory {
+
+    static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+
+    private final Deque<List<Change>> undoVersions = new ArrayDeque<>();
+    private final Deque<List<Change>> redoVersions = new ArrayDeque<>();
+
+    /** The changes made since the last commit. */
+    private List<Change> pendingChanges = new ArrayList<>();
+
+    /** True while changes are being undone or redone, so they are not recorded again. */
+    private boolean isReplaying = false;
+
+    TaTrackerHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    TaTrackerHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The history must keep at least one version");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a change that can be undone by running {@code undo}, and then redone by running {@code redo}.
+     * Nothing is recorded while a version is being undone or redone.
+     */
+    void record(Runnable undo, Runnable redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+
+        if (!isReplaying) {
+            pendingChanges.add(new Change(undo, redo));
+        }
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new version, if there are any.
+     * The versions that were undone can no longer be redone after this.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        undoVersions.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoVersions.clear();
+
+        if (undoVersions.size() > capacity) {
+            undoVersions.removeLast();
+        }
+    }
+
+    /**
+     * Returns true if there is a version that can be undone.
+     */
+    boolean canUndo() {
+        return !pendingChanges.isEmpty() || !undoVersions.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a version that can be redone.
+     */
+    boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoVersions.isEmpty();
+    }
+
+    /**
+     * Undoes the changes in the latest version, from the last change to the first.
+     *
+     * @throws IllegalStateException if there is no version to undo.
+     */
+    void undo() {
+        commit();
+        if (undoVersions.isEmpty()) {
+            throw new IllegalStateException("There are no changes to undo");
+        }
+
+        List<Change> changes = undoVersions.pop();
+        replay(() -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo.run();
+            }
+        });
+        redoVersions.push(changes);
+    }
+
+    /**
+     * Redoes the changes in the latest version that was undone, from the first change to the last.
+     *
+     * @throws IllegalStateException if there is no version to redo.
+     */
+    void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There are no changes to redo");
+        }
+
+        List<Change> changes = redoVersions.pop();
+        replay(() -> changes.forEach(change -> change.redo.run()));
+        undoVersions.push(changes);
+    }
+
+    /**
+     * Forgets every version, and the changes made since the last commit.
+     */
+    void clear() {
+        undoVersions.clear();
+        redoVersions.clear();
+        pendingChanges = new ArrayList<>();
+    }
+
+    private void replay(Runnable changes) {
+        isReplaying = true;
+        try {
+            changes.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * A single change to a {@code TaTracker}.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        private Change(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package tatracker.model;
+
+/**
+ * The parts of a ta-tracker that are saved to storage.
+ */
+public enum TaTrackerSection {
+    SESSIONS,
+    DONE_SESSIONS,
+    MODULES,
+    RATE
+}
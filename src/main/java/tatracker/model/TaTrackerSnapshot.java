@@ -0,0 +1,346 @@
+//@@author potatocombat
+
+package tatracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import tatracker.model.group.Group;
+import tatracker.model.group.UniqueGroupList;
+import tatracker.model.module.Module;
+import tatracker.model.module.UniqueModuleList;
+import tatracker.model.module.exception.ModuleNotFoundException;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionHours;
+import tatracker.model.session.SessionType;
+import tatracker.model.statistic.Statistic;
+import tatracker.model.student.Matric;
+import tatracker.model.student.Rating;
+import tatracker.model.student.Student;
+import tatracker.model.student.UniqueStudentList;
+
+/**
+ * An immutable copy of a {@code TaTracker} at one point in time, which can be read from any thread.
+ * <p>
+ * Each snapshot shares the sections that have not changed since the previous snapshot of the same ta-tracker,
+ * so taking a snapshot only copies the sections that were modified, and only the modules in them that were modified.
+ * The currently shown groups and students are likewise only copied when they have changed.
+ * <p>
+ * The totals used for statistics are copied from the ta-tracker along with their section, so reading them
+ * takes constant time, just as it does on the ta-tracker. These are the hours of the done sessions,
+ * the number of students with each rating, and the few lowest rated students that the report shows.
+ * Only asking for more of the lowest rated students, or for every student and their enrollments,
+ * builds an index of the students in the snapshot, the first time it is needed.
+ * <p>
+ * The modules, groups and students in a snapshot are its own copies, and must not be modified.
+ */
+public final class TaTrackerSnapshot implements ReadOnlyTaTracker {
+
+    /** The number of lowest rated students that are copied into each snapshot. */
+    private static final int NUM_LOWEST_RATED_COPIED = Statistic.DEFAULT_NUM_STUDENTS;
+
+    /** Shared by every snapshot of the same ta-tracker, to tell them apart from snapshots of other ta-trackers. */
+    private final Object lineage;
+    private final long[] modificationCounts = new long[TaTrackerSection.values().length];
+    private final int rate;
+
+    private final ObservableList<Session> sessions;
+    private final DoneSessions doneSessions;
+    private final Modules modules;
+
+    /** The module code of the module whose claims are shown, or null if the claims of every module are shown. */
+    private final String claimModuleCode;
+    private final long shownListsVersion;
+    private final ObservableList<Group> shownGroups;
+    private final ObservableList<Student> shownStudents;
+
+    /**
+     * Takes a snapshot of {@code source}, sharing the sections that are unchanged since {@code previous},
+     * which must be null or a snapshot of the same {@code source}.
+     * Each module in a changed module list is copied by {@code copyModule}.
+     */
+    TaTrackerSnapshot(TaTracker source, TaTrackerSnapshot previous, UnaryOperator<Module> copyModule) {
+        requireNonNull(source);
+        requireNonNull(copyModule);
+
+        lineage = previous == null ? new Object() : previous.lineage;
+        for (TaTrackerSection section : TaTrackerSection.values()) {
+            modificationCounts[section.ordinal()] = source.getModificationCount(section);
+        }
+        rate = source.getRate();
+
+        sessions = isUnchangedSince(previous, TaTrackerSection.SESSIONS)
+                ? previous.sessions
+                : freeze(source.getSessionList());
+        doneSessions = isUnchangedSince(previous, TaTrackerSection.DONE_SESSIONS)
+                ? previous.doneSessions
+                : new DoneSessions(source.getDoneSessionList(), source.copyDoneSessionHours());
+
+        if (isUnchangedSince(previous, TaTrackerSection.MODULES)) {
+            modules = previous.modules;
+        } else {
+            List<Module> moduleCopies = new ArrayList<>();
+            source.getModuleList().forEach(module -> moduleCopies.add(copyModule.apply(module)));
+            modules = new Modules(moduleCopies, source);
+        }
+
+        Module claimModule = TaTracker.getCurrentlyShownModuleClaim();
+        claimModuleCode = claimModule == null ? null : claimModule.getIdentifier();
+
+        // The shown groups are also changed by changes to their modules
+        shownListsVersion = source.getShownListsVersion();
+        boolean areShownListsUnchanged = previous != null && previous.shownListsVersion == shownListsVersion;
+        if (areShownListsUnchanged && isUnchangedSince(previous, TaTrackerSection.MODULES)) {
+            shownGroups = previous.shownGroups;
+        } else {
+            List<Group> groupCopies = new ArrayList<>();
+            source.getCurrentlyShownGroupList().forEach(group -> groupCopies.add(copyOf(group)));
+            shownGroups = freeze(groupCopies);
+        }
+        shownStudents = areShownListsUnchanged
+                ? previous.shownStudents
+                : freeze(source.getCurrentlyShownStudentList());
+    }
+
+    private boolean isUnchangedSince(TaTrackerSnapshot previous, TaTrackerSection section) {
+        return previous != null
+                && previous.getModificationCount(section) == modificationCounts[section.ordinal()];
+    }
+
+    /**
+     * Returns a copy of {@code module}, with copies of its groups.
+     */
+    static Module copyOf(Module module) {
+        List<Group> groupCopies = new ArrayList<>();
+        module.getGroupList().forEach(group -> groupCopies.add(copyOf(group)));
+
+        UniqueGroupList groups = new UniqueGroupList();
+        groups.setGroups(groupCopies);
+        return new Module(module.getIdentifier(), module.getName(), groups);
+    }
+
+    /**
+     * Returns a copy of {@code group}, with its students.
+     */
+    static Group copyOf(Group group) {
+        UniqueStudentList students = new UniqueStudentList();
+        students.setStudents(group.getStudentList());
+        return new Group(group.getIdentifier(), group.getGroupType(), students);
+    }
+
+    private static <T> ObservableList<T> freeze(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    /**
+     * Returns the version of the saved data in this snapshot.
+     * Snapshots of the same ta-tracker with the same version have the same saved data,
+     * and the version increases every time the saved data is modified.
+     */
+    public long getVersion() {
+        return getModificationCount();
+    }
+
+    /**
+     * Returns true if this snapshot and {@code other} are snapshots of the same ta-tracker,
+     * so their versions can be compared.
+     */
+    public boolean isOfSameTaTracker(TaTrackerSnapshot other) {
+        return other != null && lineage == other.lineage;
+    }
+
+    /**
+     * Returns this snapshot, since it never changes.
+     */
+    @Override
+    public TaTrackerSnapshot getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public ObservableList<Student> getCurrentlyShownStudentList() {
+        return shownStudents;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return modules.list;
+    }
+
+    @Override
+    public ObservableList<Group> getCurrentlyShownGroupList() {
+        return shownGroups;
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return sessions;
+    }
+
+    @Override
+    public ObservableList<Session> getDoneSessionList() {
+        return doneSessions.list;
+    }
+
+    @Override
+    public ObservableList<Student> getCompleteStudentList() {
+        return modules.getRegistry().asUnmodifiableObservableList();
+    }
+
+    @Override
+    public List<Enrollment> getEnrollments(Matric matric) {
+        return modules.getRegistry().getEnrollments(matric);
+    }
+
+    @Override
+    public long getTotalHours() {
+        if (claimModuleCode == null) {
+            return doneSessions.hours.getTotalHours();
+        }
+        return doneSessions.hours.getHours(claimModuleCode);
+    }
+
+    @Override
+    public long getDoneSessionHours(SessionType type) {
+        requireNonNull(type);
+        return doneSessions.hours.getHours(type);
+    }
+
+    @Override
+    public long getDoneSessionHours(String moduleCode, SessionType type) {
+        requireNonNull(moduleCode);
+        requireNonNull(type);
+        return doneSessions.hours.getHours(moduleCode, type);
+    }
+
+    @Override
+    public int getNumStudentsWithRating(int rating) {
+        return modules.numStudentsByRating[rating - Rating.MIN_RATING];
+    }
+
+    @Override
+    public List<Student> getLowestRatedStudents(int k) {
+        List<Student> lowestRated = modules.lowestRated;
+        // Fewer students than were copied means there are no more students to rank
+        if (k <= lowestRated.size() || lowestRated.size() < NUM_LOWEST_RATED_COPIED) {
+            return new ArrayList<>(lowestRated.subList(0, Math.min(k, lowestRated.size())));
+        }
+        return modules.getRegistry().getLowestRatedStudents(k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModuleNotFoundException if there is no such module.
+     */
+    @Override
+    public List<Student> getLowestRatedStudents(String moduleCode, int k) {
+        return TaTracker.getLowestRatedStudents(requireModule(moduleCode), k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModuleNotFoundException if there is no such module.
+     * @throws tatracker.model.group.exceptions.GroupNotFoundException if there is no such group in the module.
+     */
+    @Override
+    public List<Student> getLowestRatedStudents(String moduleCode, String groupCode, int k) {
+        return TaTracker.getLowestRatedStudents(TaTracker.requireGroup(requireModule(moduleCode), groupCode), k);
+    }
+
+    private Module requireModule(String moduleCode) {
+        Module module = modules.getModules().getModule(moduleCode);
+        if (module == null) {
+            throw new ModuleNotFoundException();
+        }
+        return module;
+    }
+
+    @Override
+    public int getRate() {
+        return rate;
+    }
+
+    @Override
+    public long getTotalEarnings() {
+        return rate * getTotalHours();
+    }
+
+    @Override
+    public long getModificationCount(TaTrackerSection section) {
+        requireNonNull(section);
+        return modificationCounts[section.ordinal()];
+    }
+
+    @Override
+    public long getModificationCount() {
+        long total = 0;
+        for (long count : modificationCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "TaTrackerSnapshot version " + getVersion();
+    }
+
+    /**
+     * The done sessions in a snapshot, and their hours.
+     */
+    private static class DoneSessions {
+        private final ObservableList<Session> list;
+        private final SessionHours hours;
+
+        private DoneSessions(List<Session> sessions, SessionHours hours) {
+            list = freeze(sessions);
+            this.hours = hours;
+        }
+    }
+
+    /**
+     * The module copies in a snapshot, along with the ratings of their students.
+     */
+    private static class Modules {
+        private final ObservableList<Module> list;
+        private final int[] numStudentsByRating = new int[Rating.RANGE];
+        private final List<Student> lowestRated;
+        private UniqueModuleList modules;
+        private StudentRegistry registry;
+
+        /**
+         * Creates the module section of a snapshot of {@code source}, whose modules are copied as {@code moduleCopies}.
+         */
+        private Modules(List<Module> moduleCopies, ReadOnlyTaTracker source) {
+            list = freeze(moduleCopies);
+            for (int i = 0; i < numStudentsByRating.length; i++) {
+                numStudentsByRating[i] = source.getNumStudentsWithRating(i + Rating.MIN_RATING);
+            }
+            lowestRated = List.copyOf(source.getLowestRatedStudents(NUM_LOWEST_RATED_COPIED));
+        }
+
+        private synchronized UniqueModuleList getModules() {
+            if (modules == null) {
+                modules = new UniqueModuleList();
+                modules.setModules(list);
+            }
+            return modules;
+        }
+
+        private synchronized StudentRegistry getRegistry() {
+            if (registry == null) {
+                registry = new StudentRegistry();
+                list.forEach(registry::enrollModule);
+            }
+            return registry;
+        }
+    }
+}
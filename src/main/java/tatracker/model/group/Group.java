@@ -11,13 +11,14 @@ import javafx.collections.ObservableList;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 import tatracker.model.student.UniqueStudentList;
+import tatracker.model.util.Identifiable;
 
 /**
  * Represents a group in TAT.
  * A group is anything that would include a
  * group of students such as a lab or tutorial.
  */
-public class Group {
+public class Group implements Identifiable<String> {
 
     public static final String CONSTRAINTS_GROUP_CODE = "Group codes cannot be blank";
 
@@ -47,7 +48,7 @@ public class Group {
     }
 
     /**
-     * Constructor to be used in testing.
+     * Constructs a group object with the given students.
      */
     public Group(String identifier, GroupType groupType, UniqueStudentList students) {
         this.identifier = identifier;
@@ -90,6 +91,18 @@ public class Group {
         return identifier;
     }
 
+    //@@author potatocombat
+
+    /**
+     * Returns the group identifier, which identifies the group.
+     */
+    @Override
+    public String getIdentity() {
+        return identifier;
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Returns the list of students in the group.
      */
@@ -157,6 +170,17 @@ public class Group {
         students.add(student);
     }
 
+    //@@author potatocombat
+
+    /**
+     * Inserts a student into the list of enrolled students at the given {@code index}.
+     */
+    public void addStudent(int index, Student student) {
+        students.add(index, student);
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Deletes the given student from the list of enrolled students,
      * if it exists.
@@ -4,9 +4,12 @@ package tatracker.model.group;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+import static tatracker.model.util.IdentityUtil.indexByIdentity;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,11 @@ import tatracker.model.group.exceptions.GroupNotFoundException;
  * groups uses Group#equals(Object) for equality so as to ensure that the group being added or updated is
  * unique in terms of identity in the UniqueGroupList.
  *
+ * The groups are also indexed by group code, so looking up a group takes constant time,
+ * while the backing list keeps the order that they are shown in.
+ * A group whose code is changed in place must then be passed to {@link #setGroup(Group, Group)},
+ * so that it is indexed by its new code.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Group#equals(Object)
@@ -30,6 +38,9 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The groups in {@code internalList}, keyed by group code. Must be updated on every change to it. */
+    private final Map<String, Group> groupsByCode = new HashMap<>();
+
     public int size() {
         return internalList.size();
     }
@@ -39,7 +50,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return groupsByCode.containsKey(toCheck.getIdentifier());
     }
 
     public Group get(int n) {
@@ -51,12 +62,7 @@ public class UniqueGroupList implements Iterable<Group> {
      * Returns null if no such group exists.
      */
     public Group get(String groupId) {
-        for (Group group : internalList) {
-            if (group.getIdentifier().equals(groupId)) {
-                return group;
-            }
-        }
-        return null; // Did not find a group with the given group id
+        return groupsByCode.get(groupId);
     }
 
     /**
@@ -69,8 +75,26 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
         internalList.add(toAdd);
+        groupsByCode.put(toAdd.getIdentifier(), toAdd);
     }
 
+    //@@author potatocombat
+
+    /**
+     * Inserts a group into the list at the given {@code index}.
+     * The group must not already exist in the list.
+     */
+    public void add(int index, Group toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateGroupException();
+        }
+        internalList.add(index, toAdd);
+        groupsByCode.put(toAdd.getIdentifier(), toAdd);
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Removes the equivalent group from the list.
      * The group must exist in the list.
@@ -80,14 +104,17 @@ public class UniqueGroupList implements Iterable<Group> {
         if (!internalList.remove(toRemove)) {
             throw new GroupNotFoundException();
         }
+        groupsByCode.remove(toRemove.getIdentifier());
     }
 
     /**
      * Replaces the group {@code target} in the list with {@code editedGroup}.
      * {@code target} must exist in the list.
      * The group identity of {@code editedGroup} must not be the same as another existing group in the list.
+     *
+     * @return the group that was replaced, which is {@code target} itself if its code was changed in place.
      */
-    public void setGroup(Group target, Group editedGroup) {
+    public Group setGroup(Group target, Group editedGroup) {
         requireAllNonNull(target, editedGroup);
 
         int index = internalList.indexOf(target);
@@ -99,12 +126,18 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
 
-        internalList.set(index, editedGroup);
+        Group replaced = internalList.set(index, editedGroup);
+        // The replaced group may have been indexed under a code it no longer has
+        groupsByCode.values().removeIf(group -> group == replaced);
+        groupsByCode.put(editedGroup.getIdentifier(), editedGroup);
+        return replaced;
     }
 
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        groupsByCode.clear();
+        groupsByCode.putAll(replacement.groupsByCode);
     }
 
     /**
@@ -113,11 +146,14 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireAllNonNull(groups);
-        if (!groupsAreUnique(groups)) {
+        Map<String, Group> replacementsByCode = indexByIdentity(groups);
+        if (replacementsByCode.size() != groups.size()) {
             throw new DuplicateGroupException();
         }
 
         internalList.setAll(groups);
+        groupsByCode.clear();
+        groupsByCode.putAll(replacementsByCode);
     }
 
     /**
@@ -143,18 +179,4 @@ public class UniqueGroupList implements Iterable<Group> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).equals(groups.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
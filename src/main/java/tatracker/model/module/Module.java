@@ -10,11 +10,12 @@ import tatracker.model.group.Group;
 import tatracker.model.group.UniqueGroupList;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
+import tatracker.model.util.Identifiable;
 
 /**
  * Represents a module in the TAT.
  */
-public class Module {
+public class Module implements Identifiable<String> {
 
     public static final String CONSTRAINTS_MODULE_CODE = "Module codes cannot be blank";
     public static final String CONSTRAINTS_MODULE_NAME = "Module names cannot be blank";
@@ -46,7 +47,7 @@ public class Module {
     }
 
     /**
-     * Constructor for use in testing.
+     * Constructs a module object with the given groups.
      */
     public Module(String identifier, String name, UniqueGroupList groups) {
         this.identifier = identifier;
@@ -61,6 +62,18 @@ public class Module {
         return identifier;
     }
 
+    //@@author potatocombat
+
+    /**
+     * Returns the module identifier, which identifies the module.
+     */
+    @Override
+    public String getIdentity() {
+        return identifier;
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Returns module name.
      */
@@ -124,6 +137,17 @@ public class Module {
         groups.add(group);
     }
 
+    //@@author potatocombat
+
+    /**
+     * Inserts a group into the list of module groups at the given {@code index}.
+     */
+    public void addGroup(int index, Group group) {
+        groups.add(index, group);
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Returns the group in this module with the given group id.
      * Returns null if no such group exists.
@@ -145,8 +169,8 @@ public class Module {
      * {@code target} must exist in the list of groups.
      * The group identity of {@code editedGroup} must not be the same as another existing group in the module.
      */
-    public void setGroup(Group target, Group editedGroup) {
-        groups.setGroup(target, editedGroup);
+    public Group setGroup(Group target, Group editedGroup) {
+        return groups.setGroup(target, editedGroup);
     }
 
     /**
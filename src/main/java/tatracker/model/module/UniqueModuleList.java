@@ -4,9 +4,12 @@ package tatracker.model.module;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+import static tatracker.model.util.IdentityUtil.indexByIdentity;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,9 @@ import tatracker.model.module.exception.ModuleNotFoundException;
  * groups uses Module#equals(Object) for equality so as to ensure that the module being added or updated is
  * unique in terms of identity in the UniqueModuleList.
  *
+ * The modules are also indexed by module code, so looking up a module takes constant time,
+ * while the backing list keeps the order that they are shown in.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Module#equals(Object)
@@ -30,12 +36,15 @@ public class UniqueModuleList implements Iterable<Module> {
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The modules in {@code internalList}, keyed by module code. Must be updated on every change to it. */
+    private final Map<String, Module> modulesByCode = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent module as the given argument.
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return modulesByCode.containsKey(toCheck.getIdentifier());
     }
 
     public int size() {
@@ -56,8 +65,26 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(toAdd);
+        modulesByCode.put(toAdd.getIdentifier(), toAdd);
     }
 
+    //@@author potatocombat
+
+    /**
+     * Inserts a module into the list at the given {@code index}.
+     * The module must not already exist in the list.
+     */
+    public void add(int index, Module toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateModuleException();
+        }
+        internalList.add(index, toAdd);
+        modulesByCode.put(toAdd.getIdentifier(), toAdd);
+    }
+
+    //@@author aakanksha-rai
+
     /**
      * Replaces the module {@code target} in the list with {@code editedModule}.
      * {@code target} must exist in the list.
@@ -75,16 +102,17 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.set(index, editedModule);
+        Module replaced = internalList.set(index, editedModule);
+        modulesByCode.remove(replaced.getIdentifier());
+        modulesByCode.put(editedModule.getIdentifier(), editedModule);
     }
 
+    /**
+     * Gets the module in this list with the same module code as {@code module}.
+     * Returns null if no such module exists.
+     */
     public Module getModule(Module module) {
-        for (Module actualModule : internalList) {
-            if (module.getIdentifier().equals(actualModule.getIdentifier())) {
-                return actualModule;
-            }
-        }
-        return null;
+        return modulesByCode.get(module.getIdentifier());
     }
 
     /**
@@ -92,15 +120,7 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns null if no such module exists.
      */
     public Module getModule(String code) {
-        Module module = null;
-        for (int i = 0; i < this.size(); ++i) {
-            module = this.get(i);
-            if (module.getIdentifier().equals(code)) {
-                break;
-            }
-            module = null;
-        }
-        return module;
+        return modulesByCode.get(code);
     }
 
     /**
@@ -112,11 +132,14 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(toRemove)) {
             throw new ModuleNotFoundException();
         }
+        modulesByCode.remove(toRemove.getIdentifier());
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modulesByCode.clear();
+        modulesByCode.putAll(replacement.modulesByCode);
     }
 
     /**
@@ -125,11 +148,14 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public void setModules(List<Module> modules) {
         requireAllNonNull(modules);
-        if (!modulesAreUnique(modules)) {
+        Map<String, Module> replacementsByCode = indexByIdentity(modules);
+        if (replacementsByCode.size() != modules.size()) {
             throw new DuplicateModuleException();
         }
 
         internalList.setAll(modules);
+        modulesByCode.clear();
+        modulesByCode.putAll(replacementsByCode);
     }
 
     /**
@@ -155,18 +181,4 @@ public class UniqueModuleList implements Iterable<Module> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).equals(modules.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
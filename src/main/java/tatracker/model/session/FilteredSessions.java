@@ -0,0 +1,125 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The sessions in a session list that match its current filter, in chronological order.
+ * <p>
+ * The sessions of the list are kept in a {@code SessionIndex}. When the filter is an
+ * {@code IndexedSessionPredicate}, only the sessions that its query looks up are tested.
+ * The filtered sessions are updated as sessions are added, edited and removed,
+ * instead of testing every session again.
+ */
+class FilteredSessions {
+
+    /** The sessions of the session list, in chronological order. */
+    private final List<Session> sessions;
+
+    /** The sessions in {@code sessions}, by module code, type and date. Must be updated on every change to it. */
+    private final SessionIndex sessionIndex = new SessionIndex();
+
+    private final ObservableList<Session> filteredList = FXCollections.observableArrayList();
+    private final ObservableList<Session> filteredUnmodifiableList =
+            FXCollections.unmodifiableObservableList(filteredList);
+
+    private Predicate<Session> filter = unused -> true;
+
+    /**
+     * Creates the filtered sessions of the chronologically ordered {@code sessions}.
+     * Every change to {@code sessions} must be reported with {@link #add}, {@link #remove},
+     * {@link #set} or {@link #reset}.
+     */
+    FilteredSessions(List<Session> sessions) {
+        this.sessions = sessions;
+        reset();
+    }
+
+    /**
+     * Returns the filtered sessions as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Session> asUnmodifiableObservableList() {
+        return filteredUnmodifiableList;
+    }
+
+    /**
+     * Shows only the sessions that match {@code filter}.
+     */
+    void setFilter(Predicate<Session> filter) {
+        this.filter = filter;
+        refresh();
+    }
+
+    /**
+     * Updates the filtered sessions after {@code session} is added to the session list.
+     */
+    void add(Session session) {
+        sessionIndex.add(session);
+        if (filter.test(session)) {
+            filteredList.add(SessionOrder.insertionIndex(filteredList, session), session);
+        }
+    }
+
+    /**
+     * Updates the filtered sessions after {@code session} is removed from the session list.
+     */
+    void remove(Session session) {
+        sessionIndex.remove(session);
+        int index = SessionOrder.indexOf(filteredList, session);
+        if (index != -1) {
+            filteredList.remove(index);
+        }
+    }
+
+    /**
+     * Updates the filtered sessions after {@code target} is replaced by {@code editedSession} in the session list.
+     */
+    void set(Session target, Session editedSession) {
+        sessionIndex.remove(target);
+        sessionIndex.add(editedSession);
+
+        int index = SessionOrder.indexOf(filteredList, target);
+        if (index != -1 && filter.test(editedSession) && SessionOrder.fitsAt(filteredList, index, editedSession)) {
+            filteredList.set(index, editedSession);
+            return;
+        }
+
+        if (index != -1) {
+            filteredList.remove(index);
+        }
+        if (filter.test(editedSession)) {
+            filteredList.add(SessionOrder.insertionIndex(filteredList, editedSession), editedSession);
+        }
+    }
+
+    /**
+     * Rebuilds the index and the filtered sessions after the whole session list is replaced.
+     */
+    void reset() {
+        sessionIndex.clear();
+        sessions.forEach(sessionIndex::add);
+        refresh();
+    }
+
+    private void refresh() {
+        filteredList.setAll(getCandidates().stream()
+                .filter(filter)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the sessions that may match the current filter, in chronological order.
+     */
+    private List<Session> getCandidates() {
+        if (filter instanceof IndexedSessionPredicate) {
+            return sessionIndex.query(((IndexedSessionPredicate) filter).getQuery());
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,18 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on sessions that session lists can answer from their indexes.
+ * Only the sessions that the {@code SessionQuery} of the predicate looks up are tested.
+ */
+public interface IndexedSessionPredicate extends Predicate<Session> {
+
+    /**
+     * Returns a query that looks up every session matching this predicate.
+     * The query may also look up sessions that do not match this predicate.
+     */
+    SessionQuery getQuery();
+}
@@ -5,20 +5,40 @@ package tatracker.model.session;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
+
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
+import tatracker.model.util.Identifiable;
 
 /**
  * Represents a session in TAT.
  * A session is any claimable duty that has a start and end time.
  * Guarantees: Date, Start Time and End Time are not null.
+ * <p>
+ * The start and end times are kept as the number of minutes since 1970-01-01T00:00, which is the precision
+ * that they are entered in, and the module code is interned so that sessions of the same module share it.
+ * So a session takes up a few dozen bytes instead of a few hundred, and its date, duration and timing checks
+ * are worked out from the minutes without creating any date or time objects.
  */
-public class Session implements Comparable<Session> {
+public class Session implements Comparable<Session>, Identifiable<SessionIdentity> {
 
     //@@author Chuayijing
 
     public static final String CONSTRAINTS_RECURRING_WEEKS = "Recurring weeks must be an unsigned number";
 
+    //@@author potatocombat
+
+    /** The earliest and latest date times that a session can hold, as minutes since 1970-01-01T00:00 in an int. */
+    public static final LocalDateTime EARLIEST_DATE_TIME = fromEpochMinute(Integer.MIN_VALUE);
+    public static final LocalDateTime LATEST_DATE_TIME = fromEpochMinute(Integer.MAX_VALUE);
+
+    public static final String CONSTRAINTS_TIMING = String.format("Sessions must take place from %s to %s",
+            EARLIEST_DATE_TIME.format(DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")),
+            LATEST_DATE_TIME.format(DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")));
+
+    //@@author Chuayijing
+
     // Default constructor has been removed to reduce the number of test cases.
     public static final int DEFAULT_RECURRING_WEEKS = 0;
     public static final SessionType DEFAULT_SESSION_TYPE = SessionType.OTHER;
@@ -32,35 +52,44 @@ public class Session implements Comparable<Session> {
     /** For formatting sessions with minimal notation. */
     private static final String FORMAT_MIN_DESCRIPTION = "%s (%s)\nStart: %s\nEnd: %s";
 
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    /** The start and end times, in minutes since 1970-01-01T00:00. */
+    private final int startMinute;
+    private final int endMinute;
+
     //@@author Eclmist
 
-    private LocalDateTime startDateTime;
-    private LocalDateTime endDateTime;
-    private String moduleCode;
-    private SessionType type;
-    private String description;
+    private final String moduleCode;
+    private final SessionType type;
+    private final String description;
     private boolean isDone;
 
     //@@author Chuayijing
 
-    private int recurring;
+    private final int recurring;
 
     //@@author Eclmist
 
     /**
      * Constructs a Session object.
      * The session's end time should be strictly after the session's start time.
+     *
+     * @throws SessionOutOfRangeException if the session does not take place from {@link #EARLIEST_DATE_TIME}
+     *     to {@link #LATEST_DATE_TIME}.
      */
     public Session(LocalDateTime start, LocalDateTime end, SessionType type, int recurring, String moduleCode,
-                   String description) throws IllegalArgumentException {
+                   String description) throws SessionOutOfRangeException {
 
         // if (start.isAfter(end)) {
         //     throw new IllegalArgumentException("The start time of a session cannot be after the end time!");
         // }
 
-        this.startDateTime = start;
-        this.endDateTime = end;
-        this.moduleCode = moduleCode;
+        this.startMinute = toEpochMinute(start);
+        this.endMinute = toEpochMinute(end);
+        this.moduleCode = moduleCode.intern();
         this.type = type;
         this.description = description;
         this.isDone = false;
@@ -72,37 +101,79 @@ public class Session implements Comparable<Session> {
 
     //@@author potatocombat
 
+    private static int toEpochMinute(LocalDateTime dateTime) {
+        long epochMinute = Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+        if (epochMinute < Integer.MIN_VALUE || epochMinute > Integer.MAX_VALUE) {
+            throw new SessionOutOfRangeException(CONSTRAINTS_TIMING);
+        }
+        return (int) epochMinute;
+    }
+
+    private static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond((long) epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
     /**
      * Returns true if both sessions have the same date, timing, module, and type.
      * This defines a weaker notion of equality between two sessions.
      */
     public boolean isSameSession(Session s) {
-        return startDateTime.equals(s.startDateTime)
-                && endDateTime.equals(s.endDateTime)
+        return startMinute == s.startMinute
+                && endMinute == s.endMinute
                 && moduleCode.equals(s.moduleCode)
-                && type.equals(s.type);
+                && type == s.type;
+    }
+
+    @Override
+    public SessionIdentity getIdentity() {
+        return new SessionIdentity(startMinute, endMinute, moduleCode, type);
     }
 
     //@@author Eclmist
 
     public LocalDate getDate() {
-        return this.startDateTime.toLocalDate();
+        return LocalDate.ofEpochDay(getEpochDay());
     }
 
     /**
      * Returns the start time of the session.
      */
     public LocalDateTime getStartDateTime() {
-        return this.startDateTime;
+        return fromEpochMinute(startMinute);
     }
 
     /**
      * Returns the end time of the session.
      */
     public LocalDateTime getEndDateTime() {
-        return this.endDateTime;
+        return fromEpochMinute(endMinute);
     }
 
+    //@@author potatocombat
+
+    /**
+     * Returns the date of the session, as the number of days since 1970-01-01.
+     */
+    public long getEpochDay() {
+        return Math.floorDiv(startMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns the start time of the session, as the number of minutes since 1970-01-01T00:00.
+     */
+    public int getStartEpochMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end time of the session, as the number of minutes since 1970-01-01T00:00.
+     */
+    public int getEndEpochMinute() {
+        return endMinute;
+    }
+
+    //@@author Eclmist
+
     /**
      * Returns the module code associated with this session.
      */
@@ -153,23 +224,32 @@ public class Session implements Comparable<Session> {
      * Returns the duration of the session to the nearest hour.
      */
     public Duration getDurationToNearestHour() {
-        Duration duration = Duration.between(this.startDateTime, this.endDateTime);
+        return Duration.ofHours(getHoursToNearestHour());
+    }
+
+    /**
+     * Returns the number of hours that the session lasts, to the nearest hour.
+     *
+     * @see #getDurationToNearestHour()
+     */
+    public long getHoursToNearestHour() {
+        long minutes = (long) endMinute - startMinute;
 
-        long hours = duration.toHours();
-        int minutesPart = duration.toMinutesPart();
+        long hours = minutes / MINUTES_PER_HOUR;
+        long minutesPart = minutes % MINUTES_PER_HOUR;
 
         if (minutesPart > 0) {
             hours += 1;
         }
-        return Duration.ofHours(hours);
+        return hours;
     }
 
     public String getStartDateTimeDescription() {
-        return startDateTime.format(FORMAT_DATE_TIME);
+        return getStartDateTime().format(FORMAT_DATE_TIME);
     }
 
     public String getEndDateTimeDescription() {
-        return endDateTime.format(FORMAT_DATE_TIME);
+        return getEndDateTime().format(FORMAT_DATE_TIME);
     }
 
     public String getMinimalDescription() {
@@ -181,11 +261,11 @@ public class Session implements Comparable<Session> {
      * Returns true if this session's timing clashes with the other session.
      */
     public boolean hasTimingClash(Session other) {
-        boolean sameTiming = startDateTime.equals(other.startDateTime)
-                && endDateTime.equals(other.endDateTime);
+        boolean sameTiming = startMinute == other.startMinute
+                && endMinute == other.endMinute;
 
-        boolean timeClash = startDateTime.isBefore(other.endDateTime)
-                && endDateTime.isAfter(other.startDateTime);
+        boolean timeClash = startMinute < other.endMinute
+                && endMinute > other.startMinute;
 
         return sameTiming || timeClash;
     }
@@ -227,7 +307,7 @@ public class Session implements Comparable<Session> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(startDateTime, endDateTime, moduleCode, type);
+        return SessionIdentity.hash(startMinute, endMinute, moduleCode, type);
     }
 
     //@@author Chuayijing
@@ -237,6 +317,6 @@ public class Session implements Comparable<Session> {
      */
     @Override
     public int compareTo(Session other) {
-        return getDate().compareTo(other.getDate());
+        return Long.compare(getEpochDay(), other.getEpochDay());
     }
 }
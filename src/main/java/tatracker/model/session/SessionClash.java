@@ -0,0 +1,51 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A pair of sessions whose timings clash, with the session that comes first in chronological order first.
+ */
+public class SessionClash {
+
+    private final Session first;
+    private final Session second;
+
+    /**
+     * Both sessions must be present and not null.
+     */
+    public SessionClash(Session first, Session second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    public Session getFirst() {
+        return first;
+    }
+
+    public Session getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SessionClash // instanceof handles nulls
+                && first.equals(((SessionClash) other).first)
+                && second.equals(((SessionClash) other).second));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return first + " clashes with " + second;
+    }
+}
@@ -0,0 +1,75 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Tests that a {@code Session} takes place between two dates, inclusive.
+ * Session lists look up the sessions in the range from the day buckets of their date index,
+ * instead of testing every session.
+ */
+public class SessionDateRange implements IndexedSessionPredicate {
+
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+
+    /**
+     * Both dates must be present and not null, and {@code firstDate} must not be after {@code lastDate}.
+     */
+    public SessionDateRange(LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(firstDate, lastDate);
+        if (firstDate.isAfter(lastDate)) {
+            throw new IllegalArgumentException("The first date of a date range cannot be after its last date");
+        }
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * Returns the range with only the given {@code date}.
+     */
+    public static SessionDateRange onDay(LocalDate date) {
+        return new SessionDateRange(date, date);
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    @Override
+    public SessionQuery getQuery() {
+        return new SessionQuery(this, null, null, true);
+    }
+
+    @Override
+    public boolean test(Session session) {
+        long epochDay = session.getEpochDay();
+        return epochDay >= firstDate.toEpochDay() && epochDay <= lastDate.toEpochDay();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SessionDateRange // instanceof handles nulls
+                && firstDate.equals(((SessionDateRange) other).firstDate)
+                && lastDate.equals(((SessionDateRange) other).lastDate));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstDate, lastDate);
+    }
+
+    @Override
+    public String toString() {
+        return firstDate + " to " + lastDate;
+    }
+}
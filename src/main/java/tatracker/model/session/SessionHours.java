@@ -0,0 +1,139 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running totals of the hours of a list of sessions, by module code and by session type.
+ * <p>
+ * The totals are updated as sessions are added and removed, so reading any of them takes constant time.
+ * The total hours, overall and of each module, round each session up to the nearest hour, as claimed in the TSS.
+ * The hours of each session type are the whole hours in the exact total duration of its sessions instead,
+ * as shown in the statistics report, so two half-hour sessions make one hour, not two.
+ * <p>
+ * Only the list that owns the totals can update them. Others read them through a copy,
+ * which takes time in proportion to the number of modules with sessions, not the number of sessions.
+ *
+ * @see Session#getHoursToNearestHour()
+ */
+public class SessionHours {
+
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final Map<String, ModuleHours> hoursByModule = new HashMap<>();
+    private final long[] minutesByType = new long[SessionType.NUM_SESSION_TYPES];
+    private long totalHours = 0;
+
+    SessionHours() {}
+
+    /**
+     * Creates a copy of {@code other}, which later changes to {@code other} do not affect.
+     */
+    SessionHours(SessionHours other) {
+        other.hoursByModule.forEach((moduleCode, moduleHours) -> hoursByModule.put(moduleCode,
+                new ModuleHours(moduleHours)));
+        System.arraycopy(other.minutesByType, 0, minutesByType, 0, minutesByType.length);
+        totalHours = other.totalHours;
+    }
+
+    /**
+     * Adds the hours of {@code session} to the totals.
+     */
+    void add(Session session) {
+        long hours = session.getHoursToNearestHour();
+        long minutes = getMinutes(session);
+        int type = session.getSessionType().ordinal();
+
+        ModuleHours moduleHours = hoursByModule.computeIfAbsent(session.getModuleCode(), unused -> new ModuleHours());
+        moduleHours.minutesByType[type] += minutes;
+        moduleHours.totalHours += hours;
+        moduleHours.numSessions++;
+
+        minutesByType[type] += minutes;
+        totalHours += hours;
+    }
+
+    /**
+     * Removes the hours of {@code session}, which must have been added before, from the totals.
+     */
+    void remove(Session session) {
+        long hours = session.getHoursToNearestHour();
+        long minutes = getMinutes(session);
+        int type = session.getSessionType().ordinal();
+
+        ModuleHours moduleHours = hoursByModule.get(session.getModuleCode());
+        moduleHours.minutesByType[type] -= minutes;
+        moduleHours.totalHours -= hours;
+        if (--moduleHours.numSessions == 0) {
+            hoursByModule.remove(session.getModuleCode());
+        }
+
+        minutesByType[type] -= minutes;
+        totalHours -= hours;
+    }
+
+    private static long getMinutes(Session session) {
+        return (long) session.getEndEpochMinute() - session.getStartEpochMinute();
+    }
+
+    /**
+     * Resets every total to zero.
+     */
+    void clear() {
+        hoursByModule.clear();
+        Arrays.fill(minutesByType, 0);
+        totalHours = 0;
+    }
+
+    /**
+     * Returns the total hours of the sessions, each rounded up to the nearest hour.
+     */
+    public long getTotalHours() {
+        return totalHours;
+    }
+
+    /**
+     * Returns the whole hours in the total duration of the sessions of the given {@code type}.
+     */
+    public long getHours(SessionType type) {
+        return minutesByType[type.ordinal()] / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Returns the total hours of the sessions in the module with the given {@code moduleCode},
+     * each rounded up to the nearest hour.
+     */
+    public long getHours(String moduleCode) {
+        ModuleHours moduleHours = hoursByModule.get(moduleCode);
+        return moduleHours == null ? 0 : moduleHours.totalHours;
+    }
+
+    /**
+     * Returns the whole hours in the total duration of the sessions of the given {@code type}
+     * in the module with the given {@code moduleCode}.
+     */
+    public long getHours(String moduleCode, SessionType type) {
+        ModuleHours moduleHours = hoursByModule.get(moduleCode);
+        return moduleHours == null ? 0 : moduleHours.minutesByType[type.ordinal()] / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * The hours of the sessions of one module.
+     */
+    private static class ModuleHours {
+        private final long[] minutesByType = new long[SessionType.NUM_SESSION_TYPES];
+        private long totalHours = 0;
+        private int numSessions = 0;
+
+        private ModuleHours() {}
+
+        private ModuleHours(ModuleHours other) {
+            System.arraycopy(other.minutesByType, 0, minutesByType, 0, minutesByType.length);
+            totalHours = other.totalHours;
+            numSessions = other.numSessions;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+/**
+ * The identity key of a {@code Session}: its timing, module and type.
+ * Two sessions have equal keys if and only if {@code Session#isSameSession(Session)} is true for them.
+ */
+public final class SessionIdentity {
+
+    private final int startMinute;
+    private final int endMinute;
+    private final String moduleCode;
+    private final SessionType type;
+
+    SessionIdentity(int startMinute, int endMinute, String moduleCode, SessionType type) {
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.moduleCode = moduleCode;
+        this.type = type;
+    }
+
+    /**
+     * Returns the hash code of the identity with the given fields, which is also the hash code of its sessions.
+     */
+    static int hash(int startMinute, int endMinute, String moduleCode, SessionType type) {
+        int hash = 31 * startMinute + endMinute;
+        hash = 31 * hash + moduleCode.hashCode();
+        return 31 * hash + type.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SessionIdentity)) {
+            return false;
+        }
+
+        SessionIdentity otherIdentity = (SessionIdentity) other;
+        return startMinute == otherIdentity.startMinute
+                && endMinute == otherIdentity.endMinute
+                && moduleCode.equals(otherIdentity.moduleCode)
+                && type == otherIdentity.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(startMinute, endMinute, moduleCode, type);
+    }
+}
@@ -0,0 +1,162 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes over the module code, session type and date of sessions, for answering a {@code SessionQuery}.
+ * <p>
+ * Every session is given a slot, and each index maps a value to the bitmap of the slots of the sessions
+ * with that value. A query intersects the bitmaps of its fields, starting from the smallest,
+ * when sessions must match all of its fields, and takes their union otherwise.
+ * Only the sessions in the resulting bitmap are read.
+ * Slots are reused after their sessions are removed, so the bitmaps stay as small as the list.
+ * Sessions with the same timing are returned in the order that they were added in, like in the session lists.
+ */
+class SessionIndex {
+
+    /** The session in each slot, or null if the slot is free. */
+    private final List<Session> sessionsBySlot = new ArrayList<>();
+    /** The order that the session in each slot was added in. */
+    private final List<Long> addedOrderBySlot = new ArrayList<>();
+    private long addedCount = 0;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Session, Integer> slotsBySession = new IdentityHashMap<>();
+    private final BitSet allSlots = new BitSet();
+
+    private final Map<String, BitSet> slotsByModule = new HashMap<>();
+    private final Map<SessionType, BitSet> slotsByType = new EnumMap<>(SessionType.class);
+    private final NavigableMap<LocalDate, BitSet> slotsByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code session} to the indexes.
+     */
+    void add(Session session) {
+        int slot = freeSlots.isEmpty() ? sessionsBySlot.size() : freeSlots.pop();
+        if (slot == sessionsBySlot.size()) {
+            sessionsBySlot.add(session);
+            addedOrderBySlot.add(addedCount++);
+        } else {
+            sessionsBySlot.set(slot, session);
+            addedOrderBySlot.set(slot, addedCount++);
+        }
+        slotsBySession.put(session, slot);
+        allSlots.set(slot);
+
+        slotsByModule.computeIfAbsent(getModuleKey(session), unused -> new BitSet()).set(slot);
+        slotsByType.computeIfAbsent(session.getSessionType(), unused -> new BitSet()).set(slot);
+        slotsByDate.computeIfAbsent(session.getDate(), unused -> new BitSet()).set(slot);
+    }
+
+    /**
+     * Removes {@code session} itself, not just an equal session, from the indexes if it is there.
+     */
+    void remove(Session session) {
+        Integer slot = slotsBySession.remove(session);
+        if (slot == null) {
+            return;
+        }
+        sessionsBySlot.set(slot, null);
+        freeSlots.push(slot);
+        allSlots.clear(slot);
+
+        clearSlot(slotsByModule, getModuleKey(session), slot);
+        clearSlot(slotsByType, session.getSessionType(), slot);
+        clearSlot(slotsByDate, session.getDate(), slot);
+    }
+
+    /**
+     * Removes every session from the indexes.
+     */
+    void clear() {
+        sessionsBySlot.clear();
+        addedOrderBySlot.clear();
+        addedCount = 0;
+        freeSlots.clear();
+        slotsBySession.clear();
+        allSlots.clear();
+        slotsByModule.clear();
+        slotsByType.clear();
+        slotsByDate.clear();
+    }
+
+    /**
+     * Returns the sessions that {@code query} looks up, in chronological order.
+     */
+    List<Session> query(SessionQuery query) {
+        List<BitSet> bitmaps = new ArrayList<>();
+        query.getModuleCode().ifPresent(code -> bitmaps.add(slotsByModule.getOrDefault(code, new BitSet())));
+        query.getSessionType().ifPresent(type -> bitmaps.add(slotsByType.getOrDefault(type, new BitSet())));
+        query.getDateRange().ifPresent(range -> bitmaps.add(getSlots(range)));
+
+        BitSet slots = query.isMatchAll() ? intersect(bitmaps) : union(bitmaps);
+
+        List<Integer> matchingSlots = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            matchingSlots.add(slot);
+        }
+        matchingSlots.sort(Comparator.comparing(sessionsBySlot::get, SessionOrder.CHRONOLOGICAL)
+                .thenComparing(addedOrderBySlot::get));
+
+        List<Session> sessions = new ArrayList<>(matchingSlots.size());
+        matchingSlots.forEach(slot -> sessions.add(sessionsBySlot.get(slot)));
+        return sessions;
+    }
+
+    private BitSet getSlots(SessionDateRange range) {
+        BitSet slots = new BitSet();
+        slotsByDate.subMap(range.getFirstDate(), true, range.getLastDate(), true).values().forEach(slots::or);
+        return slots;
+    }
+
+    /**
+     * Returns the slots in all of the {@code bitmaps}, or every slot if there are none.
+     * The most selective bitmap is taken first, so each intersection can only get smaller.
+     */
+    private BitSet intersect(List<BitSet> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return (BitSet) allSlots.clone();
+        }
+
+        bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet slots = (BitSet) bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !slots.isEmpty(); i++) {
+            slots.and(bitmaps.get(i));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the slots in any of the {@code bitmaps}.
+     */
+    private static BitSet union(List<BitSet> bitmaps) {
+        BitSet slots = new BitSet();
+        bitmaps.forEach(slots::or);
+        return slots;
+    }
+
+    private static String getModuleKey(Session session) {
+        return session.getModuleCode().toUpperCase();
+    }
+
+    private static <K> void clearSlot(Map<K, BitSet> index, K key, int slot) {
+        BitSet slots = index.get(key);
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
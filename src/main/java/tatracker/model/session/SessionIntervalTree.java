@@ -0,0 +1,215 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An interval tree over the timings of sessions, for finding the sessions that clash with a given session.
+ * <p>
+ * This is a balanced (AVL) search tree ordered by start and end time, where every node also keeps
+ * the latest end time in its subtree. Whole subtrees that end before, or start after, the session being checked
+ * are skipped, so finding the {@code k} clashing sessions takes O(log n + k) time in practice,
+ * and O(k log n) time at worst.
+ * Sessions with exactly the same timing share a node.
+ */
+class SessionIntervalTree {
+
+    private Node root;
+
+    /**
+     * Adds {@code session} to the tree.
+     */
+    void add(Session session) {
+        root = add(root, session);
+    }
+
+    /**
+     * Removes {@code session} itself, not just an equal session, from the tree if it is there.
+     */
+    void remove(Session session) {
+        root = remove(root, session);
+    }
+
+    /**
+     * Removes every session from the tree.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the sessions in the tree that clash with {@code session}, in chronological order.
+     *
+     * @see Session#hasTimingClash(Session)
+     */
+    List<Session> getClashes(Session session) {
+        List<Session> clashes = new ArrayList<>();
+        collectClashes(root, session, clashes);
+        return clashes;
+    }
+
+    private static void collectClashes(Node node, Session session, List<Session> clashes) {
+        if (node == null || node.maxEnd < session.getStartEpochMinute()) {
+            return; // Every session in this subtree ends before the session starts
+        }
+
+        collectClashes(node.left, session, clashes);
+
+        if (node.start > session.getEndEpochMinute()) {
+            return; // This node and every node to its right start after the session ends
+        }
+
+        if (node.end >= session.getStartEpochMinute()) {
+            for (Session other : node.sessions) {
+                if (other.hasTimingClash(session)) {
+                    clashes.add(other);
+                }
+            }
+        }
+
+        collectClashes(node.right, session, clashes);
+    }
+
+    private static Node add(Node node, Session session) {
+        if (node == null) {
+            return new Node(session);
+        }
+
+        int comparison = compare(session, node);
+        if (comparison < 0) {
+            node.left = add(node.left, session);
+        } else if (comparison > 0) {
+            node.right = add(node.right, session);
+        } else {
+            node.sessions.add(session);
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private static Node remove(Node node, Session session) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = compare(session, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, session);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, session);
+        } else {
+            node.sessions.removeIf(other -> other == session);
+            if (!node.sessions.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            // Replace this node with the earliest node on its right
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeEarliest(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static Node removeEarliest(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeEarliest(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(Session session, Node node) {
+        int comparison = Integer.compare(session.getStartEpochMinute(), node.start);
+        return comparison != 0 ? comparison : Integer.compare(session.getEndEpochMinute(), node.end);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * The sessions with the same start and end time.
+     */
+    private static class Node {
+        private final int start;
+        private final int end;
+        private final List<Session> sessions = new ArrayList<>(1);
+
+        private Node left;
+        private Node right;
+        private int height;
+
+        /** The latest end time of the sessions in this subtree. */
+        private int maxEnd;
+
+        private Node(Session session) {
+            start = session.getStartEpochMinute();
+            end = session.getEndEpochMinute();
+            sessions.add(session);
+            update();
+        }
+
+        /**
+         * Recomputes the height and latest end time of this subtree from its children.
+         */
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The order that sessions are kept in by {@code UniqueSessionList} and {@code UniqueDoneSessionList}:
+ * by date, then start time, then end time.
+ * <p>
+ * The lists place each session by binary search as it is added or edited, so they are always in this order.
+ * Sessions with the same timing keep the order that they were added in.
+ */
+final class SessionOrder {
+
+    /** The date of a session is the date of its start time, so comparing the start times compares the dates too. */
+    static final Comparator<Session> CHRONOLOGICAL = Comparator.comparingInt(Session::getStartEpochMinute)
+            .thenComparingInt(Session::getEndEpochMinute);
+
+    private SessionOrder() {} // prevents instantiation
+
+    /**
+     * Returns the index in the sorted {@code sessions} that {@code session} should be inserted at,
+     * which is after every session with the same timing.
+     */
+    static int insertionIndex(List<Session> sessions, Session session) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CHRONOLOGICAL.compare(sessions.get(mid), session) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first session in the sorted {@code sessions} that is equal to {@code session},
+     * or -1 if there is no such session.
+     */
+    static int indexOf(List<Session> sessions, Session session) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CHRONOLOGICAL.compare(sessions.get(mid), session) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Sessions with the same timing may still differ in their other fields
+        for (int i = low; i < sessions.size() && CHRONOLOGICAL.compare(sessions.get(i), session) == 0; i++) {
+            if (sessions.get(i).equals(session)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code session} can replace the session at {@code index} in the sorted {@code sessions}
+     * without putting them out of order.
+     */
+    static boolean fitsAt(List<Session> sessions, int index, Session session) {
+        return (index == 0 || CHRONOLOGICAL.compare(sessions.get(index - 1), session) <= 0)
+                && (index == sessions.size() - 1 || CHRONOLOGICAL.compare(session, sessions.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns a copy of {@code sessions} in chronological order.
+     */
+    static List<Session> sorted(List<Session> sessions) {
+        List<Session> copy = new ArrayList<>(sessions);
+        copy.sort(CHRONOLOGICAL);
+        return copy;
+    }
+}
@@ -3,20 +3,30 @@
 package tatracker.model.session;
 
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import tatracker.commons.util.CollectionUtil;
 
 
 /**
- * Tests that a {@code Session}'s arguments matches any of the keywords given.
+ * Tests that a {@code Session}'s arguments matches any of the keywords given,
+ * or all of them if {@code isMatchAll} is set.
  */
-public class SessionPredicate implements Predicate<Session> {
+public class SessionPredicate implements IndexedSessionPredicate {
+
+    //@@author potatocombat
+    public static final String MATCH_ANY = "any";
+    public static final String MATCH_ALL = "all";
+    public static final String CONSTRAINTS_MATCH = "Sessions can only match " + MATCH_ANY + " or " + MATCH_ALL
+            + " of the filters";
+
+    //@@author Chuayijing
 
     private LocalDate date;
     private String moduleCode;
     private SessionType sessionType;
+    private boolean isMatchAll;
 
     public SessionPredicate() {}
 
@@ -27,6 +37,7 @@ public class SessionPredicate implements Predicate<Session> {
         setDate(toCopy.date);
         setModuleCode(toCopy.moduleCode);
         setSessionType(toCopy.sessionType);
+        setMatchAll(toCopy.isMatchAll);
     }
 
     /**
@@ -45,7 +56,7 @@ public class SessionPredicate implements Predicate<Session> {
     }
 
     public void setModuleCode(String moduleCode) {
-        this.moduleCode = moduleCode.toUpperCase();
+        this.moduleCode = moduleCode == null ? null : moduleCode.toUpperCase();
     }
 
     public Optional<String> getModuleCode() {
@@ -60,15 +71,45 @@ public class SessionPredicate implements Predicate<Session> {
         return Optional.ofNullable(sessionType);
     }
 
+    //@@author potatocombat
+    /**
+     * Sets whether sessions must match all of the given fields, instead of any of them.
+     */
+    public void setMatchAll(boolean isMatchAll) {
+        this.isMatchAll = isMatchAll;
+    }
+
+    public boolean isMatchAll() {
+        return isMatchAll;
+    }
+
+    /**
+     * Returns true if {@code test} is {@value MATCH_ANY} or {@value MATCH_ALL}, ignoring case.
+     */
+    public static boolean isValidMatch(String test) {
+        return MATCH_ANY.equalsIgnoreCase(test) || MATCH_ALL.equalsIgnoreCase(test);
+    }
+
+    @Override
+    public SessionQuery getQuery() {
+        return new SessionQuery(getDate().map(SessionDateRange::onDay).orElse(null),
+                moduleCode, sessionType, isMatchAll);
+    }
+
     @Override
     public boolean test(Session session) {
+        if (isMatchAll) {
+            return (date == null || session.getDate().equals(date))
+                    && (moduleCode == null || session.getModuleCode().equals(moduleCode))
+                    && (sessionType == null || session.getSessionType().equals(sessionType));
+        }
 
         return session.getDate().equals(date)
                 || session.getModuleCode().equals(moduleCode)
                 || session.getSessionType().equals(sessionType);
     }
 
-
+    //@@author Chuayijing
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,8 +119,9 @@ public class SessionPredicate implements Predicate<Session> {
             return false;
         }
         SessionPredicate otherPredicate = (SessionPredicate) other;
-        return date.equals(otherPredicate.date)
-                && moduleCode.equals(otherPredicate.moduleCode)
-                && sessionType.equals(otherPredicate.sessionType);
+        return Objects.equals(date, otherPredicate.date)
+                && Objects.equals(moduleCode, otherPredicate.moduleCode)
+                && sessionType == otherPredicate.sessionType
+                && isMatchAll == otherPredicate.isMatchAll;
     }
 }
@@ -0,0 +1,71 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A lookup of sessions by date range, module code and session type in the indexes of a session list.
+ * <p>
+ * A query either matches the sessions that match all of its given fields, or the sessions that match
+ * any of its given fields. A query with no fields matches every session when it matches all of its fields,
+ * and no session otherwise.
+ * Module codes are matched ignoring case.
+ */
+public final class SessionQuery {
+
+    private final SessionDateRange dateRange;
+    private final String moduleCode;
+    private final SessionType sessionType;
+    private final boolean isMatchAll;
+
+    /**
+     * Any of {@code dateRange}, {@code moduleCode} and {@code sessionType} may be null if it is not given.
+     */
+    public SessionQuery(SessionDateRange dateRange, String moduleCode, SessionType sessionType, boolean isMatchAll) {
+        this.dateRange = dateRange;
+        this.moduleCode = moduleCode == null ? null : moduleCode.toUpperCase();
+        this.sessionType = sessionType;
+        this.isMatchAll = isMatchAll;
+    }
+
+    public Optional<SessionDateRange> getDateRange() {
+        return Optional.ofNullable(dateRange);
+    }
+
+    public Optional<String> getModuleCode() {
+        return Optional.ofNullable(moduleCode);
+    }
+
+    public Optional<SessionType> getSessionType() {
+        return Optional.ofNullable(sessionType);
+    }
+
+    /**
+     * Returns true if sessions must match all of the given fields, instead of any of them.
+     */
+    public boolean isMatchAll() {
+        return isMatchAll;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SessionQuery)) {
+            return false;
+        }
+        SessionQuery otherQuery = (SessionQuery) other;
+        return Objects.equals(dateRange, otherQuery.dateRange)
+                && Objects.equals(moduleCode, otherQuery.moduleCode)
+                && sessionType == otherQuery.sessionType
+                && isMatchAll == otherQuery.isMatchAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dateRange, moduleCode, sessionType, isMatchAll);
+    }
+}
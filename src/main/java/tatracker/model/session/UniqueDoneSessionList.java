@@ -4,10 +4,13 @@ package tatracker.model.session;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+import static tatracker.model.util.IdentityUtil.indexByIdentity;
 
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,13 @@ import tatracker.model.session.exceptions.SessionNotFoundException;
  * A list of done sessions that enforces uniqueness between its elements and does not allow nulls.
  * A done session is considered unique by comparing using {@code Session#isSameSession(Session)}.
  *
+ * The list is kept in chronological order as sessions are added and edited,
+ * so reading it does not need to sort it again.
+ * The sessions are also indexed by {@code SessionIdentity}, so checking for a duplicate session takes constant time.
+ * The list also keeps the sessions that match its current filter in {@code FilteredSessions},
+ * which looks them up by module code, type and date when the filter is an {@code IndexedSessionPredicate}.
+ * The hours of the sessions are totalled in {@code SessionHours} as they change, so reading them takes constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Session#isSameSession(Session)
@@ -29,12 +39,21 @@ public class UniqueDoneSessionList implements Iterable<Session> {
     private final ObservableList<Session> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The sessions in {@code internalList}, keyed by identity. Must be updated on every change to it. */
+    private final Map<SessionIdentity, Session> sessionsByIdentity = new HashMap<>();
+
+    /** The sessions in {@code internalList} that match its filter. Must be updated on every change to it. */
+    private final FilteredSessions filteredSessions = new FilteredSessions(internalList);
+
+    /** The hours of the sessions in {@code internalList}. Must be updated on every change to it. */
+    private final SessionHours hours = new SessionHours();
+
     /**
      * Returns true if the list contains an equivalent session as the given argument.
      */
     public boolean contains(Session toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSession);
+        return sessionsByIdentity.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -60,7 +79,10 @@ public class UniqueDoneSessionList implements Iterable<Session> {
         if (contains(toAdd)) {
             throw new DuplicateSessionException();
         }
-        internalList.add(toAdd);
+        internalList.add(SessionOrder.insertionIndex(internalList, toAdd), toAdd);
+        sessionsByIdentity.put(toAdd.getIdentity(), toAdd);
+        filteredSessions.add(toAdd);
+        hours.add(toAdd);
     }
 
     /**
@@ -71,7 +93,7 @@ public class UniqueDoneSessionList implements Iterable<Session> {
     public void setSession(Session target, Session editedSession) {
         requireAllNonNull(target, editedSession);
 
-        int index = internalList.indexOf(target);
+        int index = SessionOrder.indexOf(internalList, target);
         if (index == -1) {
             throw new SessionNotFoundException();
         }
@@ -80,7 +102,19 @@ public class UniqueDoneSessionList implements Iterable<Session> {
             throw new DuplicateSessionException();
         }
 
-        internalList.set(index, editedSession);
+        sessionsByIdentity.remove(target.getIdentity());
+        sessionsByIdentity.put(editedSession.getIdentity(), editedSession);
+        filteredSessions.set(internalList.get(index), editedSession);
+        hours.remove(internalList.get(index));
+        hours.add(editedSession);
+
+        if (SessionOrder.fitsAt(internalList, index, editedSession)) {
+            internalList.set(index, editedSession);
+            return;
+        }
+
+        internalList.remove(index);
+        internalList.add(SessionOrder.insertionIndex(internalList, editedSession), editedSession);
     }
 
     /**
@@ -89,9 +123,14 @@ public class UniqueDoneSessionList implements Iterable<Session> {
      */
     public void remove(Session toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = SessionOrder.indexOf(internalList, toRemove);
+        if (index == -1) {
             throw new SessionNotFoundException();
         }
+        Session removed = internalList.remove(index);
+        sessionsByIdentity.remove(toRemove.getIdentity());
+        filteredSessions.remove(removed);
+        hours.remove(removed);
     }
 
     /**
@@ -103,12 +142,19 @@ public class UniqueDoneSessionList implements Iterable<Session> {
             throw new SessionNotFoundException();
         }
 
-        internalList.remove(n);
+        Session removed = internalList.remove(n);
+        sessionsByIdentity.remove(removed.getIdentity());
+        filteredSessions.remove(removed);
+        hours.remove(removed);
     }
 
     public void setSessions(UniqueDoneSessionList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        sessionsByIdentity.clear();
+        sessionsByIdentity.putAll(replacement.sessionsByIdentity);
+        filteredSessions.reset();
+        countHours();
     }
 
     /**
@@ -117,24 +163,95 @@ public class UniqueDoneSessionList implements Iterable<Session> {
      */
     public void setSessions(List<Session> sessions) {
         requireAllNonNull(sessions);
-        if (!sessionsAreUnique(sessions)) {
+        Map<SessionIdentity, Session> replacementsByIdentity = indexByIdentity(sessions);
+        if (replacementsByIdentity.size() != sessions.size()) {
             throw new DuplicateSessionException();
         }
 
-        internalList.setAll(sessions);
+        internalList.setAll(SessionOrder.sorted(sessions));
+        sessionsByIdentity.clear();
+        sessionsByIdentity.putAll(replacementsByIdentity);
+        filteredSessions.reset();
+        countHours();
     }
 
     /**
      * Returns the session list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Session> asUnmodifiableObservableList() {
-
-        FXCollections.sort(internalList, Comparator.comparing(Session::getDate)
-                .thenComparing(Session::getStartDateTime)
-                .thenComparing(Session::getEndDateTime));
         return internalUnmodifiableList;
     }
 
+    //@@author potatocombat
+    /**
+     * Recounts {@code hours} from the sessions in the list.
+     */
+    private void countHours() {
+        hours.clear();
+        internalList.forEach(hours::add);
+    }
+
+    /**
+     * Returns a copy of the hours of the sessions in the list, which later changes to the list do not affect.
+     */
+    public SessionHours copyHours() {
+        return new SessionHours(hours);
+    }
+
+    /**
+     * Returns the total hours of the sessions in the list, each rounded up to the nearest hour.
+     */
+    public long getTotalHours() {
+        return hours.getTotalHours();
+    }
+
+    /**
+     * Returns the total hours of the sessions of the module with the given {@code moduleCode},
+     * each rounded up to the nearest hour.
+     */
+    public long getTotalHours(String moduleCode) {
+        requireNonNull(moduleCode);
+        return hours.getHours(moduleCode);
+    }
+
+    /**
+     * Returns the whole hours in the total duration of the sessions of the given {@code type}.
+     * Unlike claims, each session is not rounded up to the nearest hour first.
+     */
+    public long getTotalHours(SessionType type) {
+        requireNonNull(type);
+        return hours.getHours(type);
+    }
+
+    /**
+     * Returns the whole hours in the total duration of the sessions of the given {@code type} in the module
+     * with the given {@code moduleCode}.
+     * Unlike claims, each session is not rounded up to the nearest hour first.
+     */
+    public long getTotalHours(String moduleCode, SessionType type) {
+        requireAllNonNull(moduleCode, type);
+        return hours.getHours(moduleCode, type);
+    }
+
+    /**
+     * Shows only the sessions that match {@code filter} in the filtered session list.
+     * If {@code filter} is an {@code IndexedSessionPredicate}, only the sessions that its query looks up are tested.
+     */
+    public void setFilter(Predicate<Session> filter) {
+        requireNonNull(filter);
+        filteredSessions.setFilter(filter);
+    }
+
+    /**
+     * Returns the sessions that match the current filter as an unmodifiable {@code ObservableList},
+     * in chronological order.
+     */
+    public ObservableList<Session> asUnmodifiableFilteredList() {
+        return filteredSessions.asUnmodifiableObservableList();
+    }
+
+    //@@author fatin99
+
     @Override
     public Iterator<Session> iterator() {
         return internalList.iterator();
@@ -151,18 +268,4 @@ public class UniqueDoneSessionList implements Iterable<Session> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code sessions} contains only unique sessions.
-     */
-    private boolean sessionsAreUnique(List<Session> sessions) {
-        for (int i = 0; i < sessions.size() - 1; i++) {
-            for (int j = i + 1; j < sessions.size(); j++) {
-                if (sessions.get(i).isSameSession(sessions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -4,11 +4,17 @@ package tatracker.model.session;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+import static tatracker.model.util.IdentityUtil.indexByIdentity;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -25,6 +31,15 @@ import tatracker.model.session.exceptions.SessionNotFoundException;
  * the removal of a session uses Session#equals(Object) so as to ensure that
  * the session with exactly the same fields will be removed.
  *
+ * The list is kept in chronological order as sessions are added and edited,
+ * so reading it does not need to sort it again.
+ * The sessions are also indexed by {@code SessionIdentity}, so checking for a duplicate session takes constant time,
+ * and by timing in a {@code SessionIntervalTree}, so finding the sessions that clash with a session
+ * does not need to check every session.
+ *
+ * The list also keeps the sessions that match its current filter in {@code FilteredSessions},
+ * which looks them up by module code, type and date when the filter is an {@code IndexedSessionPredicate}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Session#isSameSession(Session)
@@ -35,12 +50,21 @@ public class UniqueSessionList implements Iterable<Session> {
     private final ObservableList<Session> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The sessions in {@code internalList}, keyed by identity. Must be updated on every change to it. */
+    private final Map<SessionIdentity, Session> sessionsByIdentity = new HashMap<>();
+
+    /** The sessions in {@code internalList}, by timing. Must be updated on every change to it. */
+    private final SessionIntervalTree sessionsByTiming = new SessionIntervalTree();
+
+    /** The sessions in {@code internalList} that match its filter. Must be updated on every change to it. */
+    private final FilteredSessions filteredSessions = new FilteredSessions(internalList);
+
     /**
      * Returns true if the list contains an equivalent session as the given argument.
      */
     public boolean contains(Session toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSession);
+        return sessionsByIdentity.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -63,10 +87,13 @@ public class UniqueSessionList implements Iterable<Session> {
      */
     public void add(Session toAdd) {
         requireNonNull(toAdd);
-        // if (contains(toAdd)) {
-        //     throw new DuplicateSessionException();
-        // }
-        internalList.add(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateSessionException();
+        }
+        internalList.add(SessionOrder.insertionIndex(internalList, toAdd), toAdd);
+        sessionsByIdentity.put(toAdd.getIdentity(), toAdd);
+        sessionsByTiming.add(toAdd);
+        filteredSessions.add(toAdd);
     }
 
     /**
@@ -77,7 +104,7 @@ public class UniqueSessionList implements Iterable<Session> {
     public void setSession(Session target, Session editedSession) {
         requireAllNonNull(target, editedSession);
 
-        int index = internalList.indexOf(target);
+        int index = SessionOrder.indexOf(internalList, target);
         if (index == -1) {
             throw new SessionNotFoundException();
         }
@@ -86,7 +113,20 @@ public class UniqueSessionList implements Iterable<Session> {
             throw new DuplicateSessionException();
         }
 
-        internalList.set(index, editedSession);
+        Session replaced = internalList.get(index);
+        sessionsByIdentity.remove(target.getIdentity());
+        sessionsByIdentity.put(editedSession.getIdentity(), editedSession);
+        sessionsByTiming.remove(replaced);
+        sessionsByTiming.add(editedSession);
+        filteredSessions.set(replaced, editedSession);
+
+        if (SessionOrder.fitsAt(internalList, index, editedSession)) {
+            internalList.set(index, editedSession);
+            return;
+        }
+
+        internalList.remove(index);
+        internalList.add(SessionOrder.insertionIndex(internalList, editedSession), editedSession);
     }
 
     /**
@@ -95,9 +135,14 @@ public class UniqueSessionList implements Iterable<Session> {
      */
     public void remove(Session toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = SessionOrder.indexOf(internalList, toRemove);
+        if (index == -1) {
             throw new SessionNotFoundException();
         }
+        Session removed = internalList.remove(index);
+        sessionsByIdentity.remove(toRemove.getIdentity());
+        sessionsByTiming.remove(removed);
+        filteredSessions.remove(removed);
     }
 
     /**
@@ -109,12 +154,18 @@ public class UniqueSessionList implements Iterable<Session> {
             throw new SessionNotFoundException();
         }
 
-        internalList.remove(n);
+        Session removed = internalList.remove(n);
+        sessionsByIdentity.remove(removed.getIdentity());
+        sessionsByTiming.remove(removed);
+        filteredSessions.remove(removed);
     }
 
     public void setSessions(UniqueSessionList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        sessionsByIdentity.clear();
+        sessionsByIdentity.putAll(replacement.sessionsByIdentity);
+        indexSessions();
     }
 
     /**
@@ -123,24 +174,94 @@ public class UniqueSessionList implements Iterable<Session> {
      */
     public void setSessions(List<Session> sessions) {
         requireAllNonNull(sessions);
-        if (!sessionsAreUnique(sessions)) {
+        Map<SessionIdentity, Session> replacementsByIdentity = indexByIdentity(sessions);
+        if (replacementsByIdentity.size() != sessions.size()) {
             throw new DuplicateSessionException();
         }
 
-        internalList.setAll(sessions);
+        internalList.setAll(SessionOrder.sorted(sessions));
+        sessionsByIdentity.clear();
+        sessionsByIdentity.putAll(replacementsByIdentity);
+        indexSessions();
+    }
+
+    /**
+     * Rebuilds {@code sessionsByTiming} and {@code filteredSessions} from the sessions in the list.
+     */
+    private void indexSessions() {
+        sessionsByTiming.clear();
+        internalList.forEach(sessionsByTiming::add);
+        filteredSessions.reset();
+    }
+
+    /**
+     * Shows only the sessions that match {@code filter} in the filtered session list.
+     * If {@code filter} is an {@code IndexedSessionPredicate}, only the sessions that its query looks up are tested.
+     */
+    public void setFilter(Predicate<Session> filter) {
+        requireNonNull(filter);
+        filteredSessions.setFilter(filter);
+    }
+
+    /**
+     * Returns the sessions in the list, other than {@code session} itself, whose timings clash with it.
+     * The sessions are in chronological order.
+     *
+     * @see Session#hasTimingClash(Session)
+     */
+    public List<Session> getClashingSessions(Session session) {
+        requireNonNull(session);
+        List<Session> clashes = sessionsByTiming.getClashes(session);
+        clashes.removeIf(session::isSameSession);
+        return clashes;
+    }
+
+    /**
+     * Returns every pair of sessions in the list whose timings clash, in chronological order.
+     * <p>
+     * The sessions are swept through in chronological order while keeping the sessions that have not ended yet,
+     * so this takes O(n log n) time, plus the time taken to list the clashes.
+     */
+    public List<SessionClash> getClashes() {
+        List<SessionClash> clashes = new ArrayList<>();
+        PriorityQueue<Session> ongoingSessions =
+                new PriorityQueue<>(Comparator.comparingInt(Session::getEndEpochMinute));
+
+        for (Session session : internalList) {
+            while (!ongoingSessions.isEmpty()
+                    && ongoingSessions.peek().getEndEpochMinute() < session.getStartEpochMinute()) {
+                ongoingSessions.poll();
+            }
+
+            List<Session> earlierClashes = new ArrayList<>();
+            for (Session earlier : ongoingSessions) {
+                if (earlier.hasTimingClash(session)) {
+                    earlierClashes.add(earlier);
+                }
+            }
+            earlierClashes.sort(SessionOrder.CHRONOLOGICAL);
+            earlierClashes.forEach(earlier -> clashes.add(new SessionClash(earlier, session)));
+
+            ongoingSessions.add(session);
+        }
+        return clashes;
     }
 
     /**
      * Returns the session list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Session> asUnmodifiableObservableList() {
-
-        FXCollections.sort(internalList, Comparator.comparing(Session::getDate)
-                                                    .thenComparing(Session::getStartDateTime)
-                                                    .thenComparing(Session::getEndDateTime));
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the sessions that match the current filter as an unmodifiable {@code ObservableList},
+     * in chronological order.
+     */
+    public ObservableList<Session> asUnmodifiableFilteredList() {
+        return filteredSessions.asUnmodifiableObservableList();
+    }
+
     /**
      * Returns all sessions of type {@code type}.
      * @param type The type of session to return.
@@ -165,9 +286,9 @@ public class UniqueSessionList implements Iterable<Session> {
      * @return the total duration of all sessions in this session list.
      */
     public Duration getTotalDuration() {
-        return internalList.stream()
-                .map(Session::getDurationToNearestHour)
-                .reduce(Duration.ZERO, Duration::plus);
+        return Duration.ofHours(internalList.stream()
+                .mapToLong(Session::getHoursToNearestHour)
+                .sum());
     }
 
     @Override
@@ -186,18 +307,4 @@ public class UniqueSessionList implements Iterable<Session> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code sessions} contains only unique sessions.
-     */
-    private boolean sessionsAreUnique(List<Session> sessions) {
-        for (int i = 0; i < sessions.size() - 1; i++) {
-            for (int j = i + 1; j < sessions.size(); j++) {
-                if (sessions.get(i).isSameSession(sessions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,12 @@
+//@@author potatocombat
+
+package tatracker.model.session.exceptions;
+
+/**
+ * Signals that a {@code Session} would take place outside the range of dates and times that it can hold.
+ */
+public class SessionOutOfRangeException extends IllegalArgumentException {
+    public SessionOutOfRangeException(String message) {
+        super(message);
+    }
+}
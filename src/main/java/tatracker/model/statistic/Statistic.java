@@ -2,29 +2,35 @@
 
 package tatracker.model.statistic;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.session.SessionType;
-import tatracker.model.session.UniqueSessionList;
 import tatracker.model.student.Rating;
 import tatracker.model.student.Student;
-import tatracker.model.student.UniqueStudentList;
-import tatracker.ui.StatisticWindow;
 
 /**
  * A data container that stores the statistic of TA-Tracker.
  * The UI classes will read statistics from this class to display statistics data in the Statistics window.
+ * <p>
+ * The statistics are read from totals that the ta-tracker keeps up to date as it changes,
+ * so creating a {@code Statistic} does not go through every session or student.
  */
 public class Statistic {
 
     public static final String ALL_MODULES_STRING = "ALL MODULES";
 
+    //@@author potatocombat
+    public static final String CONSTRAINTS_NUM_STUDENTS = "The number of students must be a positive integer";
+
+    /** The number of lowest rated students that are shown if no number is given. */
+    public static final int DEFAULT_NUM_STUDENTS = 5;
+
+    //@@author Eclmist
+
     public final int[] numHoursPerCategory = new int [SessionType.NUM_SESSION_TYPES];
     public final int[] studentRatingBinValues = new int[Rating.RANGE];
-    public final RatedStudent[] worstStudents = new RatedStudent[StatisticWindow.NUM_STUDENTS_TO_DISPLAY];
+    public final RatedStudent[] worstStudents = new RatedStudent[DEFAULT_NUM_STUDENTS];
     public final String targetModuleCode;
 
     private final ReadOnlyTaTracker taTracker;
@@ -32,33 +38,26 @@ public class Statistic {
     public Statistic(ReadOnlyTaTracker taTracker, String targetModuleCode) {
 
         this.taTracker = taTracker;
+        this.targetModuleCode = targetModuleCode != null ? targetModuleCode : ALL_MODULES_STRING;
 
-        UniqueSessionList fList = new UniqueSessionList();
-        UniqueStudentList sList = new UniqueStudentList();
-
-        fList.setSessions(taTracker.getDoneSessionList());
-        sList.setStudents(taTracker.getCompleteStudentList());
-
-        // If targetModule is not null, filter by target module.
-        if (targetModuleCode != null) {
-            this.targetModuleCode = targetModuleCode;
-            fList = fList.getSessionsOfModuleCode(targetModuleCode);
-        } else {
-            this.targetModuleCode = ALL_MODULES_STRING;
-        }
-
+        //@@author potatocombat
         for (int i = 0; i < numHoursPerCategory.length; ++i) {
-            this.numHoursPerCategory[i] = fList.getSessionsOfType(SessionType.getSessionTypeById(i))
-                    .getTotalDuration().toHoursPart();
+            SessionType type = SessionType.getSessionTypeById(i);
+            // If targetModule is not null, filter by target module.
+            long hours = targetModuleCode != null
+                    ? taTracker.getDoneSessionHours(targetModuleCode, type)
+                    : taTracker.getDoneSessionHours(type);
+            this.numHoursPerCategory[i] = (int) hours;
         }
 
         for (int i = 0; i < studentRatingBinValues.length; ++i) {
-            this.studentRatingBinValues[i] = sList.getStudentsOfRating(new Rating(Rating.MIN_RATING + i)).size();
+            this.studentRatingBinValues[i] = taTracker.getNumStudentsWithRating(i + Rating.MIN_RATING);
         }
 
-        // Setup worst students
-        List<Student> students = new ArrayList<>(taTracker.getCompleteStudentList());
-        students.sort(Comparator.comparingInt((Student a) -> a.getRating().value));
+        // Setup worst students, ranked within the target module if there is one
+        List<Student> students = targetModuleCode != null
+                ? taTracker.getLowestRatedStudents(targetModuleCode, worstStudents.length)
+                : taTracker.getLowestRatedStudents(worstStudents.length);
 
         for (int i = 0; i < worstStudents.length; ++i) {
             if (i < students.size()) {
@@ -69,6 +68,7 @@ public class Statistic {
         }
     }
 
+    //@@author Eclmist
     public int getTotalHours() {
         int total = 0;
         for (int h : this.numHoursPerCategory) {
@@ -10,13 +10,14 @@ import java.util.Objects;
 import java.util.Set;
 
 import tatracker.model.tag.Tag;
+import tatracker.model.util.Identifiable;
 
 
 /**
  * Represents a Student in the Ta-Tracker.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Student {
+public class Student implements Identifiable<Matric> {
 
     // Identity fields
     private final Matric matric;
@@ -86,6 +87,15 @@ public class Student {
 
     //@@author fatin99
 
+    //@@author potatocombat
+
+    @Override
+    public Matric getIdentity() {
+        return matric;
+    }
+
+    //@@author fatin99
+
     /**
      * Returns true if both students of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two students.
@@ -4,10 +4,16 @@ package tatracker.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static tatracker.commons.util.CollectionUtil.requireAllNonNull;
+import static tatracker.model.util.IdentityUtil.indexByIdentity;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +28,10 @@ import tatracker.model.student.exceptions.StudentNotFoundException;
  * updated is unique in terms of identity in the UniqueStudentList. However, the removal of a student uses
  * Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  * <p>
+ * The students are also indexed by matric number, so looking up a student takes constant time.
+ * Only lookups do: removing or replacing a single student still searches the list for its position,
+ * so several students should be removed together with {@link #removeAll(Collection)}.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -32,6 +42,9 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The students in {@code internalList}, keyed by matric number. Must be updated on every change to it. */
+    private final Map<Matric, Student> studentsByMatric = new HashMap<>();
+
     //@@author aakanksha-rai
 
     private Comparator<Student> alphabetically = Comparator.comparing(Student::getName);
@@ -52,7 +65,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByMatric.containsKey(toCheck.getMatric());
     }
 
     /**
@@ -60,7 +73,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean contains(Matric toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(student -> student.getMatric().equals(toCheck));
+        return studentsByMatric.containsKey(toCheck);
     }
 
     public Student get(int n) {
@@ -73,12 +86,7 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns null if no such student exists.
      */
     public Student get(Matric studentId) {
-        for (Student student : internalList) {
-            if (student.getMatric().equals(studentId)) {
-                return student;
-            }
-        }
-        return null; // Did not find a student with the given student id
+        return studentsByMatric.get(studentId);
     }
 
     /**
@@ -91,19 +99,61 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        studentsByMatric.put(toAdd.getMatric(), toAdd);
+    }
+
+    //@@author potatocombat
+
+    /**
+     * Inserts a student into the list at the given {@code index}.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        internalList.add(index, toAdd);
+        studentsByMatric.put(toAdd.getMatric(), toAdd);
     }
 
+    //@@author fatin99
+
     /**
      * Removes the equivalent student from the list.
      * The student must exist in the list.
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(studentsByMatric.get(toRemove.getMatric())) || !internalList.remove(toRemove)) {
             throw new StudentNotFoundException();
         }
+        studentsByMatric.remove(toRemove.getMatric());
     }
 
+    //@@author potatocombat
+
+    /**
+     * Removes the students with the given matric numbers from the list, in a single pass over it.
+     * Every student must exist in the list.
+     */
+    public void removeAll(Collection<Matric> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Student> removed = new HashSet<>();
+        for (Matric matric : toRemove) {
+            Student student = studentsByMatric.get(matric);
+            if (student == null) {
+                throw new StudentNotFoundException();
+            }
+            removed.add(student);
+        }
+
+        internalList.removeAll(removed);
+        toRemove.forEach(studentsByMatric::remove);
+    }
+
+    //@@author fatin99
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -122,11 +172,15 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.set(index, editedStudent);
+        studentsByMatric.remove(target.getMatric());
+        studentsByMatric.put(editedStudent.getMatric(), editedStudent);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        studentsByMatric.clear();
+        studentsByMatric.putAll(replacement.studentsByMatric);
     }
 
     /**
@@ -135,11 +189,14 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        Map<Matric, Student> replacementsByMatric = indexByIdentity(students);
+        if (replacementsByMatric.size() != students.size()) {
             throw new DuplicateStudentException();
         }
 
         internalList.setAll(students);
+        studentsByMatric.clear();
+        studentsByMatric.putAll(replacementsByMatric);
     }
 
     //@@author Eclmist
@@ -208,18 +265,4 @@ public class UniqueStudentList implements Iterable<Student> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
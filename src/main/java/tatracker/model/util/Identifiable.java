@@ -0,0 +1,20 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+/**
+ * An element of a {@code Unique*List} that has an identity key.
+ * Two elements are the same element, as far as their list is concerned, if and only if their keys are equal.
+ * <p>
+ * The key must have {@code equals} and {@code hashCode} methods that agree with each other,
+ * so that the lists can find duplicates by hashing.
+ *
+ * @param <K> the type of the identity key.
+ */
+public interface Identifiable<K> {
+
+    /**
+     * Returns the key that identifies this element.
+     */
+    K getIdentity();
+}
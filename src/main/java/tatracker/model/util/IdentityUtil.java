@@ -0,0 +1,27 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexes {@code Identifiable} elements by their identity keys, so that duplicates can be found in linear time.
+ */
+public class IdentityUtil {
+
+    private IdentityUtil() {} // prevents instantiation
+
+    /**
+     * Returns {@code elements} keyed by their identities.
+     * The map is smaller than {@code elements} if it contains elements with the same identity.
+     */
+    public static <K, T extends Identifiable<K>> Map<K, T> indexByIdentity(Collection<T> elements) {
+        Map<K, T> index = new HashMap<>();
+        for (T element : elements) {
+            index.put(element.getIdentity(), element);
+        }
+        return index;
+    }
+}
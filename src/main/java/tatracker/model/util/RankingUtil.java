@@ -0,0 +1,65 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the lowest ranked elements of a collection without sorting all of it.
+ */
+public class RankingUtil {
+
+    private RankingUtil() {} // prevents instantiation
+
+    /**
+     * Returns up to {@code k} of the lowest {@code elements} by {@code comparator}, from the lowest up.
+     * Elements that compare equal are returned in the order that they are iterated in.
+     * <p>
+     * Only the {@code k} lowest elements seen so far are kept, in a heap with the highest of them on top,
+     * so this takes O(n log k) time and O(min(n, k)) space for {@code n} elements.
+     */
+    public static <T> List<T> getLowest(Iterable<T> elements, int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+
+        Comparator<Ranked<T>> order = Comparator.<Ranked<T>, T>comparing(ranked -> ranked.element, comparator)
+                .thenComparingLong(ranked -> ranked.position);
+        // k can be far larger than the number of elements, so the heap grows as needed instead of taking k slots
+        PriorityQueue<Ranked<T>> lowest = new PriorityQueue<>(order.reversed());
+
+        long position = 0;
+        for (T element : elements) {
+            Ranked<T> ranked = new Ranked<>(element, position++);
+            if (lowest.size() < k) {
+                lowest.add(ranked);
+            } else if (order.compare(ranked, lowest.peek()) < 0) {
+                lowest.poll();
+                lowest.add(ranked);
+            }
+        }
+
+        List<Ranked<T>> ranking = new ArrayList<>(lowest);
+        ranking.sort(order);
+
+        List<T> result = new ArrayList<>(ranking.size());
+        ranking.forEach(ranked -> result.add(ranked.element));
+        return result;
+    }
+
+    /**
+     * An element with the position that it was iterated in, which breaks ties between equal elements.
+     */
+    private static class Ranked<T> {
+        private final T element;
+        private final long position;
+
+        private Ranked(T element, long position) {
+            this.element = element;
+            this.position = position;
+        }
+    }
+}
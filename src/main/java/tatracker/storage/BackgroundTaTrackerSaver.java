@@ -0,0 +1,109 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.model.TaTrackerSnapshot;
+
+/**
+ * Saves TaTracker data on a single background thread.
+ * <p>
+ * Only the latest snapshot submitted is kept. A snapshot is written at most {@code maxLatencyMillis}
+ * after the first submission that follows the previous write, so bursts of saves result in one write.
+ */
+class BackgroundTaTrackerSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTaTrackerSaver.class);
+
+    private final TaTrackerStorage taTrackerStorage;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService writer;
+    private final AtomicReference<TaTrackerSnapshot> pending = new AtomicReference<>();
+
+    private volatile BiConsumer<TaTrackerSnapshot, IOException> failureHandler = (snapshot, ioe) -> { };
+
+    /**
+     * Creates a {@code BackgroundTaTrackerSaver} that writes to {@code taTrackerStorage}.
+     */
+    BackgroundTaTrackerSaver(TaTrackerStorage taTrackerStorage, long maxLatencyMillis) {
+        requireNonNull(taTrackerStorage);
+        if (maxLatencyMillis < 0) {
+            throw new IllegalArgumentException("Maximum save latency cannot be negative.");
+        }
+        this.taTrackerStorage = taTrackerStorage;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaTracker-storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given each snapshot that fails to be written in the background, and why.
+     */
+    void setFailureHandler(BiConsumer<TaTrackerSnapshot, IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Queues {@code snapshot} to be saved, replacing any snapshot that has not been written yet.
+     */
+    void submit(TaTrackerSnapshot snapshot) {
+        requireNonNull(snapshot);
+        if (pending.getAndSet(snapshot) == null) {
+            writer.schedule(this::writePendingAndReport, maxLatencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the queued snapshot, if any, and waits for it to be written.
+     *
+     * @throws IOException if the queued snapshot could not be written.
+     */
+    void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    private void writePending() throws IOException {
+        TaTrackerSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot != null) {
+            taTrackerStorage.saveTaTracker(snapshot);
+        }
+    }
+
+    private void writePendingAndReport() {
+        TaTrackerSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            taTrackerStorage.saveTaTracker(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + ioe);
+            failureHandler.accept(snapshot, ioe);
+        }
+    }
+}
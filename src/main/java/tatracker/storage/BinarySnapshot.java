@@ -0,0 +1,355 @@
+package tatracker.storage;
+
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_DONE_SESSIONS;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_MODULES;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_SESSIONS;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_INVALID_RATE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
+import tatracker.model.student.Student;
+import tatracker.model.tag.Tag;
+
+/**
+ * Encodes and decodes a TaTracker in the versioned binary snapshot format.
+ * <p>
+ * The snapshot starts with a magic number and the format version, followed by the rate
+ * and a dictionary of the module codes, group codes and type names used in the snapshot.
+ * Modules, sessions and done sessions then refer to those strings by their index in the dictionary.
+ * Session times are stored as minutes since the epoch and a duration in minutes,
+ * while all counts, indices and ratings are stored as variable-length integers.
+ */
+class BinarySnapshot {
+
+    public static final int MAGIC = 0x54415442; // "TATB"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a TA-Tracker binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary snapshot refers to a missing dictionary entry.";
+
+    private static final int FLAG_DONE = 1;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private BinarySnapshot() {} // prevents instantiation
+
+    // ======== Writing ========================================================
+
+    /**
+     * Writes {@code taTracker} to {@code out} as a binary snapshot.
+     */
+    static void write(ReadOnlyTaTracker taTracker, OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        writeVarInt(body, taTracker.getModuleList().size());
+        for (Module module : taTracker.getModuleList()) {
+            writeModule(body, module, dictionary);
+        }
+        writeSessions(body, taTracker.getSessionList(), dictionary);
+        writeSessions(body, taTracker.getDoneSessionList(), dictionary);
+        body.flush();
+
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        writeVarInt(header, FORMAT_VERSION);
+        writeVarInt(header, taTracker.getRate());
+        writeVarInt(header, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(header, entry);
+        }
+        bodyBytes.writeTo(header);
+        header.flush();
+    }
+
+    private static void writeModule(DataOutputStream out, Module module, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarInt(out, lookup(dictionary, module.getIdentifier()));
+        writeString(out, module.getName());
+        writeVarInt(out, module.getGroupList().size());
+        for (Group group : module.getGroupList()) {
+            writeVarInt(out, lookup(dictionary, group.getIdentifier()));
+            writeVarInt(out, lookup(dictionary, group.getGroupType().name()));
+            writeVarInt(out, group.getStudentList().size());
+            for (Student student : group.getStudentList()) {
+                writeStudent(out, student);
+            }
+        }
+    }
+
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        writeString(out, student.getMatric().value);
+        writeString(out, student.getName().fullName);
+        writeString(out, student.getPhone().value);
+        writeString(out, student.getEmail().value);
+        writeVarInt(out, student.getRating().value);
+        writeVarInt(out, student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    private static void writeSessions(DataOutputStream out, List<Session> sessions, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarInt(out, sessions.size());
+        for (Session session : sessions) {
+            long startMinute = toEpochMinute(session.getStartDateTime());
+            long endMinute = toEpochMinute(session.getEndDateTime());
+            writeVarLong(out, zigZag(startMinute));
+            writeVarLong(out, zigZag(endMinute - startMinute));
+            writeVarInt(out, lookup(dictionary, session.getSessionType().name()));
+            writeVarInt(out, lookup(dictionary, session.getModuleCode()));
+            writeVarInt(out, session.getRecurring());
+            out.writeByte(session.getIsDone() ? FLAG_DONE : 0);
+            writeString(out, session.getDescription());
+        }
+    }
+
+    private static int lookup(Map<String, Integer> dictionary, String entry) {
+        return dictionary.computeIfAbsent(entry, unused -> dictionary.size());
+    }
+
+    // ======== Reading ========================================================
+
+    /**
+     * Reads the binary snapshot in {@code snapshot} into the model's {@code TaTracker} object.
+     *
+     * @throws IOException if the snapshot is cut short or is not a supported binary snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TaTracker read(byte[] snapshot) throws IOException, IllegalValueException {
+        try {
+            return read(ByteBuffer.wrap(snapshot));
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Binary snapshot ends unexpectedly.");
+        }
+    }
+
+    private static TaTracker read(ByteBuffer data) throws IOException, IllegalValueException {
+        if (data.remaining() < Integer.BYTES || data.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = readVarInt(data);
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int rate = readVarInt(data);
+        int dictionarySize = readVarInt(data);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(readString(data));
+        }
+
+        TaTracker taTracker = new TaTracker();
+
+        Set<String> moduleIds = new HashSet<>();
+        int moduleCount = readVarInt(data);
+        for (int i = 0; i < moduleCount; i++) {
+            Module module = readModule(data, dictionary);
+            if (!moduleIds.add(module.getIdentifier())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULES);
+            }
+            taTracker.addModule(module);
+        }
+
+        for (Session session : readSessions(data, dictionary, MESSAGE_DUPLICATE_SESSIONS)) {
+            taTracker.addSession(session);
+        }
+        for (Session session : readSessions(data, dictionary, MESSAGE_DUPLICATE_DONE_SESSIONS)) {
+            taTracker.addDoneSession(session);
+        }
+
+        if (rate <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_RATE);
+        }
+        taTracker.setRate(rate);
+
+        return taTracker;
+    }
+
+    /**
+     * Reads a module, reusing the validation of {@link JsonAdaptedModule}.
+     */
+    private static Module readModule(ByteBuffer in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        String id = entry(dictionary, readVarInt(in));
+        String name = readString(in);
+
+        int groupCount = readVarInt(in);
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            String groupId = entry(dictionary, readVarInt(in));
+            String groupType = entry(dictionary, readVarInt(in));
+
+            int studentCount = readVarInt(in);
+            List<JsonAdaptedStudent> students = new ArrayList<>();
+            for (int j = 0; j < studentCount; j++) {
+                students.add(readStudent(in));
+            }
+            groups.add(new JsonAdaptedGroup(groupId, groupType, students));
+        }
+        return new JsonAdaptedModule(id, name, groups).toModelType();
+    }
+
+    private static JsonAdaptedStudent readStudent(ByteBuffer in) throws IOException {
+        String matric = readString(in);
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        int rating = readVarInt(in);
+
+        int tagCount = readVarInt(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(in)));
+        }
+        return new JsonAdaptedStudent(matric, name, phone, email, rating, tags);
+    }
+
+    private static Collection<Session> readSessions(ByteBuffer in, List<String> dictionary,
+            String duplicateMessage) throws IOException, IllegalValueException {
+        int count = readVarInt(in);
+        LoadedSessions sessions = new LoadedSessions(duplicateMessage);
+        // Type names repeat across sessions, so each dictionary entry is only resolved once
+        SessionType[] sessionTypes = new SessionType[dictionary.size()];
+        for (int i = 0; i < count; i++) {
+            long startMinute = unZigZag(readVarLong(in));
+            long durationMinutes = unZigZag(readVarLong(in));
+            int typeIndex = readVarInt(in);
+            String type = entry(dictionary, typeIndex);
+            String moduleId = entry(dictionary, readVarInt(in));
+            int recurring = readVarInt(in);
+            int flags = Byte.toUnsignedInt(in.get());
+            String description = readString(in);
+
+            if (durationMinutes < 0) {
+                throw new IllegalValueException(JsonAdaptedSession.MESSAGE_INVALID_TIMING);
+            }
+            if (sessionTypes[typeIndex] == null) {
+                if (!SessionType.isValidSessionType(type)) {
+                    throw new IllegalValueException(SessionType.MESSAGE_CONSTRAINTS);
+                }
+                sessionTypes[typeIndex] = SessionType.getSessionType(type);
+            }
+            if (moduleId.isBlank()) {
+                throw new IllegalValueException(Module.CONSTRAINTS_MODULE_CODE);
+            }
+
+            Session session;
+            try {
+                session = new Session(fromEpochMinute(startMinute),
+                        fromEpochMinute(startMinute + durationMinutes), sessionTypes[typeIndex],
+                        recurring, moduleId, description);
+            } catch (SessionOutOfRangeException soore) {
+                throw new IllegalValueException(Session.CONSTRAINTS_TIMING);
+            }
+            if ((flags & FLAG_DONE) != 0) {
+                session.done();
+            }
+
+            sessions.add(session);
+        }
+        return sessions.getSessions();
+    }
+
+    private static String entry(List<String> dictionary, int index) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return dictionary.get(index);
+    }
+
+    // ======== Encoding =======================================================
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(ByteBuffer in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Binary snapshot contains an integer that is out of range.");
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = Byte.toUnsignedInt(in.get());
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Binary snapshot contains a malformed integer.");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("Binary snapshot contains a string that is too long.");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.commons.util.FileUtil;
+import tatracker.model.ReadOnlyTaTracker;
+
+/**
+ * A class to access TaTracker data stored as a compact binary snapshot on the hard disk.
+ *
+ * @see BinarySnapshot for the layout of the file.
+ */
+public class BinaryTaTrackerStorage implements TaTrackerStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaTrackerStorage.class);
+
+    private Path filePath;
+
+    public BinaryTaTrackerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTaTrackerFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the binary snapshot that corresponds to the json file at {@code jsonFilePath},
+     * which is the same file name with its extension replaced.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaTracker> readTaTracker() throws DataConversionException {
+        return readTaTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTaTracker> readTaTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinarySnapshot.read(Files.readAllBytes(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaTracker(ReadOnlyTaTracker taTracker) throws IOException {
+        saveTaTracker(taTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaTracker(ReadOnlyTaTracker)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) throws IOException {
+        requireNonNull(taTracker);
+        requireNonNull(filePath);
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        BinarySnapshot.write(taTracker, snapshot);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, snapshot.toByteArray());
+    }
+
+    /**
+     * Converts the json file at {@code jsonFilePath} into a binary snapshot at the default location.
+     * An existing binary snapshot is overwritten.
+     *
+     * @return false if there is no json file to convert.
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if the binary snapshot could not be written.
+     */
+    public boolean convertFromJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyTaTracker> taTracker = new JsonTaTrackerStorage(jsonFilePath).readTaTracker();
+        if (!taTracker.isPresent()) {
+            return false;
+        }
+
+        saveTaTracker(taTracker.get());
+        logger.info("Converted " + jsonFilePath + " into binary snapshot " + filePath);
+        return true;
+    }
+}
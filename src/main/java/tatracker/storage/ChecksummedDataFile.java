@@ -0,0 +1,271 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.util.FileUtil;
+import tatracker.commons.util.FileUtil.ContentWriter;
+
+/**
+ * A data file that is replaced in a single step on every write, has a checksum of its contents in a file next to it,
+ * and keeps its last few good versions next to it as numbered generations, {@code .1} being the newest.
+ * <p>
+ * A checksum is verified without parsing the file, so damaged files can be passed over cheaply.
+ * It is kept in its own file so that the data file stays valid json, and can still be edited by hand.
+ * Files without a checksum, such as those written by older versions, cannot be verified.
+ * <p>
+ * A data file that fails its checksum is never written over. It is kept as {@code .corrupt} instead,
+ * in case it holds changes that can still be recovered.
+ */
+class ChecksummedDataFile {
+
+    public static final int DEFAULT_GENERATION_COUNT = 3;
+
+    /**
+     * The state of a file on disk, as far as its checksum can tell.
+     */
+    enum Status {
+        MISSING,
+        VALID,
+        UNVERIFIED,
+        CORRUPTED
+    }
+
+    private static final String CHECKSUM_EXTENSION = ".crc32";
+    private static final String CORRUPT_EXTENSION = ".corrupt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ChecksummedDataFile.class);
+
+    private final Path filePath;
+    private final int generationCount;
+
+    /** True if the file at {@code filePath} is known to be good, so it can become a generation without a check. */
+    private boolean isKnownGood;
+    /** True if the file at {@code filePath} is known to be good, but no longer matches its checksum. */
+    private boolean isChecksumStale;
+    /** True if the file at {@code filePath} could not be read, so it must not become a generation. */
+    private boolean isKnownBad;
+
+    ChecksummedDataFile(Path filePath, int generationCount) {
+        requireNonNull(filePath);
+        if (generationCount < 0) {
+            throw new IllegalArgumentException("Generation count cannot be negative.");
+        }
+        this.filePath = filePath;
+        this.generationCount = generationCount;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the given {@code generation} of the data file at {@code filePath}.
+     */
+    static Path getGenerationPath(Path filePath, int generation) {
+        return Paths.get(filePath.toString() + "." + generation);
+    }
+
+    /**
+     * Returns the location of the checksum of the file at {@code path}.
+     */
+    static Path getChecksumPath(Path path) {
+        return Paths.get(path.toString() + CHECKSUM_EXTENSION);
+    }
+
+    /**
+     * Returns the location that a data file at {@code filePath} that failed its checksum is kept at.
+     */
+    static Path getCorruptPath(Path filePath) {
+        return Paths.get(filePath.toString() + CORRUPT_EXTENSION);
+    }
+
+    /**
+     * Returns the data file followed by its generations, from the newest to the oldest.
+     */
+    List<Path> getCandidates() {
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(filePath);
+        for (int generation = 1; generation <= generationCount; generation++) {
+            candidates.add(getGenerationPath(filePath, generation));
+        }
+        return candidates;
+    }
+
+    /**
+     * Records that the data file has just been read successfully.
+     * If it did not match its checksum, such as after being edited by hand, the checksum is dropped
+     * when the file becomes a generation, so that the file can still be recovered from.
+     */
+    void markKnownGood(Status status) {
+        isKnownGood = true;
+        isChecksumStale = status == Status.CORRUPTED;
+        isKnownBad = false;
+    }
+
+    /**
+     * Records that the data file could not be read, so it is kept as {@code .corrupt} on the next write.
+     */
+    void markKnownBad() {
+        isKnownGood = false;
+        isChecksumStale = false;
+        isKnownBad = true;
+    }
+
+    /**
+     * Writes {@code content} as the new data file, followed by its checksum.
+     * <p>
+     * The new content is first forced onto a temporary file. The current data file then becomes
+     * the newest generation, or is kept as {@code .corrupt} if it is damaged, and the temporary file takes its place.
+     */
+    void write(byte[] content) throws IOException {
+        requireNonNull(content);
+        write(out -> out.write(content));
+    }
+
+    /**
+     * Similar to {@link #write(byte[])}, but the content is streamed from {@code contentWriter}
+     * and checksummed as it is written.
+     */
+    void write(ContentWriter contentWriter) throws IOException {
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        CRC32 checksum = new CRC32();
+        Path tempFile = FileUtil.writeToTempFile(filePath,
+                out -> contentWriter.writeTo(new CheckedOutputStream(out, checksum)));
+        try {
+            setAsideCurrentFile();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        isKnownGood = false;
+        FileUtil.replaceFile(tempFile, filePath);
+        // If this write is interrupted, the new file is left without a checksum, and is still read as unverified
+        FileUtil.writeToFile(getChecksumPath(filePath), String.format("%08x%n", checksum.getValue()));
+        isKnownGood = true;
+        isChecksumStale = false;
+        isKnownBad = false;
+    }
+
+    /**
+     * Moves the current data file out of the way of a new one. A damaged file is kept as {@code .corrupt},
+     * and any other file becomes the newest generation, if there are any.
+     */
+    private void setAsideCurrentFile() throws IOException {
+        Status status = isKnownGood ? Status.VALID : verify(filePath);
+        if (status == Status.MISSING) {
+            Files.deleteIfExists(getChecksumPath(filePath));
+            return;
+        }
+
+        if (isKnownBad || status == Status.CORRUPTED) {
+            Path corruptPath = getCorruptPath(filePath);
+            logger.warning("Keeping damaged data file " + filePath + " as " + corruptPath);
+            moveWithChecksum(filePath, corruptPath);
+            return;
+        }
+
+        if (isChecksumStale || generationCount == 0) {
+            Files.deleteIfExists(getChecksumPath(filePath));
+        }
+        if (generationCount > 0) {
+            rotateGenerations();
+        }
+    }
+
+    /**
+     * Shifts every generation one place older, dropping the oldest, and moves the data file into the newest.
+     */
+    private void rotateGenerations() throws IOException {
+        Path oldestPath = getGenerationPath(filePath, generationCount);
+        Files.deleteIfExists(oldestPath);
+        Files.deleteIfExists(getChecksumPath(oldestPath));
+        for (int generation = generationCount - 1; generation >= 1; generation--) {
+            Path generationPath = getGenerationPath(filePath, generation);
+            if (Files.exists(generationPath)) {
+                moveWithChecksum(generationPath, getGenerationPath(filePath, generation + 1));
+            }
+        }
+        moveWithChecksum(filePath, getGenerationPath(filePath, 1));
+    }
+
+    /**
+     * Moves the file at {@code source} to {@code target}, along with its checksum if it has one,
+     * replacing any file and checksum at {@code target}.
+     */
+    private static void moveWithChecksum(Path source, Path target) throws IOException {
+        Files.deleteIfExists(getChecksumPath(target));
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        if (Files.exists(getChecksumPath(source))) {
+            Files.move(getChecksumPath(source), getChecksumPath(target));
+        }
+    }
+
+    /**
+     * Checks the file at {@code path} against its checksum, without parsing it.
+     */
+    static Status verify(Path path) throws IOException {
+        requireNonNull(path);
+
+        if (!FileUtil.isFileExists(path)) {
+            return Status.MISSING;
+        }
+        Path checksumPath = getChecksumPath(path);
+        if (!FileUtil.isFileExists(checksumPath)) {
+            return Status.UNVERIFIED;
+        }
+
+        long expectedChecksum;
+        try {
+            expectedChecksum = Long.parseLong(FileUtil.readFromFile(checksumPath).trim(), 16);
+        } catch (NumberFormatException nfe) {
+            return Status.CORRUPTED;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long contentLength = channel.size();
+            CRC32 checksum = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            for (long position = 0; position < contentLength; position += buffer.limit()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, contentLength - position));
+                readFully(channel, buffer, position);
+                buffer.flip();
+                checksum.update(buffer);
+            }
+            return checksum.getValue() == expectedChecksum ? Status.VALID : Status.CORRUPTED;
+        }
+    }
+
+    /**
+     * Fills the remaining space in {@code buffer} with the bytes of {@code channel} from {@code position}.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long nextPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, nextPosition);
+            if (read < 0) {
+                throw new IOException("File ended while verifying its checksum.");
+            }
+            nextPosition += read;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.commons.util.FileUtil;
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * A class to access TaTracker data stored as a json snapshot on the hard disk,
+ * together with an append-only journal of the changes made since that snapshot.
+ * <p>
+ * Each save only appends the sessions, modules and rate that differ from the last save,
+ * one compact json entry per line. Once the journal grows past the checkpoint interval,
+ * the snapshot is rewritten and the journal is emptied.
+ * <p>
+ * Journal entries are numbered, and the snapshot records the number of the last entry it contains.
+ * If the app stops after rewriting the snapshot but before emptying the journal,
+ * the entries left in the journal are skipped instead of being applied again on top of newer data.
+ */
+public class JournalTaTrackerStorage implements TaTrackerStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 500;
+
+    private static final String MESSAGE_CORRUPTED_ENTRY = "Journal entry %d of %s is corrupted: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaTrackerStorage.class);
+
+    private Path filePath;
+    private final int checkpointInterval;
+
+    /** The data as last written to {@code filePath}, or null if the files on disk have not been seen yet. */
+    private Image lastSaved;
+    private int entriesSinceCheckpoint;
+    /** The sequence number of the last journal entry written to, or read from, {@code filePath}. */
+    private long lastSequence;
+
+    public JournalTaTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournalTaTrackerStorage} that rewrites its snapshot
+     * after every {@code checkpointInterval} journal entries.
+     */
+    public JournalTaTrackerStorage(Path filePath, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive.");
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public Path getTaTrackerFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaTracker> readTaTracker() throws DataConversionException {
+        return readTaTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaTracker()}.
+     * Reads the snapshot and replays every complete entry in its journal that the snapshot does not contain.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyTaTracker> readTaTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        Optional<JsonJournalSnapshot> jsonTaTracker = JsonUtil.readJsonFile(filePath, JsonJournalSnapshot.class);
+        if (!jsonTaTracker.isPresent()) {
+            if (Files.exists(journalFilePath)) {
+                logger.warning("Ignoring journal " + journalFilePath + " as it has no snapshot to replay onto");
+            }
+            return Optional.empty();
+        }
+
+        Image image = new Image(jsonTaTracker.get(), jsonTaTracker.get().getJournalSequence());
+        int replayed = replayJournal(journalFilePath, image);
+
+        ReadOnlyTaTracker taTracker;
+        try {
+            taTracker = image.toSerializable().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            lastSaved = image;
+            entriesSinceCheckpoint = replayed;
+            lastSequence = image.sequence;
+        }
+        return Optional.of(taTracker);
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalFilePath} to {@code image}, in order,
+     * skipping those that {@code image} already contains.
+     * A final line that was only partially written is ignored.
+     *
+     * @return the number of entries replayed.
+     */
+    private static int replayJournal(Path journalFilePath, Image image) throws DataConversionException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        int replayed = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                if (image.apply(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class))) {
+                    replayed++;
+                }
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                String message = String.format(MESSAGE_CORRUPTED_ENTRY, i + 1, journalFilePath, e.getMessage());
+                logger.warning(message);
+                throw new DataConversionException(new IllegalValueException(message));
+            }
+        }
+        return replayed;
+    }
+
+    @Override
+    public void saveTaTracker(ReadOnlyTaTracker taTracker) throws IOException {
+        saveTaTracker(taTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaTracker(ReadOnlyTaTracker)}.
+     * Saves to any location other than the default one are written as a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) throws IOException {
+        requireNonNull(taTracker);
+        requireNonNull(filePath);
+
+        JsonSerializableTaTracker current = new JsonSerializableTaTracker(taTracker);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(current, filePath);
+            return;
+        }
+
+        if (lastSaved == null) {
+            checkpoint(current);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = lastSaved.diff(current);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        if (entriesSinceCheckpoint + entries.size() > checkpointInterval) {
+            checkpoint(current);
+            return;
+        }
+
+        // Numbers are used up even if the append fails, so that a partly written entry is never reused.
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lastSequence++;
+            lines.append(JsonUtil.toCompactJsonString(entry.numbered(lastSequence))).append(System.lineSeparator());
+        }
+
+        try {
+            FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+        } catch (IOException ioe) {
+            // The journal may now hold only part of the changes, so the next save starts afresh.
+            lastSaved = null;
+            throw ioe;
+        }
+
+        lastSaved = new Image(current, lastSequence);
+        entriesSinceCheckpoint += entries.size();
+    }
+
+    /**
+     * Writes {@code current} as the snapshot at the default location and empties the journal.
+     */
+    private void checkpoint(JsonSerializableTaTracker current) throws IOException {
+        lastSaved = null;
+        lastSequence = writeSnapshot(current, filePath);
+        lastSaved = new Image(current, lastSequence);
+        entriesSinceCheckpoint = 0;
+        logger.fine("Checkpointed journal into " + filePath);
+    }
+
+    /**
+     * Writes {@code current} as the snapshot at {@code filePath} and deletes its journal.
+     * The snapshot is numbered after every entry in the journal, so none of them are replayed onto it
+     * if the journal cannot be deleted.
+     *
+     * @return the sequence number of the snapshot.
+     */
+    private long writeSnapshot(JsonSerializableTaTracker current, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        long sequence = Math.max(lastSequence, readLastSequence(journalFilePath));
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonJournalSnapshot(current, sequence), filePath);
+        Files.deleteIfExists(journalFilePath);
+        return sequence;
+    }
+
+    /**
+     * Returns the highest sequence number in the journal at {@code journalFilePath},
+     * or 0 if there is no journal. Entries that cannot be read are left out.
+     */
+    private static long readLastSequence(Path journalFilePath) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        long sequence = 0;
+        for (String line : Files.readAllLines(journalFilePath)) {
+            try {
+                sequence = Math.max(sequence, JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class)
+                        .getSequence());
+            } catch (IOException ioe) {
+                // An incomplete or corrupted entry has no number to keep
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * The contents of a saved TA-Tracker, keyed so that journal entries can be applied and diffed cheaply.
+     */
+    private static class Image {
+        /** The sequence number of the last journal entry that this image contains. */
+        private long sequence;
+        private final Set<JsonAdaptedSession> sessions = new LinkedHashSet<>();
+        private final Set<JsonAdaptedSession> doneSessions = new LinkedHashSet<>();
+        private final Map<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+        private int rate;
+
+        Image(JsonSerializableTaTracker source, long sequence) {
+            this.sequence = sequence;
+            sessions.addAll(source.getSessions());
+            doneSessions.addAll(source.getDoneSessions());
+            source.getModules().forEach(module -> modules.put(module.getId(), module));
+            rate = source.getRate();
+        }
+
+        /**
+         * Applies {@code entry} to this image, unless this image already contains it.
+         * Entries without a sequence number are always applied.
+         *
+         * @return true if {@code entry} was applied.
+         */
+        boolean apply(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+            Operation operation = entry.getOperation();
+            if (entry.getSequence() != 0 && entry.getSequence() <= sequence) {
+                return false;
+            }
+
+            switch (operation) {
+            case ADD_SESSION:
+                sessions.add(entry.getSession());
+                break;
+            case REMOVE_SESSION:
+                sessions.remove(entry.getSession());
+                break;
+            case ADD_DONE_SESSION:
+                doneSessions.add(entry.getSession());
+                break;
+            case REMOVE_DONE_SESSION:
+                doneSessions.remove(entry.getSession());
+                break;
+            case PUT_MODULE:
+                modules.put(entry.getModule().getId(), entry.getModule());
+                break;
+            case REMOVE_MODULE:
+                modules.remove(entry.getModuleId());
+                break;
+            case SET_RATE:
+                rate = entry.getRate();
+                break;
+            default:
+                throw new IllegalValueException(JsonAdaptedJournalEntry.MESSAGE_INVALID_OPERATION);
+            }
+            sequence = Math.max(sequence, entry.getSequence());
+            return true;
+        }
+
+        /**
+         * Returns the journal entries that turn this image into {@code current}.
+         */
+        List<JsonAdaptedJournalEntry> diff(JsonSerializableTaTracker current) {
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+            diffSessions(sessions, current.getSessions(), Operation.ADD_SESSION, Operation.REMOVE_SESSION, entries);
+            diffSessions(doneSessions, current.getDoneSessions(),
+                    Operation.ADD_DONE_SESSION, Operation.REMOVE_DONE_SESSION, entries);
+
+            Set<String> currentModuleIds = new LinkedHashSet<>();
+            for (JsonAdaptedModule module : current.getModules()) {
+                currentModuleIds.add(module.getId());
+                if (!module.equals(modules.get(module.getId()))) {
+                    entries.add(JsonAdaptedJournalEntry.ofModule(module));
+                }
+            }
+            for (String moduleId : modules.keySet()) {
+                if (!currentModuleIds.contains(moduleId)) {
+                    entries.add(JsonAdaptedJournalEntry.ofRemovedModule(moduleId));
+                }
+            }
+
+            if (rate != current.getRate()) {
+                entries.add(JsonAdaptedJournalEntry.ofRate(current.getRate()));
+            }
+            return entries;
+        }
+
+        private static void diffSessions(Set<JsonAdaptedSession> saved, List<JsonAdaptedSession> current,
+                Operation addOperation, Operation removeOperation, List<JsonAdaptedJournalEntry> entries) {
+            Set<JsonAdaptedSession> currentSessions = new LinkedHashSet<>(current);
+            for (JsonAdaptedSession session : saved) {
+                if (!currentSessions.contains(session)) {
+                    entries.add(JsonAdaptedJournalEntry.ofSession(removeOperation, session));
+                }
+            }
+            for (JsonAdaptedSession session : currentSessions) {
+                if (!saved.contains(session)) {
+                    entries.add(JsonAdaptedJournalEntry.ofSession(addOperation, session));
+                }
+            }
+        }
+
+        JsonSerializableTaTracker toSerializable() {
+            return new JsonSerializableTaTracker(new ArrayList<>(sessions), new ArrayList<>(doneSessions),
+                    new ArrayList<>(modules.values()), rate);
+        }
+    }
+}
@@ -3,9 +3,10 @@
 package tatracker.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -82,7 +83,7 @@ class JsonAdaptedGroup {
         final GroupType modelGroupType = GroupType.getGroupType(type);
 
         // ==== Students ====
-        final Map<Matric, Student> modelStudents = new HashMap<>();
+        final Map<Matric, Student> modelStudents = new LinkedHashMap<>();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
             Student student = jsonAdaptedStudent.toModelType();
             if (modelStudents.containsKey(student.getMatric())) {
@@ -97,4 +98,24 @@ class JsonAdaptedGroup {
 
         return group;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedGroup)) {
+            return false;
+        }
+
+        JsonAdaptedGroup o = (JsonAdaptedGroup) other;
+        return Objects.equals(id, o.id)
+                && Objects.equals(type, o.type)
+                && students.equals(o.students);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type);
+    }
 }
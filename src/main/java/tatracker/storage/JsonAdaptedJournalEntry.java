@@ -0,0 +1,149 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tatracker.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a single change made to the TA-Tracker, as kept in the journal.
+ * Entries are numbered in the order they are written, starting from 1,
+ * so that entries already contained in a newer snapshot can be skipped.
+ * Entries written before they were numbered have a sequence number of 0.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_OPERATION = "Journal entry's operation field is missing!";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry's operation is not recognised.";
+    public static final String MESSAGE_INCOMPLETE_ENTRY = "Journal entry is missing the data for its operation.";
+
+    /**
+     * The kinds of changes that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD_SESSION,
+        REMOVE_SESSION,
+        ADD_DONE_SESSION,
+        REMOVE_DONE_SESSION,
+        PUT_MODULE,
+        REMOVE_MODULE,
+        SET_RATE
+    }
+
+    private final String op;
+    private final JsonAdaptedSession session;
+    private final JsonAdaptedModule module;
+    private final String moduleId;
+    private final int rate;
+    private final long seq;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op,
+                                   @JsonProperty("session") JsonAdaptedSession session,
+                                   @JsonProperty("module") JsonAdaptedModule module,
+                                   @JsonProperty("moduleId") String moduleId,
+                                   @JsonProperty("rate") int rate,
+                                   @JsonProperty("seq") long seq) {
+        this.op = op;
+        this.session = session;
+        this.module = module;
+        this.moduleId = moduleId;
+        this.rate = rate;
+        this.seq = seq;
+    }
+
+    static JsonAdaptedJournalEntry ofSession(Operation operation, JsonAdaptedSession session) {
+        requireNonNull(session);
+        return new JsonAdaptedJournalEntry(operation.name(), session, null, null, 0, 0);
+    }
+
+    static JsonAdaptedJournalEntry ofModule(JsonAdaptedModule module) {
+        requireNonNull(module);
+        return new JsonAdaptedJournalEntry(Operation.PUT_MODULE.name(), null, module, null, 0, 0);
+    }
+
+    static JsonAdaptedJournalEntry ofRemovedModule(String moduleId) {
+        requireNonNull(moduleId);
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_MODULE.name(), null, null, moduleId, 0, 0);
+    }
+
+    static JsonAdaptedJournalEntry ofRate(int rate) {
+        return new JsonAdaptedJournalEntry(Operation.SET_RATE.name(), null, null, null, rate, 0);
+    }
+
+    /**
+     * Returns a copy of this entry with the sequence number {@code seq}.
+     */
+    JsonAdaptedJournalEntry numbered(long seq) {
+        return new JsonAdaptedJournalEntry(op, session, module, moduleId, rate, seq);
+    }
+
+    /**
+     * Returns the operation recorded by this entry.
+     *
+     * @throws IllegalValueException if the operation is missing, unknown, or lacks the data it acts on.
+     */
+    Operation getOperation() throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(MISSING_OPERATION);
+        }
+
+        final Operation operation;
+        try {
+            operation = Operation.valueOf(op);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_INVALID_OPERATION);
+        }
+
+        switch (operation) {
+        case ADD_SESSION:
+        case REMOVE_SESSION:
+        case ADD_DONE_SESSION:
+        case REMOVE_DONE_SESSION:
+            if (session == null) {
+                throw new IllegalValueException(MESSAGE_INCOMPLETE_ENTRY);
+            }
+            break;
+        case PUT_MODULE:
+            if (module == null || module.getId() == null) {
+                throw new IllegalValueException(MESSAGE_INCOMPLETE_ENTRY);
+            }
+            break;
+        case REMOVE_MODULE:
+            if (moduleId == null) {
+                throw new IllegalValueException(MESSAGE_INCOMPLETE_ENTRY);
+            }
+            break;
+        default:
+            break;
+        }
+        return operation;
+    }
+
+    JsonAdaptedSession getSession() {
+        return session;
+    }
+
+    JsonAdaptedModule getModule() {
+        return module;
+    }
+
+    String getModuleId() {
+        return moduleId;
+    }
+
+    int getRate() {
+        return rate;
+    }
+
+    long getSequence() {
+        return seq;
+    }
+}
@@ -3,9 +3,10 @@
 package tatracker.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -96,7 +97,7 @@ class JsonAdaptedModule {
         // }
 
         // ==== Groups ====
-        final Map<String, Group> modelGroups = new HashMap<>();
+        final Map<String, Group> modelGroups = new LinkedHashMap<>();
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
             Group group = jsonAdaptedGroup.toModelType();
             if (modelGroups.containsKey(group.getIdentifier())) {
@@ -112,4 +113,28 @@ class JsonAdaptedModule {
 
         return module;
     }
+
+    String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedModule)) {
+            return false;
+        }
+
+        JsonAdaptedModule o = (JsonAdaptedModule) other;
+        return Objects.equals(id, o.id)
+                && Objects.equals(name, o.name)
+                && groups.equals(o.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
 }
@@ -4,6 +4,7 @@ package tatracker.storage;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +13,7 @@ import tatracker.commons.exceptions.IllegalValueException;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
 import tatracker.model.session.SessionType;
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
 
 /**
  * Jackson-friendly version of {@link Session}.
@@ -144,12 +146,41 @@ class JsonAdaptedSession {
             throw new IllegalValueException(Session.CONSTRAINTS_RECURRING_WEEKS);
         }
 
-        Session session = new Session(modelStartDateTime, modelEndDateTime, modelSessionType,
-                recurring, moduleId, description);
+        final Session session;
+        try {
+            session = new Session(modelStartDateTime, modelEndDateTime, modelSessionType,
+                    recurring, moduleId, description);
+        } catch (SessionOutOfRangeException soore) {
+            throw new IllegalValueException(Session.CONSTRAINTS_TIMING);
+        }
 
         if (isDone) {
             session.done();
         }
         return session;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedSession)) {
+            return false;
+        }
+
+        JsonAdaptedSession o = (JsonAdaptedSession) other;
+        return Objects.equals(startDateTime, o.startDateTime)
+                && Objects.equals(endDateTime, o.endDateTime)
+                && Objects.equals(type, o.type)
+                && Objects.equals(description, o.description)
+                && Objects.equals(moduleId, o.moduleId)
+                && isDone == o.isDone
+                && recurring == o.recurring;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDateTime, endDateTime, type, moduleId);
+    }
 }
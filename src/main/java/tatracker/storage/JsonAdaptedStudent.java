@@ -5,6 +5,7 @@ package tatracker.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -125,4 +126,27 @@ class JsonAdaptedStudent {
         return new Student(modelMatric, modelName, modelPhone, modelEmail, modelRating, modelTags);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedStudent)) {
+            return false;
+        }
+
+        JsonAdaptedStudent o = (JsonAdaptedStudent) other;
+        return Objects.equals(matric, o.matric)
+                && Objects.equals(name, o.name)
+                && Objects.equals(phone, o.phone)
+                && Objects.equals(email, o.email)
+                && rating == o.rating
+                && new HashSet<>(tagged).equals(new HashSet<>(o.tagged));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(matric, name);
+    }
+
 }
@@ -1,5 +1,7 @@
 package tatracker.storage;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
@@ -45,4 +47,16 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonAdaptedTag // instanceof handles nulls
+                && Objects.equals(tagName, ((JsonAdaptedTag) other).tagName));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tagName);
+    }
+
 }
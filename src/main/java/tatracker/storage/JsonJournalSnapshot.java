@@ -0,0 +1,44 @@
+package tatracker.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * A {@code JsonSerializableTaTracker} written as the snapshot of a journal,
+ * along with the sequence number of the last journal entry that it already contains.
+ * <p>
+ * The extra field is ignored when the file is read as a plain {@code JsonSerializableTaTracker},
+ * and is 0 in snapshots written before journal entries were numbered.
+ */
+@JsonRootName(value = "tatracker")
+class JsonJournalSnapshot extends JsonSerializableTaTracker {
+
+    private final long journalSequence;
+
+    /**
+     * Constructs a {@code JsonJournalSnapshot} with the given lists and sequence number.
+     */
+    @JsonCreator
+    public JsonJournalSnapshot(@JsonProperty("sessions") List<JsonAdaptedSession> sessions,
+                               @JsonProperty("doneSessions") List<JsonAdaptedSession> doneSessions,
+                               @JsonProperty("modules") List<JsonAdaptedModule> modules,
+                               @JsonProperty("rate") int rate,
+                               @JsonProperty("journalSequence") long journalSequence) {
+        super(sessions, doneSessions, modules, rate);
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Creates a snapshot of {@code source} that contains every journal entry up to {@code journalSequence}.
+     */
+    JsonJournalSnapshot(JsonSerializableTaTracker source, long journalSequence) {
+        this(source.getSessions(), source.getDoneSessions(), source.getModules(), source.getRate(), journalSequence);
+    }
+
+    long getJournalSequence() {
+        return journalSequence;
+    }
+}
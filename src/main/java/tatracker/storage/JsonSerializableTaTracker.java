@@ -2,12 +2,13 @@
 
 package tatracker.storage;
 
+import static tatracker.storage.ParallelConverter.convertAll;
+
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -19,6 +20,7 @@ import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.TaTracker;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.storage.ParallelConverter.Converted;
 
 /**
  * An Immutable TaTracker that is serializable to JSON format.
@@ -77,36 +79,46 @@ class JsonSerializableTaTracker {
         rate = source.getRate();
     }
 
+    List<JsonAdaptedSession> getSessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    List<JsonAdaptedSession> getDoneSessions() {
+        return Collections.unmodifiableList(doneSessions);
+    }
+
+    List<JsonAdaptedModule> getModules() {
+        return Collections.unmodifiableList(modules);
+    }
+
+    int getRate() {
+        return rate;
+    }
+
     /**
      * Converts this Ta Tracker into the model's {@code TaTracker} object.
+     * Large lists are converted in parallel, but the sessions and modules keep their saved order,
+     * and the first invalid or duplicate entry is reported just as if they were converted one by one.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaTracker toModelType() throws IllegalValueException {
         // ==== Sessions ====
-        final Set<Session> modelSessions = new HashSet<>();
-        for (JsonAdaptedSession jsonAdaptedSession : sessions) {
-            Session session = jsonAdaptedSession.toModelType();
-            if (modelSessions.contains(session)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSIONS);
-            }
-            modelSessions.add(session);
+        final LoadedSessions modelSessions = new LoadedSessions(MESSAGE_DUPLICATE_SESSIONS);
+        for (Converted<Session> converted : convertAll(sessions, JsonAdaptedSession::toModelType)) {
+            modelSessions.add(converted.get());
         }
 
         // ==== Done Sessions ====
-        final Set<Session> modelDoneSessions = new HashSet<>();
-        for (JsonAdaptedSession jsonAdaptedSession : doneSessions) {
-            Session doneSession = jsonAdaptedSession.toModelType();
-            if (modelDoneSessions.contains(doneSession)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DONE_SESSIONS);
-            }
-            modelDoneSessions.add(doneSession);
+        final LoadedSessions modelDoneSessions = new LoadedSessions(MESSAGE_DUPLICATE_DONE_SESSIONS);
+        for (Converted<Session> converted : convertAll(doneSessions, JsonAdaptedSession::toModelType)) {
+            modelDoneSessions.add(converted.get());
         }
 
         // ==== Modules ====
-        final Map<String, Module> modelModules = new HashMap<>();
-        for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
+        final Map<String, Module> modelModules = new LinkedHashMap<>();
+        for (Converted<Module> converted : convertAll(modules, JsonAdaptedModule::toModelType)) {
+            Module module = converted.get();
             if (modelModules.containsKey(module.getIdentifier())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULES);
             }
@@ -119,8 +131,8 @@ class JsonSerializableTaTracker {
 
         // ==== Build ====
         TaTracker taTracker = new TaTracker();
-        modelSessions.forEach(taTracker::addSession);
-        modelDoneSessions.forEach(taTracker::addDoneSession);
+        modelSessions.getSessions().forEach(taTracker::addSession);
+        modelDoneSessions.getSessions().forEach(taTracker::addDoneSession);
         modelModules.values().forEach(taTracker::addModule);
 
         taTracker.setRate(rate);
@@ -0,0 +1,40 @@
+package tatracker.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tatracker.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly segment of a sharded TA-Tracker that holds either its sessions or its done sessions.
+ */
+class JsonSessionShard {
+
+    public static final String MISSING_SESSIONS = "Session shard's sessions field is missing!";
+
+    private final List<JsonAdaptedSession> sessions;
+
+    /**
+     * Constructs a {@code JsonSessionShard} with the given sessions.
+     */
+    @JsonCreator
+    public JsonSessionShard(@JsonProperty("sessions") List<JsonAdaptedSession> sessions) {
+        this.sessions = sessions == null ? null : new ArrayList<>(sessions);
+    }
+
+    /**
+     * Returns the sessions in this shard.
+     *
+     * @throws IllegalValueException if the shard does not list its sessions.
+     */
+    List<JsonAdaptedSession> getSessions() throws IllegalValueException {
+        if (sessions == null) {
+            throw new IllegalValueException(MISSING_SESSIONS);
+        }
+        return Collections.unmodifiableList(sessions);
+    }
+}
@@ -0,0 +1,69 @@
+package tatracker.storage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tatracker.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly index of a sharded TA-Tracker.
+ * Holds the rate, and the name of the shard file that stores each module.
+ */
+class JsonShardManifest {
+
+    public static final String MISSING_MODULES = "Shard manifest's modules field is missing!";
+
+    private final int rate;
+    private final Map<String, String> modules;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given module shard file names, keyed by module id.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("rate") int rate,
+                             @JsonProperty("modules") Map<String, String> modules) {
+        this.rate = rate;
+        this.modules = modules == null ? null : new LinkedHashMap<>(modules);
+    }
+
+    int getRate() {
+        return rate;
+    }
+
+    /**
+     * Returns the shard file name of each module, keyed by module id, in the order they were saved.
+     *
+     * @throws IllegalValueException if the manifest does not list its modules.
+     */
+    Map<String, String> getModuleFileNames() throws IllegalValueException {
+        if (modules == null) {
+            throw new IllegalValueException(MISSING_MODULES);
+        }
+        return Collections.unmodifiableMap(modules);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof JsonShardManifest)) {
+            return false;
+        }
+
+        JsonShardManifest otherManifest = (JsonShardManifest) other;
+        return rate == otherManifest.rate
+                && Objects.equals(modules, otherManifest.modules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rate, modules);
+    }
+}
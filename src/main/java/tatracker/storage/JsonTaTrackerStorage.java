@@ -10,21 +10,30 @@ import java.util.logging.Logger;
 import tatracker.commons.core.LogsCenter;
 import tatracker.commons.exceptions.DataConversionException;
 import tatracker.commons.exceptions.IllegalValueException;
-import tatracker.commons.util.FileUtil;
-import tatracker.commons.util.JsonUtil;
 import tatracker.model.ReadOnlyTaTracker;
+import tatracker.storage.ChecksummedDataFile.Status;
 
 /**
  * A class to access TaTracker data stored as a json file on the hard disk.
+ * <p>
+ * Each save replaces the file in a single step and writes a checksum next to it, keeping the
+ * last few saves as generations to recover from if the file is ever damaged.
  */
 public class JsonTaTrackerStorage implements TaTrackerStorage {
 
+    public static final String MESSAGE_RECOVERED_EARLIER_SAVE = "Your data file %1$s could not be read, "
+            + "so your earlier save %2$s has been loaded instead.\n"
+            + "The unreadable file will be kept as %3$s the next time your data is saved.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonTaTrackerStorage.class);
 
     private Path filePath;
+    private ChecksummedDataFile dataFile;
+    private String readWarning;
 
     public JsonTaTrackerStorage(Path filePath) {
         this.filePath = filePath;
+        this.dataFile = new ChecksummedDataFile(filePath, ChecksummedDataFile.DEFAULT_GENERATION_COUNT);
     }
 
     public Path getTaTrackerFilePath() {
@@ -38,21 +47,84 @@ public class JsonTaTrackerStorage implements TaTrackerStorage {
 
     /**
      * Similar to {@link #readTaTracker()}.
+     * If the file fails its checksum, it is still read if it can be, since it may have been edited by hand.
+     * Otherwise, if the file cannot be read, the newest earlier generation that can be read is used instead,
+     * and the file is kept as {@code .corrupt} when the data is next saved.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor any of its generations is in the correct format.
      */
     public Optional<ReadOnlyTaTracker> readTaTracker(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaTracker> jsonTaTracker = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaTracker.class);
-        if (!jsonTaTracker.isPresent()) {
-            return Optional.empty();
+        ChecksummedDataFile dataFile = getDataFile(filePath);
+        DataConversionException firstError = null;
+        boolean isFileUnreadable = false;
+        readWarning = null;
+
+        for (Path candidate : dataFile.getCandidates()) {
+            boolean isGeneration = !candidate.equals(filePath);
+            Status status;
+            try {
+                status = ChecksummedDataFile.verify(candidate);
+            } catch (IOException ioe) {
+                logger.warning("Error verifying json file " + candidate + ": " + ioe);
+                firstError = firstError == null ? new DataConversionException(ioe) : firstError;
+                isFileUnreadable |= !isGeneration;
+                continue;
+            }
+
+            if (status == Status.MISSING) {
+                continue;
+            }
+            if (status == Status.CORRUPTED) {
+                logger.warning("Json file " + candidate + " does not match its checksum");
+                if (isGeneration) {
+                    continue;
+                }
+            }
+
+            try {
+                ReadOnlyTaTracker taTracker = readJsonFile(candidate);
+                if (isGeneration) {
+                    logger.warning("Recovered data from earlier save " + candidate);
+                    if (isFileUnreadable) {
+                        dataFile.markKnownBad();
+                        readWarning = String.format(MESSAGE_RECOVERED_EARLIER_SAVE, filePath, candidate,
+                                ChecksummedDataFile.getCorruptPath(filePath));
+                    }
+                } else {
+                    dataFile.markKnownGood(status);
+                }
+                return Optional.of(taTracker);
+            } catch (DataConversionException dce) {
+                firstError = firstError == null ? dce : firstError;
+                isFileUnreadable |= !isGeneration;
+            }
+        }
+
+        if (firstError != null) {
+            if (isFileUnreadable) {
+                dataFile.markKnownBad();
+            }
+            throw firstError;
         }
 
+        logger.info("Json file " + filePath + " not found");
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getReadWarning() {
+        return Optional.ofNullable(readWarning);
+    }
+
+    private static ReadOnlyTaTracker readJsonFile(Path filePath) throws DataConversionException {
         try {
-            return Optional.of(jsonTaTracker.get().toModelType());
+            return JsonTaTrackerStreamReader.read(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +138,8 @@ public class JsonTaTrackerStorage implements TaTrackerStorage {
 
     /**
      * Similar to {@link #saveTaTracker(ReadOnlyTaTracker)}.
+     * The data is streamed straight from {@code taTracker} into the file, and the previous file is kept
+     * as the newest generation.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +147,13 @@ public class JsonTaTrackerStorage implements TaTrackerStorage {
         requireNonNull(taTracker);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaTracker(taTracker), filePath);
+        getDataFile(filePath).write(out -> JsonTaTrackerStreamWriter.write(taTracker, out));
+    }
+
+    private ChecksummedDataFile getDataFile(Path filePath) {
+        return filePath.equals(this.filePath)
+                ? dataFile
+                : new ChecksummedDataFile(filePath, ChecksummedDataFile.DEFAULT_GENERATION_COUNT);
     }
 
 }
@@ -0,0 +1,193 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_DONE_SESSIONS;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_MODULES;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_DUPLICATE_SESSIONS;
+import static tatracker.storage.JsonSerializableTaTracker.MESSAGE_INVALID_RATE;
+import static tatracker.storage.ParallelConverter.convertAll;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.TaTracker;
+import tatracker.model.module.Module;
+import tatracker.model.session.Session;
+import tatracker.storage.ParallelConverter.Converted;
+
+/**
+ * Reads a TaTracker json file token by token.
+ * <p>
+ * Sessions and modules are converted into model objects in batches as they are read, with each batch
+ * converted in parallel, so the json text and the full {@code JsonAdapted*} object graph are never held
+ * in memory together.
+ * Accepts the same files, and reports the same errors, as {@link JsonSerializableTaTracker#toModelType()}.
+ */
+class JsonTaTrackerStreamReader {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "TA-Tracker's %s field is missing!";
+
+    static final String FIELD_SESSIONS = "sessions";
+    static final String FIELD_DONE_SESSIONS = "doneSessions";
+    static final String FIELD_MODULES = "modules";
+    static final String FIELD_RATE = "rate";
+
+    /** The number of entries read before they are converted together. */
+    private static final int BATCH_SIZE = 1024;
+
+    private final LoadedSessions sessions = new LoadedSessions(MESSAGE_DUPLICATE_SESSIONS);
+    private final LoadedSessions doneSessions = new LoadedSessions(MESSAGE_DUPLICATE_DONE_SESSIONS);
+    private final Set<String> moduleIds = new HashSet<>();
+    private final TaTracker taTracker = new TaTracker();
+
+    private boolean hasSessions;
+    private boolean hasDoneSessions;
+    private boolean hasModules;
+    private int rate;
+
+    private JsonTaTrackerStreamReader() {}
+
+    /**
+     * Reads the TaTracker in the json file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TaTracker read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return new JsonTaTrackerStreamReader().readTaTracker(parser);
+        }
+    }
+
+    private TaTracker readTaTracker(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a json object for the TA-Tracker");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+            case FIELD_SESSIONS:
+                hasSessions = readSessions(parser, sessions);
+                break;
+            case FIELD_DONE_SESSIONS:
+                hasDoneSessions = readSessions(parser, doneSessions);
+                break;
+            case FIELD_MODULES:
+                hasModules = readModules(parser);
+                break;
+            case FIELD_RATE:
+                rate = value.isNumeric() ? parser.getIntValue() : 0;
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        checkPresent(hasSessions, FIELD_SESSIONS);
+        checkPresent(hasDoneSessions, FIELD_DONE_SESSIONS);
+        checkPresent(hasModules, FIELD_MODULES);
+
+        if (rate <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_RATE);
+        }
+
+        sessions.getSessions().forEach(taTracker::addSession);
+        doneSessions.getSessions().forEach(taTracker::addDoneSession);
+        taTracker.setRate(rate);
+
+        return taTracker;
+    }
+
+    /**
+     * Reads the array of sessions at the current token into {@code target}.
+     *
+     * @return false if the array was null.
+     */
+    private static boolean readSessions(JsonParser parser, LoadedSessions target)
+            throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return false;
+        }
+
+        List<JsonAdaptedSession> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonUtil.fromJsonParser(parser, JsonAdaptedSession.class));
+            if (batch.size() == BATCH_SIZE) {
+                addSessions(batch, target);
+                batch.clear();
+            }
+        }
+        addSessions(batch, target);
+        return true;
+    }
+
+    private static void addSessions(List<JsonAdaptedSession> batch, LoadedSessions target)
+            throws IllegalValueException {
+        for (Converted<Session> converted : convertAll(batch, JsonAdaptedSession::toModelType)) {
+            target.add(converted.get());
+        }
+    }
+
+    /**
+     * Reads the array of modules at the current token straight into the TaTracker.
+     *
+     * @return false if the array was null.
+     */
+    private boolean readModules(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return false;
+        }
+
+        List<JsonAdaptedModule> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonUtil.fromJsonParser(parser, JsonAdaptedModule.class));
+            if (batch.size() == BATCH_SIZE) {
+                addModules(batch);
+                batch.clear();
+            }
+        }
+        addModules(batch);
+        return true;
+    }
+
+    private void addModules(List<JsonAdaptedModule> batch) throws IllegalValueException {
+        for (Converted<Module> converted : convertAll(batch, JsonAdaptedModule::toModelType)) {
+            Module module = converted.get();
+            if (!moduleIds.add(module.getIdentifier())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULES);
+            }
+            taTracker.addModule(module);
+        }
+    }
+
+    private static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a json array");
+        }
+        return true;
+    }
+
+    private static void checkPresent(boolean isPresent, String field) throws IllegalValueException {
+        if (!isPresent) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, field));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tatracker.storage.JsonTaTrackerStreamReader.FIELD_DONE_SESSIONS;
+import static tatracker.storage.JsonTaTrackerStreamReader.FIELD_MODULES;
+import static tatracker.storage.JsonTaTrackerStreamReader.FIELD_RATE;
+import static tatracker.storage.JsonTaTrackerStreamReader.FIELD_SESSIONS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.session.Session;
+import tatracker.model.student.Student;
+import tatracker.model.tag.Tag;
+
+/**
+ * Writes a TaTracker json file token by token, straight from the model.
+ * <p>
+ * No {@code JsonAdapted*} objects or json text for the whole TaTracker are built along the way,
+ * so only one entry is held in memory at a time.
+ * Writes exactly the same json as {@code JsonUtil.toJsonString(new JsonSerializableTaTracker(taTracker))}.
+ */
+class JsonTaTrackerStreamWriter {
+
+    private JsonTaTrackerStreamWriter() {} // prevents instantiation
+
+    /**
+     * Writes the given {@code taTracker} as json to {@code out}, leaving {@code out} open.
+     */
+    static void write(ReadOnlyTaTracker taTracker, OutputStream out) throws IOException {
+        requireNonNull(taTracker);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(FIELD_SESSIONS);
+            writeSessions(generator, taTracker.getSessionList());
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(FIELD_DONE_SESSIONS);
+            writeSessions(generator, taTracker.getDoneSessionList());
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(FIELD_MODULES);
+            for (Module module : taTracker.getModuleList()) {
+                writeModule(generator, module);
+            }
+            generator.writeEndArray();
+
+            generator.writeNumberField(FIELD_RATE, taTracker.getRate());
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeSessions(JsonGenerator generator, List<Session> sessions) throws IOException {
+        for (Session session : sessions) {
+            // Same field order as JsonAdaptedSession: its creator properties come first
+            generator.writeStartObject();
+            generator.writeStringField("type", session.getSessionType().name());
+            generator.writeStringField("description", session.getDescription());
+            generator.writeStringField("moduleId", session.getModuleCode());
+            generator.writeBooleanField("isDone", session.getIsDone());
+            generator.writeNumberField("recurring", session.getRecurring());
+            generator.writeStringField("startDateTime", session.getStartDateTime().toString());
+            generator.writeStringField("endDateTime", session.getEndDateTime().toString());
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeModule(JsonGenerator generator, Module module) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", module.getIdentifier());
+        generator.writeStringField("name", module.getName());
+        generator.writeArrayFieldStart("groups");
+        for (Group group : module.getGroupList()) {
+            writeGroup(generator, group);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeGroup(JsonGenerator generator, Group group) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", group.getIdentifier());
+        generator.writeStringField("type", group.getGroupType().name());
+        generator.writeArrayFieldStart("students");
+        for (Student student : group.getStudentList()) {
+            writeStudent(generator, student);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeStudent(JsonGenerator generator, Student student) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("matric", student.getMatric().value);
+        generator.writeStringField("name", student.getName().fullName);
+        generator.writeStringField("phone", student.getPhone().value);
+        generator.writeStringField("email", student.getEmail().value);
+        generator.writeNumberField("rating", student.getRating().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : student.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
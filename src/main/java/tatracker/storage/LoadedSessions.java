@@ -0,0 +1,62 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionIdentity;
+
+/**
+ * The sessions read from a data file, in the order they were read, without any two with the same identity.
+ * <p>
+ * Older versions of the app let users add sessions with the same timing, module and type, as long as their
+ * descriptions or other details differed. The model no longer allows this, so only the first of such sessions
+ * is kept, and the rest are logged and dropped. Otherwise the whole file could not be loaded,
+ * and the user would start on an empty ta-tracker that the next save writes over the file with.
+ * Sessions that are exactly the same are still reported as duplicates.
+ */
+class LoadedSessions {
+
+    private static final Logger logger = LogsCenter.getLogger(LoadedSessions.class);
+
+    private final Map<SessionIdentity, Session> sessions = new LinkedHashMap<>();
+    private final String duplicateMessage;
+
+    /**
+     * Creates an empty list that reports sessions that are exactly the same with {@code duplicateMessage}.
+     */
+    LoadedSessions(String duplicateMessage) {
+        this.duplicateMessage = requireNonNull(duplicateMessage);
+    }
+
+    /**
+     * Adds {@code session}, unless a session with the same identity was already added.
+     *
+     * @throws IllegalValueException if a session that is exactly the same was already added.
+     */
+    void add(Session session) throws IllegalValueException {
+        Session kept = sessions.putIfAbsent(session.getIdentity(), session);
+        if (kept == null) {
+            return;
+        }
+        if (kept.equals(session)) {
+            throw new IllegalValueException(duplicateMessage);
+        }
+        logger.warning("Dropped a session with the same timing, module and type as an earlier session."
+                + "\nKept: " + kept + "\nDropped: " + session);
+    }
+
+    /**
+     * Returns the sessions that were kept, in the order they were added.
+     */
+    Collection<Session> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+}
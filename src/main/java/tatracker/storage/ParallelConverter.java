@@ -0,0 +1,73 @@
+package tatracker.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tatracker.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly adapted objects into model objects, spreading the work over the
+ * common fork-join pool once there are enough of them.
+ * <p>
+ * Results always come back in the order of their sources, and each conversion error stays with
+ * its own result, so callers report exactly the same error as a conversion done one by one.
+ */
+class ParallelConverter {
+
+    /** Lists shorter than this are converted on the calling thread, as splitting them costs more than it saves. */
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Converts a single adapted object into its model object.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one adapted object.
+     */
+    static class Converted<T> {
+        private final T value;
+        private final IllegalValueException error;
+
+        private Converted(T value, IllegalValueException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * Returns the converted model object.
+         *
+         * @throws IllegalValueException if the adapted object could not be converted.
+         */
+        T get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+
+    private ParallelConverter() {} // prevents instantiation
+
+    /**
+     * Converts every element of {@code sources} with {@code conversion}, in parallel if there are enough of them.
+     *
+     * @return the outcome of each conversion, in the same order as {@code sources}.
+     */
+    static <S, T> List<Converted<T>> convertAll(List<S> sources, Conversion<S, T> conversion) {
+        Stream<S> stream = sources.size() < PARALLEL_THRESHOLD ? sources.stream() : sources.parallelStream();
+        return stream.map(source -> convert(source, conversion)).collect(Collectors.toList());
+    }
+
+    private static <S, T> Converted<T> convert(S source, Conversion<S, T> conversion) {
+        try {
+            return new Converted<>(conversion.convert(source), null);
+        } catch (IllegalValueException ive) {
+            return new Converted<>(null, ive);
+        }
+    }
+}
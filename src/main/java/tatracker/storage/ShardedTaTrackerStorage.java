@@ -0,0 +1,312 @@
+package tatracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import tatracker.commons.core.LogsCenter;
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.commons.util.FileUtil;
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.ReadOnlyTaTracker;
+
+/**
+ * A class to access TaTracker data stored as a directory of json shards on the hard disk.
+ * <p>
+ * A small manifest holds the rate and lists one shard file per module, while the sessions
+ * and done sessions are kept in two segment files of their own. Each save only rewrites the
+ * shards whose contents differ from the last save, and the shards are parsed in parallel on load.
+ */
+public class ShardedTaTrackerStorage implements TaTrackerStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SESSIONS_FILE_NAME = "sessions.json";
+    public static final String DONE_SESSIONS_FILE_NAME = "doneSessions.json";
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard %s listed in the manifest is missing.";
+    public static final String MESSAGE_MISMATCHED_SHARD = "Shard %s does not hold module %s.";
+
+    private static final String MODULE_FILE_NAME_FORMAT = "module-%s%s.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTaTrackerStorage.class);
+
+    private Path directoryPath;
+
+    /** The shards as last written to {@code directoryPath}, or null if the files on disk have not been seen yet. */
+    private Shards lastSaved;
+
+    public ShardedTaTrackerStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    public Path getTaTrackerFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the shard directory that corresponds to the json file at {@code jsonFilePath},
+     * which is the same file name with its extension replaced.
+     */
+    public static Path getShardDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaTracker> readTaTracker() throws DataConversionException {
+        return readTaTracker(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readTaTracker()}.
+     * The segments and module shards listed in the manifest are read in parallel.
+     *
+     * @param directoryPath location of the shards. Cannot be null.
+     * @throws DataConversionException if the manifest or any shard is missing or not in the correct format.
+     */
+    public Optional<ReadOnlyTaTracker> readTaTracker(Path directoryPath) throws DataConversionException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE_NAME), JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        Shards shards;
+        ReadOnlyTaTracker taTracker;
+        try {
+            shards = readShards(directoryPath, manifest.get());
+            taTracker = shards.toSerializable().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (directoryPath.equals(this.directoryPath)) {
+            lastSaved = shards;
+        }
+        return Optional.of(taTracker);
+    }
+
+    private static Shards readShards(Path directoryPath, JsonShardManifest manifest)
+            throws DataConversionException, IllegalValueException {
+        Map<String, String> moduleFileNames = manifest.getModuleFileNames();
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Future<JsonSessionShard> sessions = pool.submit(() ->
+                readShard(directoryPath, SESSIONS_FILE_NAME, JsonSessionShard.class));
+        Future<JsonSessionShard> doneSessions = pool.submit(() ->
+                readShard(directoryPath, DONE_SESSIONS_FILE_NAME, JsonSessionShard.class));
+
+        Map<String, Future<JsonAdaptedModule>> modules = new LinkedHashMap<>();
+        for (Map.Entry<String, String> moduleFile : moduleFileNames.entrySet()) {
+            modules.put(moduleFile.getKey(), pool.submit(() ->
+                    readShard(directoryPath, moduleFile.getValue(), JsonAdaptedModule.class)));
+        }
+
+        Map<String, JsonAdaptedModule> readModules = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<JsonAdaptedModule>> module : modules.entrySet()) {
+            JsonAdaptedModule readModule = join(module.getValue());
+            if (!module.getKey().equals(readModule.getId())) {
+                throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_SHARD,
+                        moduleFileNames.get(module.getKey()), module.getKey()));
+            }
+            readModules.put(module.getKey(), readModule);
+        }
+
+        return new Shards(manifest, moduleFileNames, join(sessions).getSessions(), join(doneSessions).getSessions(),
+                readModules);
+    }
+
+    private static <T> T readShard(Path directoryPath, String fileName, Class<T> shardClass)
+            throws DataConversionException {
+        return JsonUtil.readJsonFile(directoryPath.resolve(fileName), shardClass)
+                .orElseThrow(() -> new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, fileName))));
+    }
+
+    /**
+     * Waits for {@code shard} to be read, and rethrows any error encountered while reading it.
+     */
+    private static <T> T join(Future<T> shard) throws DataConversionException {
+        try {
+            return shard.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new DataConversionException(ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) ee.getCause();
+            }
+            throw new DataConversionException(ee);
+        }
+    }
+
+    @Override
+    public void saveTaTracker(ReadOnlyTaTracker taTracker) throws IOException {
+        saveTaTracker(taTracker, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveTaTracker(ReadOnlyTaTracker)}.
+     * Saves to any location other than the default one rewrite every shard.
+     *
+     * @param directoryPath location of the shards. Cannot be null.
+     */
+    public void saveTaTracker(ReadOnlyTaTracker taTracker, Path directoryPath) throws IOException {
+        requireNonNull(taTracker);
+        requireNonNull(directoryPath);
+
+        JsonSerializableTaTracker current = new JsonSerializableTaTracker(taTracker);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            writeShards(current, directoryPath, null);
+            return;
+        }
+
+        Shards previous = lastSaved;
+        // The shards on disk are unknown until this save completes
+        lastSaved = null;
+        lastSaved = writeShards(current, directoryPath, previous);
+    }
+
+    /**
+     * Writes the shards of {@code current} that differ from {@code previous} into {@code directoryPath},
+     * then removes the shards of modules that no longer exist.
+     * Every shard is written if {@code previous} is null.
+     *
+     * @return the shards now on disk.
+     */
+    private static Shards writeShards(JsonSerializableTaTracker current, Path directoryPath, Shards previous)
+            throws IOException {
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        FileUtil.createParentDirsOfFile(manifestPath);
+
+        Map<String, String> previousFileNames = previous == null ? Map.of() : previous.moduleFileNames;
+
+        // File names that were in use are never handed to another module within the same save,
+        // so that removing the old shards cannot delete a new one.
+        Set<String> usedFileNames = new HashSet<>();
+        previousFileNames.values().forEach(fileName -> usedFileNames.add(fileName.toLowerCase(Locale.ROOT)));
+
+        Map<String, String> moduleFileNames = new LinkedHashMap<>();
+        Map<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+        int written = 0;
+        for (JsonAdaptedModule module : current.getModules()) {
+            String fileName = previousFileNames.get(module.getId());
+            if (fileName == null) {
+                fileName = newModuleFileName(module.getId(), usedFileNames);
+            }
+            moduleFileNames.put(module.getId(), fileName);
+            modules.put(module.getId(), module);
+
+            if (previous == null || !module.equals(previous.modules.get(module.getId()))) {
+                JsonUtil.saveJsonFile(module, directoryPath.resolve(fileName));
+                written++;
+            }
+        }
+
+        if (previous == null || !current.getSessions().equals(previous.sessions)) {
+            JsonUtil.saveJsonFile(new JsonSessionShard(current.getSessions()),
+                    directoryPath.resolve(SESSIONS_FILE_NAME));
+            written++;
+        }
+        if (previous == null || !current.getDoneSessions().equals(previous.doneSessions)) {
+            JsonUtil.saveJsonFile(new JsonSessionShard(current.getDoneSessions()),
+                    directoryPath.resolve(DONE_SESSIONS_FILE_NAME));
+            written++;
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(current.getRate(), moduleFileNames);
+        if (previous == null || !manifest.equals(previous.manifest)) {
+            JsonUtil.saveJsonFile(manifest, manifestPath);
+            written++;
+        }
+
+        for (Map.Entry<String, String> previousFile : previousFileNames.entrySet()) {
+            if (!moduleFileNames.containsKey(previousFile.getKey())) {
+                Files.deleteIfExists(directoryPath.resolve(previousFile.getValue()));
+            }
+        }
+
+        logger.fine("Wrote " + written + " shard(s) into " + directoryPath);
+        return new Shards(manifest, moduleFileNames, current.getSessions(), current.getDoneSessions(), modules);
+    }
+
+    /**
+     * Returns an unused shard file name for the module with the given {@code moduleId}, and marks it as used.
+     * Names are compared case-insensitively, as not every file system tells them apart.
+     */
+    private static String newModuleFileName(String moduleId, Set<String> usedFileNames) {
+        String safeId = moduleId.replaceAll("[^A-Za-z0-9_-]", "_");
+        String fileName = String.format(MODULE_FILE_NAME_FORMAT, safeId, "");
+        for (int suffix = 2; !usedFileNames.add(fileName.toLowerCase(Locale.ROOT)); suffix++) {
+            fileName = String.format(MODULE_FILE_NAME_FORMAT, safeId, "-" + suffix);
+        }
+        return fileName;
+    }
+
+    /**
+     * Converts the json file at {@code jsonFilePath} into shards at the default location.
+     *
+     * @return false if there is no json file to convert.
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if the shards could not be written.
+     */
+    public boolean convertFromJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyTaTracker> taTracker = new JsonTaTrackerStorage(jsonFilePath).readTaTracker();
+        if (!taTracker.isPresent()) {
+            return false;
+        }
+
+        saveTaTracker(taTracker.get());
+        logger.info("Converted " + jsonFilePath + " into shards at " + directoryPath);
+        return true;
+    }
+
+    /**
+     * The contents of a sharded TA-Tracker, kept to find the shards that need rewriting.
+     */
+    private static class Shards {
+        private final JsonShardManifest manifest;
+        private final Map<String, String> moduleFileNames;
+        private final List<JsonAdaptedSession> sessions;
+        private final List<JsonAdaptedSession> doneSessions;
+        private final Map<String, JsonAdaptedModule> modules;
+
+        Shards(JsonShardManifest manifest, Map<String, String> moduleFileNames, List<JsonAdaptedSession> sessions,
+               List<JsonAdaptedSession> doneSessions, Map<String, JsonAdaptedModule> modules) {
+            this.manifest = manifest;
+            this.moduleFileNames = moduleFileNames;
+            this.sessions = new ArrayList<>(sessions);
+            this.doneSessions = new ArrayList<>(doneSessions);
+            this.modules = modules;
+        }
+
+        JsonSerializableTaTracker toSerializable() {
+            return new JsonSerializableTaTracker(sessions, doneSessions,
+                    new ArrayList<>(modules.values()), manifest.getRate());
+        }
+    }
+}
@@ -3,10 +3,12 @@ package tatracker.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import tatracker.commons.exceptions.DataConversionException;
 import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.ReadOnlyUserPrefs;
+import tatracker.model.TaTrackerSnapshot;
 import tatracker.model.UserPrefs;
 
 /**
@@ -29,4 +31,23 @@ public interface Storage extends TaTrackerStorage, UserPrefsStorage {
     @Override
     void saveTaTracker(ReadOnlyTaTracker taTracker) throws IOException;
 
+    /**
+     * Saves the given {@link TaTrackerSnapshot} to the storage, possibly on a background thread.
+     * Failures of background saves are reported to the handler set in {@link #setSaveFailureHandler(Consumer)}.
+     * @param snapshot cannot be null.
+     * @throws IOException if the data was saved immediately and there was any problem writing to the file.
+     */
+    void requestSaveTaTracker(TaTrackerSnapshot snapshot) throws IOException;
+
+    /**
+     * Sets the handler that is told about failures of saves that were made in the background.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Waits for any save requested through {@link #requestSaveTaTracker(TaTrackerSnapshot)} to be written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTaTracker() throws IOException;
+
 }
@@ -1,14 +1,22 @@
 package tatracker.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import tatracker.commons.core.LogsCenter;
 import tatracker.commons.exceptions.DataConversionException;
 import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.ReadOnlyUserPrefs;
+import tatracker.model.TaTrackerSection;
+import tatracker.model.TaTrackerSnapshot;
 import tatracker.model.UserPrefs;
 
 /**
@@ -19,7 +27,11 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaTrackerStorage taTrackerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundTaTrackerSaver backgroundSaver;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> { };
 
+    /** The snapshot that was last requested to be saved, or null if it has to be saved in full again. */
+    private final AtomicReference<TaTrackerSnapshot> lastRequested = new AtomicReference<>();
 
     public StorageManager(TaTrackerStorage taTrackerStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -63,6 +75,11 @@ public class StorageManager implements Storage {
         return taTrackerStorage.readTaTracker(filePath);
     }
 
+    @Override
+    public Optional<String> getReadWarning() {
+        return taTrackerStorage.getReadWarning();
+    }
+
     @Override
     public void saveTaTracker(ReadOnlyTaTracker taTracker) throws IOException {
         saveTaTracker(taTracker, taTrackerStorage.getTaTrackerFilePath());
@@ -74,4 +91,104 @@ public class StorageManager implements Storage {
         taTrackerStorage.saveTaTracker(taTracker, filePath);
     }
 
+    /**
+     * Makes {@link #requestSaveTaTracker(TaTrackerSnapshot)} save on a background thread,
+     * writing each snapshot at most {@code maxLatencyMillis} after it was requested.
+     */
+    public void enableBackgroundSaving(long maxLatencyMillis) {
+        if (backgroundSaver != null) {
+            return;
+        }
+        backgroundSaver = new BackgroundTaTrackerSaver(taTrackerStorage, maxLatencyMillis);
+        backgroundSaver.setFailureHandler(this::handleBackgroundSaveFailure);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nothing is saved if none of the data in {@code snapshot} has changed since the last snapshot
+     * of the same ta-tracker was requested to be saved.
+     */
+    @Override
+    public void requestSaveTaTracker(TaTrackerSnapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+
+        Set<TaTrackerSection> changedSections = getChangedSections(snapshot);
+        if (changedSections.isEmpty()) {
+            logger.fine("No changes to write to data file: " + getTaTrackerFilePath());
+            return;
+        }
+        logger.fine("Changed sections to write to data file: " + changedSections);
+
+        // Recorded before the save starts, so that a failure to save it can clear it
+        lastRequested.set(snapshot);
+        if (backgroundSaver != null) {
+            logger.fine("Queuing data to be written to data file: " + getTaTrackerFilePath());
+            backgroundSaver.submit(snapshot);
+            return;
+        }
+
+        try {
+            saveTaTracker(snapshot);
+        } catch (IOException ioe) {
+            handleSaveFailure(snapshot);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the sections of {@code snapshot} that have changed since the last snapshot
+     * of the same ta-tracker was requested to be saved.
+     * Every section is returned if a snapshot of a different ta-tracker was last requested to be saved,
+     * or if the last save failed.
+     */
+    public Set<TaTrackerSection> getChangedSections(TaTrackerSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        TaTrackerSnapshot previous = lastRequested.get();
+        if (!snapshot.isOfSameTaTracker(previous)) {
+            return EnumSet.allOf(TaTrackerSection.class);
+        }
+
+        Set<TaTrackerSection> changedSections = EnumSet.noneOf(TaTrackerSection.class);
+        for (TaTrackerSection section : TaTrackerSection.values()) {
+            if (snapshot.getModificationCount(section) != previous.getModificationCount(section)) {
+                changedSections.add(section);
+            }
+        }
+        return changedSections;
+    }
+
+    private void handleBackgroundSaveFailure(TaTrackerSnapshot snapshot, IOException ioe) {
+        handleSaveFailure(snapshot);
+        saveFailureHandler.accept(ioe);
+    }
+
+    /**
+     * Forces the next request to be saved again, even if nothing else changes, after {@code snapshot} failed to save.
+     * A later snapshot that was requested in the meantime already holds every change, so it is kept.
+     */
+    private void handleSaveFailure(TaTrackerSnapshot snapshot) {
+        lastRequested.compareAndSet(snapshot, null);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    @Override
+    public void flushTaTracker() throws IOException {
+        if (backgroundSaver == null) {
+            return;
+        }
+
+        TaTrackerSnapshot flushed = lastRequested.get();
+        try {
+            backgroundSaver.flush();
+        } catch (IOException ioe) {
+            handleSaveFailure(flushed);
+            throw ioe;
+        }
+    }
+
 }
@@ -31,6 +31,14 @@ public interface TaTrackerStorage {
      */
     Optional<ReadOnlyTaTracker> readTaTracker(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns a warning to show the user about the data that was last read, if there is one,
+     * such as when the data had to be recovered from an earlier save.
+     */
+    default Optional<String> getReadWarning() {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyTaTracker} to the storage.
      * @param taTracker cannot be null.
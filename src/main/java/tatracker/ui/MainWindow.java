@@ -2,8 +2,11 @@
 
 package tatracker.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -18,6 +21,7 @@ import javafx.stage.Stage;
 
 import tatracker.commons.core.GuiSettings;
 import tatracker.commons.core.LogsCenter;
+import tatracker.commons.core.Messages;
 import tatracker.logic.Logic;
 import tatracker.logic.commands.CommandResult;
 import tatracker.logic.commands.exceptions.CommandException;
@@ -64,6 +68,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private StatisticWindow statisticWindow;
 
+    /** Commands entered while the saved data was still loading, in the order they were entered. */
+    private final Queue<String> pendingCommands = new ArrayDeque<>();
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -189,6 +196,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTaTrackerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -199,6 +207,36 @@ public class MainWindow extends UiPart<Stage> {
         getRoot().addEventFilter(KeyEvent.KEY_RELEASED, this::handleFocusOnCommandBox);
         getRoot().addEventFilter(KeyEvent.KEY_RELEASED, this::handleFocusOnView);
         getRoot().addEventFilter(KeyEvent.KEY_RELEASED, this::handleSwitchingStudentViewLists);
+
+        if (!logic.isDataLoaded()) {
+            resultDisplay.setFeedbackToUser(Messages.MESSAGE_LOADING_DATA);
+            logic.setDataLoadedHandler(this::handleDataLoaded);
+        }
+    }
+
+    /**
+     * Refreshes the lists with the loaded data, then runs the commands entered while it was loading.
+     */
+    private void handleDataLoaded() {
+        claimsListPanel.updateLabel();
+        moduleListPanel.updateCells(logic.getFilteredModuleList());
+        moduleListPanelCopy.updateCells(logic.getFilteredModuleList());
+        groupListPanel.updateCells(logic.getFilteredGroupList());
+        sessionListPanel.updateLabel(
+                logic.getCurrSessionDateFilter(),
+                logic.getCurrSessionModuleFilter(),
+                logic.getCurrSessionTypeFilter());
+        resultDisplay.setFeedbackToUser(logic.getDataLoadWarning()
+                .orElse(Messages.MESSAGE_WELCOME + Messages.MESSAGE_HELP));
+
+        while (!pendingCommands.isEmpty()) {
+            String commandText = pendingCommands.remove();
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                logger.info("Queued command failed: " + commandText);
+            }
+        }
     }
 
     /**
@@ -261,7 +299,7 @@ public class MainWindow extends UiPart<Stage> {
         }
 
         // Create a new statistic window
-        statisticWindow = new StatisticWindow(new Statistic(logic.getTaTracker(), moduleCode));
+        statisticWindow = new StatisticWindow(new Statistic(logic.getTaTrackerSnapshot(), moduleCode));
         statisticWindow.show();
         statisticWindow.focus();
     }
@@ -398,6 +436,14 @@ public class MainWindow extends UiPart<Stage> {
      * @see tatracker.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (!logic.isDataLoaded()) {
+            logger.info("Queued until data is loaded: " + commandText);
+            pendingCommands.add(commandText);
+            String feedback = String.format(Messages.MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback, CommandResult.Action.NONE);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
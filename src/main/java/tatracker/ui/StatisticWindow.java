@@ -24,7 +24,7 @@ import tatracker.model.statistic.Statistic;
  */
 public class StatisticWindow extends UiPart<Stage> {
 
-    public static final int NUM_STUDENTS_TO_DISPLAY = 5;
+    public static final int NUM_STUDENTS_TO_DISPLAY = Statistic.DEFAULT_NUM_STUDENTS;
 
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "StatisticWindow.fxml";
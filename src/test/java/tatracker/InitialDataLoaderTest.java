@@ -0,0 +1,122 @@
+package tatracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithModules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+import tatracker.model.util.SampleDataUtil;
+import tatracker.storage.TaTrackerStorage;
+
+public class InitialDataLoaderTest {
+
+    @Test
+    public void load_storageThrowsRuntimeException_emptyTaTrackerWithWarning() {
+        InitialDataLoader loader = new InitialDataLoader(() -> {}, new TaTrackerStorageStub(() -> {
+            throw new IllegalStateException("unexpected");
+        }));
+
+        assertEquals(new TaTracker(), loader.load());
+        assertEquals(Optional.of(String.format(InitialDataLoader.MESSAGE_LOAD_FAILED, "unexpected")),
+                loader.getWarning());
+    }
+
+    @Test
+    public void load_storageThrowsIoException_emptyTaTrackerWithWarning() {
+        InitialDataLoader loader = new InitialDataLoader(() -> {}, new TaTrackerStorageStub(() -> {
+            throw new IOException("disk error");
+        }));
+
+        assertEquals(new TaTracker(), loader.load());
+        assertTrue(loader.getWarning().isPresent());
+    }
+
+    @Test
+    public void load_migrationThrowsRuntimeException_stillReadsStorage() {
+        ReadOnlyTaTracker saved = getTypicalTaTrackerWithModules();
+        InitialDataLoader loader = new InitialDataLoader(() -> {
+            throw new IllegalStateException("migration failed");
+        }, new TaTrackerStorageStub(() -> Optional.of(saved)));
+
+        assertEquals(saved, loader.load());
+        assertFalse(loader.getWarning().isPresent());
+    }
+
+    @Test
+    public void load_storageRecoveredData_storageWarningShown() {
+        ReadOnlyTaTracker saved = getTypicalTaTrackerWithModules();
+        TaTrackerStorageStub storage = new TaTrackerStorageStub(() -> Optional.of(saved));
+        storage.readWarning = "recovered";
+        InitialDataLoader loader = new InitialDataLoader(() -> {}, storage);
+
+        assertEquals(saved, loader.load());
+        assertEquals(Optional.of("recovered"), loader.getWarning());
+    }
+
+    @Test
+    public void load_fileNotFound_sampleDataWithoutWarning() {
+        InitialDataLoader loader = new InitialDataLoader(() -> {}, new TaTrackerStorageStub(Optional::empty));
+
+        assertEquals(SampleDataUtil.getSampleTaTracker(), loader.load());
+        assertFalse(loader.getWarning().isPresent());
+    }
+
+    /**
+     * Reads the data file by running a {@code Reader}.
+     */
+    private interface Reader {
+        Optional<ReadOnlyTaTracker> read() throws DataConversionException, IOException;
+    }
+
+    /**
+     * A storage stub that can only be read from.
+     */
+    private static class TaTrackerStorageStub implements TaTrackerStorage {
+        private final Reader reader;
+        private String readWarning = null;
+
+        private TaTrackerStorageStub(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Path getTaTrackerFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaTracker> readTaTracker() throws DataConversionException, IOException {
+            return reader.read();
+        }
+
+        @Override
+        public Optional<ReadOnlyTaTracker> readTaTracker(Path filePath) throws DataConversionException, IOException {
+            return reader.read();
+        }
+
+        @Override
+        public Optional<String> getReadWarning() {
+            return Optional.ofNullable(readWarning);
+        }
+
+        @Override
+        public void saveTaTracker(ReadOnlyTaTracker taTracker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package tatracker.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,16 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first content that is longer");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
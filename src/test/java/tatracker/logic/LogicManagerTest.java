@@ -1,6 +1,8 @@
 package tatracker.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tatracker.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static tatracker.logic.commands.CommandTestUtil.GROUP_DESC_T04;
@@ -11,10 +13,14 @@ import static tatracker.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static tatracker.logic.commands.CommandTestUtil.VALID_GROUP_T04;
 import static tatracker.logic.commands.CommandTestUtil.VALID_MODULE_CS2030;
 import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithModules;
 import static tatracker.testutil.student.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +35,7 @@ import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.Model;
 import tatracker.model.ModelManager;
 import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
 import tatracker.model.UserPrefs;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
@@ -115,6 +122,50 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_dataStillLoading_throwsCommandException() {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.startLoadingData();
+        assertFalse(logic.isDataLoaded());
+
+        String listCommand = ListCommand.DETAILS.getFullCommandWord();
+        assertCommandException(listCommand, LogicManager.DATA_NOT_LOADED_MESSAGE);
+        assertFalse(Files.exists(temporaryFolder.resolve("tatracker.json")));
+    }
+
+    @Test
+    public void publishLoadedData_dataStillLoading_showsDataAndRunsHandler() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        AtomicBoolean isHandlerRun = new AtomicBoolean(false);
+        logicManager.setDataLoadedHandler(() -> isHandlerRun.set(true));
+        logicManager.startLoadingData();
+
+        ReadOnlyTaTracker loadedData = getTypicalTaTrackerWithModules();
+        logicManager.publishLoadedData(loadedData);
+
+        assertTrue(logic.isDataLoaded());
+        assertTrue(isHandlerRun.get());
+        assertEquals(loadedData.getModuleList(), logic.getFilteredModuleList());
+
+        String listCommand = ListCommand.DETAILS.getFullCommandWord();
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_LISTED_SESSIONS, model);
+    }
+
+    @Test
+    public void publishLoadedData_withWarning_warningShownAndCommandsRun() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.startLoadingData();
+        assertFalse(logic.getDataLoadWarning().isPresent());
+
+        logicManager.publishLoadedData(new TaTracker(), Optional.of("warning"));
+
+        assertTrue(logic.isDataLoaded());
+        assertEquals(Optional.of("warning"), logic.getDataLoadWarning());
+
+        String listCommand = ListCommand.DETAILS.getFullCommandWord();
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_LISTED_SESSIONS, new ModelManager());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
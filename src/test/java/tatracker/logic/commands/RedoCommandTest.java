@@ -0,0 +1,58 @@
+//@@author potatocombat
+
+package tatracker.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tatracker.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.logic.commands.commons.RedoCommand;
+import tatracker.logic.commands.commons.UndoCommand;
+import tatracker.model.Model;
+import tatracker.model.ModelManager;
+import tatracker.model.module.Module;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addModule(new Module("CS2103T"));
+        model.commitTaTracker();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneChanges_restoresLaterVersion() throws Exception {
+        Model model = new ModelManager();
+        Module module = new Module("CS2103T");
+        model.addModule(module);
+        model.commitTaTracker();
+        new UndoCommand().execute(model);
+
+        CommandResult expectedResult = new CommandResult(RedoCommand.MESSAGE_REDO_SUCCESS, Action.NONE);
+        assertEquals(expectedResult, new RedoCommand().execute(model));
+        assertEquals(List.of(module), model.getTaTracker().getModuleList());
+        assertEquals(List.of(module), model.getFilteredModuleList());
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_newChangesAfterUndo_throwsCommandException() throws Exception {
+        Model model = new ModelManager();
+        model.addModule(new Module("CS2103T"));
+        model.commitTaTracker();
+        new UndoCommand().execute(model);
+
+        model.addModule(new Module("CS3243"));
+        model.commitTaTracker();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,56 @@
+//@@author potatocombat
+
+package tatracker.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.logic.commands.commons.UndoCommand;
+import tatracker.model.Model;
+import tatracker.model.ModelManager;
+import tatracker.model.TaTracker;
+import tatracker.model.UserPrefs;
+import tatracker.model.module.Module;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        Model model = new ModelManager(getTypicalTaTrackerWithStudents(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_committedChanges_restoresEarlierVersions() throws Exception {
+        Model model = new ModelManager(getTypicalTaTrackerWithStudents(), new UserPrefs());
+        List<Module> modules = List.copyOf(model.getTaTracker().getModuleList());
+
+        model.addModule(new Module("CS2103T"));
+        model.commitTaTracker();
+        model.setRate(10);
+        model.commitTaTracker();
+        model.setTaTracker(new TaTracker());
+        model.commitTaTracker();
+
+        CommandResult expectedResult = new CommandResult(UndoCommand.MESSAGE_UNDO_SUCCESS, Action.NONE);
+
+        assertEquals(expectedResult, new UndoCommand().execute(model));
+        assertEquals(modules.size() + 1, model.getTaTracker().getModuleList().size());
+        assertEquals(10, model.getTaTracker().getRate());
+
+        assertEquals(expectedResult, new UndoCommand().execute(model));
+        assertTrue(model.getTaTracker().getRate() != 10);
+
+        assertEquals(expectedResult, new UndoCommand().execute(model));
+        assertEquals(modules, model.getTaTracker().getModuleList());
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
@@ -38,10 +38,10 @@ public class EditGroupCommandTest {
 
         assertEquals(String.format(EditGroupCommand.MESSAGE_EDIT_GROUP_SUCCESS,
                 validModule.getIdentifier(),
-                validGroup.getIdentifier()),
+                "GNEW"),
                 commandResult.getFeedbackToUser());
         assertEquals(Arrays.asList(validModule), modelStub.modulesAdded);
-        assertEquals(Arrays.asList(validGroup), modelStub.modulesAdded.get(0).getGroupList());
+        assertEquals(Arrays.asList(new Group("GNEW")), modelStub.modulesAdded.get(0).getGroupList());
     }
 
     @Test
@@ -45,7 +45,7 @@ public class EditGroupIntegrationTest {
 
         assertEquals(String.format(EditGroupCommand.MESSAGE_EDIT_GROUP_SUCCESS,
                 validModule.getIdentifier(),
-                validGroup.getIdentifier()),
+                "GNEW"),
                 commandResult.getFeedbackToUser());
         assertTrue(model.hasGroup("GNEW", validModule.getIdentifier()));
         Group changedGroup = model.getModule(validModule.getIdentifier()).getGroup("GNEW");
@@ -71,16 +71,33 @@ public class AddSessionCommandTest {
         assertEquals(Arrays.asList(validSession), modelStub.sessionsAdded);
     }
 
-    // @Test
-    // public void execute_duplicateSession_throwsCommandException() {
-    //     Session validSession = new SessionBuilder().build();
-    //     AddSessionCommand addSessionCommand = new AddSessionCommand(validSession);
-    //
-    //     ModelStub modelStub = new ModelStubWithSession(validSession);
-    //
-    //     assertThrows(CommandException.class, Messages.MESSAGE_DUPLICATE_SESSION, ()
-    //         -> addSessionCommand.execute(modelStub));
-    // }
+    @Test
+    public void execute_clashingSession_addSuccessfulWithWarning() throws Exception {
+        ModelStubAcceptingSessionAdded modelStub = new ModelStubAcceptingSessionAdded();
+        modelStub.addModule(CS2103T);
+        Session existingSession = new SessionBuilder().build();
+        modelStub.addSession(existingSession);
+        Session clashingSession = new SessionBuilder().withSessionType("lab").build();
+
+        CommandResult commandResult = new AddSessionCommand(clashingSession).execute(modelStub);
+
+        assertEquals(String.format(AddSessionCommand.MESSAGE_ADD_SESSION_SUCCESS,
+                clashingSession.getMinimalDescription())
+                + ClashSessionCommand.getClashWarning(Arrays.asList(existingSession)),
+                commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(existingSession, clashingSession), modelStub.sessionsAdded);
+    }
+
+    @Test
+    public void execute_duplicateSession_throwsCommandException() {
+        Session validSession = new SessionBuilder().build();
+        AddSessionCommand addSessionCommand = new AddSessionCommand(validSession);
+
+        ModelStub modelStub = new ModelStubWithSession(validSession);
+
+        assertThrows(CommandException.class, Messages.MESSAGE_DUPLICATE_SESSION, ()
+            -> addSessionCommand.execute(modelStub));
+    }
 
     @Test
     public void equals() {
@@ -0,0 +1,73 @@
+//@@author potatocombat
+
+package tatracker.logic.commands.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.logic.commands.CommandResult;
+import tatracker.logic.commands.CommandResult.Action;
+import tatracker.model.Model;
+import tatracker.model.ModelManager;
+import tatracker.model.session.Session;
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class ClashSessionCommandTest {
+
+    private static final Session TUTORIAL = new SessionBuilder()
+            .withStartTime(LocalTime.of(10, 0))
+            .withEndTime(LocalTime.of(12, 0))
+            .build();
+    private static final Session CONSULTATION = new SessionBuilder()
+            .withSessionType("consultation")
+            .withStartTime(LocalTime.of(11, 0))
+            .withEndTime(LocalTime.of(13, 0))
+            .build();
+    private static final Session GRADING = new SessionBuilder()
+            .withSessionType("grading")
+            .withStartTime(LocalTime.of(13, 0))
+            .withEndTime(LocalTime.of(14, 0))
+            .build();
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_noClashes_showsNoClashesMessage() {
+        model.addSession(TUTORIAL);
+        model.addSession(GRADING);
+
+        CommandResult result = new ClashSessionCommand().execute(model);
+
+        assertEquals(new CommandResult(ClashSessionCommand.MESSAGE_NO_CLASHES, Action.GOTO_SESSION), result);
+    }
+
+    @Test
+    public void execute_clashingSessions_listsClashingPairs() {
+        model.addSession(GRADING);
+        model.addSession(CONSULTATION);
+        model.addSession(TUTORIAL);
+
+        CommandResult result = new ClashSessionCommand().execute(model);
+
+        String expectedPairs = "\n1. Tutorial (CS2103T) 20 May 2020, 10:00AM - 20 May 2020, 12:00PM"
+                + "\n    clashes with Consultation (CS2103T) 20 May 2020, 11:00AM - 20 May 2020, 01:00PM";
+        assertEquals(String.format(ClashSessionCommand.MESSAGE_CLASHES, 1, expectedPairs),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void getClashWarning_noClashingSessions_returnsEmptyString() {
+        assertEquals("", ClashSessionCommand.getClashWarning(List.of()));
+    }
+
+    @Test
+    public void getClashWarning_clashingSessions_listsSessions() {
+        String expectedSessions = "\n- Consultation (CS2103T) 20 May 2020, 11:00AM - 20 May 2020, 01:00PM";
+        assertEquals(String.format(ClashSessionCommand.MESSAGE_CLASH_WARNING, 1, expectedSessions),
+                ClashSessionCommand.getClashWarning(List.of(CONSULTATION)));
+    }
+}
@@ -3,6 +3,7 @@ package tatracker.logic.commands.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.logic.commands.CommandTestUtil.assertFilterSessionCommandSuccess;
 import static tatracker.logic.commands.session.FilterSessionCommand.MESSAGE_FILTERED_SESSIONS_SUCCESS;
 
@@ -207,4 +208,25 @@ public class FilterSessionCommandTest {
         assertEquals(expectedModel.getFilteredSessionList(), model.getFilteredSessionList());
 
     }
+
+    //@@author potatocombat
+    @Test
+    public void execute_matchAll_showsSessionsMatchingEveryKeyword() {
+        SessionPredicate predicate = new SessionPredicate();
+        predicate.setModuleCode("CS3243");
+        predicate.setSessionType(SessionType.LAB);
+        predicate.setMatchAll(true);
+        FilterSessionCommand command = new FilterSessionCommand(predicate);
+
+        String expectedMsg = new StringBuilder(FilterSessionCommand.MESSAGE_FILTERED_SESSIONS_SUCCESS)
+                .append("\nModule: ").append("CS3243")
+                .append("\nType: ").append(SessionType.LAB)
+                .append("\nMatching: all of the above")
+                .toString();
+
+        expectedModel.updateFilteredSessionList(predicate);
+        assertFilterSessionCommandSuccess(command, model, expectedMsg, expectedModel);
+        assertTrue(model.getFilteredSessionList().stream().allMatch(session ->
+                session.getModuleCode().equals("CS3243") && session.getSessionType() == SessionType.LAB));
+    }
 }
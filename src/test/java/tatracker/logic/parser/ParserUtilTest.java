@@ -1,6 +1,7 @@
 package tatracker.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.logic.parser.ParserUtil.MESSAGE_INVALID_UNSIGNED_INT;
 import static tatracker.testutil.Assert.assertThrows;
@@ -23,6 +24,7 @@ import tatracker.logic.parser.exceptions.ParseException;
 import tatracker.model.TaTracker;
 import tatracker.model.group.GroupType;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionPredicate;
 import tatracker.model.session.SessionType;
 import tatracker.model.student.Email;
 import tatracker.model.student.Matric;
@@ -407,6 +409,19 @@ public class ParserUtilTest {
         assertEquals(expectedGroupType, ParserUtil.parseGroupType(typeWithWhitespace));
     }
 
+    @Test
+    public void parseMatchAll_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, SessionPredicate.CONSTRAINTS_MATCH, ()
+            -> ParserUtil.parseMatchAll("every"));
+    }
+
+    @Test
+    public void parseMatchAll_validInput_success() throws Exception {
+        assertTrue(ParserUtil.parseMatchAll("all"));
+        assertTrue(ParserUtil.parseMatchAll(WHITESPACE + "ALL" + WHITESPACE));
+        assertFalse(ParserUtil.parseMatchAll("any"));
+    }
+
     @Test
     public void parseSortType_invalidInput_throwsParseException() {
         // Invalid characters
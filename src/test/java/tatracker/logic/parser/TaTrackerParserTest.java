@@ -11,6 +11,8 @@ import tatracker.logic.commands.commons.ClearCommand;
 import tatracker.logic.commands.commons.ExitCommand;
 import tatracker.logic.commands.commons.HelpCommand;
 import tatracker.logic.commands.commons.ListCommand;
+import tatracker.logic.commands.commons.RedoCommand;
+import tatracker.logic.commands.commons.UndoCommand;
 import tatracker.logic.parser.exceptions.ParseException;
 
 public class TaTrackerParserTest {
@@ -66,6 +68,18 @@ public class TaTrackerParserTest {
         assertTrue(parser.parseCommand(ListCommand.DETAILS.getFullCommandWord() + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.DETAILS.getFullCommandWord()) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.DETAILS.getFullCommandWord() + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.DETAILS.getFullCommandWord()) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.DETAILS.getFullCommandWord() + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_HELP, ()
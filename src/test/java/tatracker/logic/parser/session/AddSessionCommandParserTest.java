@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import tatracker.commons.core.Messages;
 import tatracker.logic.commands.exceptions.CommandException;
 import tatracker.logic.commands.session.AddSessionCommand;
+import tatracker.model.session.Session;
 import tatracker.model.session.SessionType;
 
 
@@ -68,4 +69,11 @@ public class AddSessionCommandParserTest {
 
         assertParseFailure(parser, command.toString(), expectedMessage);
     }
+
+    //@@author potatocombat
+    @Test
+    public void parse_dateOutOfRange_failure() {
+        assertParseFailure(parser, " m/" + DEFAULT_MODULE + " s/" + DEFAULT_START + " e/" + DEFAULT_END
+                + " d/9999-01-01", Session.CONSTRAINTS_TIMING);
+    }
 }
@@ -3,11 +3,14 @@
 package tatracker.logic.parser.session;
 
 import static tatracker.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tatracker.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import org.junit.jupiter.api.Test;
 
 import tatracker.commons.core.Messages;
 import tatracker.logic.commands.session.FilterSessionCommand;
+import tatracker.model.session.SessionPredicate;
+import tatracker.model.session.SessionType;
 
 public class FilterSessionCommandParserTest {
 
@@ -41,4 +44,28 @@ public class FilterSessionCommandParserTest {
         //notes as prefix
         assertParseFailure(parser, COMMAND_WITH_WRONG_PREFIX_NOTES, expectedMsg);
     }
+
+    //@@author potatocombat
+    @Test
+    public void parse_match_setsMatchAll() {
+        SessionPredicate anyPredicate = new SessionPredicate();
+        anyPredicate.setModuleCode("CS3243");
+        anyPredicate.setSessionType(SessionType.GRADING);
+        assertParseSuccess(parser, " m/CS3243 t/grading", new FilterSessionCommand(anyPredicate));
+        assertParseSuccess(parser, " m/CS3243 t/grading match/any", new FilterSessionCommand(anyPredicate));
+
+        SessionPredicate allPredicate = new SessionPredicate(anyPredicate);
+        allPredicate.setMatchAll(true);
+        assertParseSuccess(parser, " m/CS3243 t/grading match/all", new FilterSessionCommand(allPredicate));
+        assertParseSuccess(parser, " m/CS3243 match/ALL t/grading", new FilterSessionCommand(allPredicate));
+    }
+
+    @Test
+    public void parse_invalidMatch_failure() {
+        assertParseFailure(parser, " m/CS3243 match/both", SessionPredicate.CONSTRAINTS_MATCH);
+
+        // match alone is not a filter
+        String expectedMsg = Messages.getInvalidCommandMessage(FilterSessionCommand.DETAILS.getUsage());
+        assertParseFailure(parser, " match/all", expectedMsg);
+    }
 }
@@ -0,0 +1,34 @@
+//@@author potatocombat
+
+package tatracker.logic.parser.statistic;
+
+import static tatracker.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tatracker.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.logic.commands.statistic.ShowStatisticCommand;
+import tatracker.model.statistic.Statistic;
+
+public class ShowStatisticCommandParserTest {
+
+    private final ShowStatisticCommandParser parser = new ShowStatisticCommandParser();
+
+    @Test
+    public void parse_noArguments_allModulesWithDefaultNumStudents() {
+        assertParseSuccess(parser, "", new ShowStatisticCommand());
+    }
+
+    @Test
+    public void parse_moduleAndNumStudents_success() {
+        assertParseSuccess(parser, " CS2103T k/10", new ShowStatisticCommand("CS2103T", 10));
+        assertParseSuccess(parser, " k/3", new ShowStatisticCommand(null, 3));
+        assertParseSuccess(parser, " k/" + Integer.MAX_VALUE, new ShowStatisticCommand(null, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parse_invalidNumStudents_failure() {
+        assertParseFailure(parser, " CS2103T k/0", Statistic.CONSTRAINTS_NUM_STUDENTS);
+        assertParseFailure(parser, " k/many", Statistic.CONSTRAINTS_NUM_STUDENTS);
+    }
+}
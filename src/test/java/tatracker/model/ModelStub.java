@@ -4,13 +4,16 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import tatracker.commons.core.GuiSettings;
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionClash;
 import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
 
@@ -29,6 +32,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public TaTrackerSnapshot getTaTrackerSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTaTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoTaTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoTaTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoTaTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoTaTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearTaTrackerHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyUserPrefs getUserPrefs() {
         throw new AssertionError("This method should not be called.");
@@ -160,6 +198,18 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    //@@author potatocombat
+    @Override
+    public List<Session> getClashingSessions(Session session) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    //@@author potatocombat
+    @Override
+    public List<SessionClash> getSessionClashes() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //@@author Chuayijing
     @Override
     public ObservableList<Session> getFilteredSessionList() {
@@ -480,6 +530,14 @@ public class ModelStub implements Model {
             sessionsAdded.add(session);
         }
 
+        @Override
+        public List<Session> getClashingSessions(Session session) {
+            requireNonNull(session);
+            return sessionsAdded.stream()
+                    .filter(added -> !added.isSameSession(session) && added.hasTimingClash(session))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public ReadOnlyTaTracker getTaTracker() {
             return new TaTracker();
@@ -563,6 +621,24 @@ public class ModelStub implements Model {
             modulesAdded.remove(module);
         }
 
+        @Override
+        public void setModule(Module target, Module editedModule) {
+            requireNonNull(editedModule);
+            modulesAdded.set(modulesAdded.indexOf(target), editedModule);
+        }
+
+        @Override
+        public void addGroup(Group group, Module targetModule) {
+            requireNonNull(group);
+            getModule(targetModule.getIdentifier()).addGroup(group);
+        }
+
+        @Override
+        public void setGroup(Group target, Group editedGroup, Module targetModule) {
+            requireNonNull(editedGroup);
+            getModule(targetModule.getIdentifier()).setGroup(target, editedGroup);
+        }
+
         @Override
         public void updateFilteredGroupList(String moduleCode) {
             moduleShown = moduleCode;
@@ -0,0 +1,158 @@
+package tatracker.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.student.TypicalStudents.ALICE;
+import static tatracker.testutil.student.TypicalStudents.BENSON;
+import static tatracker.testutil.student.TypicalStudents.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.student.Student;
+import tatracker.testutil.student.StudentBuilder;
+
+public class StudentRegistryTest {
+
+    private final StudentRegistry registry = new StudentRegistry();
+
+    private final Module module = new Module("CS2103T", "Software Engineering");
+    private final Group tutorial = new Group("T01");
+    private final Group lab = new Group("L01");
+
+    @Test
+    public void getEnrollments_unknownStudent_emptyList() {
+        assertTrue(registry.getEnrollments(ALICE.getMatric()).isEmpty());
+        assertFalse(registry.contains(ALICE.getMatric()));
+        assertNull(registry.get(ALICE.getMatric()));
+    }
+
+    @Test
+    public void getEnrollments_modifyList_throwsUnsupportedOperationException() {
+        registry.enroll(ALICE, module, tutorial);
+        assertThrows(UnsupportedOperationException.class, () -> registry.getEnrollments(ALICE.getMatric()).clear());
+    }
+
+    @Test
+    public void enroll_sameStudentInTwoGroups_listedOnceWithLatestDetails() {
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        registry.enroll(ALICE, module, tutorial);
+        registry.enroll(BENSON, module, tutorial);
+        registry.enroll(editedAlice, module, lab);
+
+        assertEquals(List.of(editedAlice, BENSON), registry.asUnmodifiableObservableList());
+        assertEquals(List.of(new Enrollment(module, tutorial), new Enrollment(module, lab)),
+                registry.getEnrollments(ALICE.getMatric()));
+    }
+
+    @Test
+    public void withdraw_lastEnrollment_studentRemoved() {
+        registry.enroll(ALICE, module, tutorial);
+        registry.withdraw(ALICE.getMatric(), tutorial);
+        assertEquals(0, registry.size());
+        assertTrue(registry.getEnrollments(ALICE.getMatric()).isEmpty());
+    }
+
+    @Test
+    public void withdraw_notEnrolledInGroup_nothingChanged() {
+        registry.enroll(ALICE, module, tutorial);
+        registry.withdraw(ALICE.getMatric(), lab);
+        registry.withdraw(BOB.getMatric(), tutorial);
+        assertEquals(List.of(ALICE), registry.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void withdraw_otherEnrollmentRemains_detailsFromRemainingGroup() {
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        tutorial.addStudent(ALICE);
+        lab.addStudent(editedAlice);
+        registry.enroll(ALICE, module, tutorial);
+        registry.enroll(editedAlice, module, lab);
+
+        registry.withdraw(ALICE.getMatric(), lab);
+        assertEquals(List.of(ALICE), registry.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void withdrawGroup_groupWithStudents_onlyOtherStudentsRemain() {
+        tutorial.addStudent(ALICE);
+        tutorial.addStudent(BENSON);
+        lab.addStudent(BENSON);
+        lab.addStudent(BOB);
+        module.addGroup(tutorial);
+        module.addGroup(lab);
+        registry.enrollModule(module);
+
+        registry.withdrawGroup(tutorial);
+        assertEquals(List.of(BENSON, BOB), registry.asUnmodifiableObservableList());
+        assertEquals(List.of(new Enrollment(module, lab)), registry.getEnrollments(BENSON.getMatric()));
+
+        registry.withdrawModule(module);
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void withdrawModule_studentInEveryGroup_removedOnce() {
+        tutorial.addStudent(ALICE);
+        tutorial.addStudent(BENSON);
+        lab.addStudent(BENSON);
+        module.addGroup(tutorial);
+        module.addGroup(lab);
+        registry.enrollModule(module);
+
+        Group otherGroup = new Group("T02");
+        Module otherModule = new Module("CS2101", "Effective Communication");
+        otherGroup.addStudent(BOB);
+        otherModule.addGroup(otherGroup);
+        registry.enrollModule(otherModule);
+
+        registry.withdrawModule(module);
+        assertEquals(List.of(BOB), registry.asUnmodifiableObservableList());
+        assertTrue(registry.getEnrollments(BENSON.getMatric()).isEmpty());
+        assertEquals(List.of(BOB), registry.getLowestRatedStudents(5));
+    }
+
+    @Test
+    public void replace_differentIdentity_enrollmentMoved() {
+        registry.enroll(ALICE, module, tutorial);
+        registry.replace(ALICE, BOB, module, tutorial);
+
+        assertEquals(List.of(BOB), registry.asUnmodifiableObservableList());
+        assertTrue(registry.getEnrollments(ALICE.getMatric()).isEmpty());
+        assertEquals(List.of(new Enrollment(module, tutorial)), registry.getEnrollments(BOB.getMatric()));
+    }
+
+    @Test
+    public void getLowestRatedStudents_afterRatingChanges_keepsRatingsUpToDate() {
+        registry.enroll(BENSON, module, tutorial);
+        registry.enroll(ALICE, module, tutorial);
+        assertEquals(List.of(ALICE, BENSON), registry.getLowestRatedStudents(5));
+        assertEquals(List.of(ALICE), registry.getLowestRatedStudents(1));
+        assertEquals(List.of(ALICE, BENSON), registry.getLowestRatedStudents(Integer.MAX_VALUE));
+
+        Student improvedAlice = new StudentBuilder(ALICE).withRating(5).build();
+        registry.replace(ALICE, improvedAlice, module, tutorial);
+        assertEquals(List.of(BENSON, improvedAlice), registry.getLowestRatedStudents(5));
+        assertEquals(0, registry.getNumStudentsWithRating(1));
+        assertEquals(1, registry.getNumStudentsWithRating(5));
+
+        registry.withdraw(BENSON.getMatric(), tutorial);
+        registry.withdraw(improvedAlice.getMatric(), tutorial);
+        assertEquals(List.of(), registry.getLowestRatedStudents(5));
+    }
+
+    @Test
+    public void clear_enrolledStudents_empty() {
+        registry.enroll(ALICE, module, tutorial);
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertTrue(registry.getEnrollments(ALICE.getMatric()).isEmpty());
+    }
+}
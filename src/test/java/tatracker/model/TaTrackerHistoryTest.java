@@ -0,0 +1,124 @@
+//@@author potatocombat
+
+package tatracker.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TaTrackerHistoryTest {
+
+    private final List<Integer> values = new ArrayList<>();
+    private final TaTrackerHistory history = new TaTrackerHistory(2);
+
+    /**
+     * Adds {@code value} to the end of {@code values}, and records how to undo and redo it.
+     */
+    private void append(int value) {
+        values.add(value);
+        history.record(() -> values.remove(values.size() - 1), () -> append(value));
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TaTrackerHistory(0));
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undo_version_undoesChangesInReverse() {
+        append(1);
+        history.commit();
+        append(2);
+        append(3);
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(1), values);
+        assertTrue(history.canRedo());
+
+        history.undo();
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThemTogether() {
+        append(1);
+        append(2);
+        assertTrue(history.canUndo());
+
+        history.undo();
+        assertEquals(List.of(), values);
+    }
+
+    @Test
+    public void redo_undoneVersion_redoesChangesWithoutRecordingThem() {
+        append(1);
+        append(2);
+        history.commit();
+        history.undo();
+
+        history.redo();
+        assertEquals(List.of(1, 2), values);
+        assertFalse(history.canRedo());
+
+        // Redoing does not record the changes again, so they are undone once
+        history.undo();
+        assertEquals(List.of(), values);
+    }
+
+    @Test
+    public void commit_afterUndo_cannotRedo() {
+        append(1);
+        history.commit();
+        history.undo();
+
+        append(2);
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void commit_beyondCapacity_forgetsOldestVersion() {
+        append(1);
+        history.commit();
+        append(2);
+        history.commit();
+        append(3);
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertEquals(List.of(1), values);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void clear_forgetsEveryVersion() {
+        append(1);
+        history.commit();
+        append(2);
+        history.clear();
+
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertEquals(List.of(1, 2), values);
+    }
+}
@@ -0,0 +1,190 @@
+package tatracker.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.student.TypicalStudents.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.module.exception.ModuleNotFoundException;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.statistic.Statistic;
+import tatracker.model.student.Rating;
+import tatracker.model.student.Student;
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class TaTrackerSnapshotTest {
+
+    @Test
+    public void getSnapshot_laterChanges_notSeenBySnapshot() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Module module = taTracker.getModuleList().get(0);
+        Group group = module.getGroupList().get(0);
+        List<Student> students = new ArrayList<>(group.getStudentList());
+
+        TaTrackerSnapshot snapshot = taTracker.getSnapshot();
+        long version = snapshot.getVersion();
+
+        taTracker.deleteStudent(students.get(0), group.getIdentifier(), module.getIdentifier());
+        taTracker.addSession(new SessionBuilder().build());
+        taTracker.setRate(100);
+
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(students, snapshot.getModuleList().get(0).getGroupList().get(0).getStudentList());
+        assertEquals(students.size(), snapshot.getCompleteStudentList().size());
+        assertTrue(snapshot.getSessionList().isEmpty());
+        assertEquals(40, snapshot.getRate());
+        assertTrue(taTracker.getSnapshot().getVersion() > version);
+    }
+
+    @Test
+    public void getSnapshot_unchangedSections_sharedWithPreviousSnapshot() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        TaTrackerSnapshot first = taTracker.getSnapshot();
+
+        taTracker.addSession(new SessionBuilder().build());
+        TaTrackerSnapshot second = taTracker.getSnapshot();
+
+        assertNotSame(first.getSessionList(), second.getSessionList());
+        assertSame(first.getDoneSessionList(), second.getDoneSessionList());
+        assertSame(first.getModuleList(), second.getModuleList());
+        assertSame(first.getCompleteStudentList(), second.getCompleteStudentList());
+    }
+
+    @Test
+    public void getSnapshot_oneModuleChanged_otherModulesShared() {
+        TaTracker taTracker = new TaTracker();
+        Module changed = new Module("CS2103T");
+        taTracker.addModule(changed);
+        taTracker.addModule(new Module("CS3243"));
+        TaTrackerSnapshot first = taTracker.getSnapshot();
+
+        taTracker.addGroup(new Group("G01"), changed);
+        TaTrackerSnapshot second = taTracker.getSnapshot();
+
+        assertTrue(first.getModuleList().get(0).getGroupList().isEmpty());
+        assertEquals(1, second.getModuleList().get(0).getGroupList().size());
+        assertSame(first.getModuleList().get(1), second.getModuleList().get(1));
+    }
+
+    @Test
+    public void getSnapshot_afterUndo_seesRestoredData() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Module module = taTracker.getModuleList().get(0);
+        taTracker.commit();
+
+        taTracker.addGroup(new Group("G99"), module);
+        taTracker.commit();
+        assertEquals(2, taTracker.getSnapshot().getModuleList().get(0).getGroupList().size());
+
+        taTracker.undo();
+        assertEquals(1, taTracker.getSnapshot().getModuleList().get(0).getGroupList().size());
+    }
+
+    @Test
+    public void isOfSameTaTracker() {
+        TaTracker taTracker = new TaTracker();
+        TaTrackerSnapshot first = taTracker.getSnapshot();
+        taTracker.setRate(100);
+        TaTrackerSnapshot second = taTracker.getSnapshot();
+
+        assertTrue(second.isOfSameTaTracker(first));
+        assertFalse(second.isOfSameTaTracker(new TaTracker(taTracker).getSnapshot()));
+        assertFalse(second.isOfSameTaTracker(null));
+    }
+
+    @Test
+    public void getSnapshot_unchangedShownLists_sharedWithPreviousSnapshot() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Module module = taTracker.getModuleList().get(0);
+        taTracker.setCurrentlyShownGroups(module.getGroupList());
+        taTracker.setCurrentlyShownStudents(module.getGroupList().get(0).getStudentList());
+        TaTrackerSnapshot first = taTracker.getSnapshot();
+
+        taTracker.setRate(100);
+        TaTrackerSnapshot second = taTracker.getSnapshot();
+        assertSame(first.getCurrentlyShownGroupList(), second.getCurrentlyShownGroupList());
+        assertSame(first.getCurrentlyShownStudentList(), second.getCurrentlyShownStudentList());
+
+        // A change to a shown group's module copies the groups again
+        taTracker.deleteStudent(ALICE, module.getGroupList().get(0).getIdentifier(), module.getIdentifier());
+        TaTrackerSnapshot third = taTracker.getSnapshot();
+        assertNotSame(second.getCurrentlyShownGroupList(), third.getCurrentlyShownGroupList());
+        assertSame(second.getCurrentlyShownStudentList(), third.getCurrentlyShownStudentList());
+
+        taTracker.setCurrentlyShownStudents(List.of());
+        TaTrackerSnapshot fourth = taTracker.getSnapshot();
+        assertTrue(fourth.getCurrentlyShownStudentList().isEmpty());
+        assertFalse(third.getCurrentlyShownStudentList().isEmpty());
+    }
+
+    @Test
+    public void statistics_laterChanges_notSeenBySnapshot() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Module module = taTracker.getModuleList().get(0);
+        Group group = module.getGroupList().get(0);
+        Session doneSession = new SessionBuilder().withModule(module.getIdentifier()).build();
+        taTracker.addDoneSession(doneSession);
+        TaTrackerSnapshot snapshot = taTracker.getSnapshot();
+        List<Student> lowestRated = taTracker.getLowestRatedStudents(Integer.MAX_VALUE);
+        int numStudentsWithRating = taTracker.getNumStudentsWithRating(ALICE.getRating().value);
+        long hours = taTracker.getDoneSessionHours(doneSession.getSessionType());
+
+        taTracker.removeDoneSession(doneSession);
+        taTracker.deleteStudent(ALICE, group.getIdentifier(), module.getIdentifier());
+
+        assertEquals(hours, snapshot.getDoneSessionHours(doneSession.getSessionType()));
+        assertEquals(hours, snapshot.getDoneSessionHours(module.getIdentifier(), doneSession.getSessionType()));
+        assertEquals(numStudentsWithRating, snapshot.getNumStudentsWithRating(ALICE.getRating().value));
+        assertEquals(lowestRated, snapshot.getLowestRatedStudents(Integer.MAX_VALUE));
+        assertEquals(lowestRated.subList(0, 1), snapshot.getLowestRatedStudents(1));
+    }
+
+    @Test
+    public void getSnapshot_snapshot_returnsItself() {
+        TaTrackerSnapshot snapshot = new TaTracker().getSnapshot();
+        assertSame(snapshot, snapshot.getSnapshot());
+    }
+
+    @Test
+    public void statistics_sameAsTaTracker() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Session doneSession = new SessionBuilder().withModule("CS3243").build();
+        taTracker.addDoneSession(doneSession);
+        String moduleCode = taTracker.getModuleList().get(0).getIdentifier();
+        String groupCode = taTracker.getModuleList().get(0).getGroupList().get(0).getIdentifier();
+
+        TaTrackerSnapshot snapshot = taTracker.getSnapshot();
+
+        for (SessionType type : SessionType.values()) {
+            assertEquals(taTracker.getDoneSessionHours(type), snapshot.getDoneSessionHours(type));
+            assertEquals(taTracker.getDoneSessionHours(moduleCode, type),
+                    snapshot.getDoneSessionHours(moduleCode, type));
+        }
+        assertEquals(taTracker.getTotalEarnings(), snapshot.getTotalEarnings());
+        for (int rating = Rating.MIN_RATING; rating <= Rating.MAX_RATING; rating++) {
+            assertEquals(taTracker.getNumStudentsWithRating(rating), snapshot.getNumStudentsWithRating(rating));
+        }
+        for (int k : new int[] {1, 3, Statistic.DEFAULT_NUM_STUDENTS, Statistic.DEFAULT_NUM_STUDENTS + 1, 100}) {
+            assertEquals(taTracker.getLowestRatedStudents(k), snapshot.getLowestRatedStudents(k));
+        }
+        assertEquals(taTracker.getLowestRatedStudents(moduleCode, 3), snapshot.getLowestRatedStudents(moduleCode, 3));
+        assertEquals(taTracker.getLowestRatedStudents(moduleCode, groupCode, 3),
+                snapshot.getLowestRatedStudents(moduleCode, groupCode, 3));
+        assertEquals(taTracker.getEnrollments(ALICE.getMatric()).size(),
+                snapshot.getEnrollments(ALICE.getMatric()).size());
+
+        assertThrows(ModuleNotFoundException.class, () -> snapshot.getLowestRatedStudents("CS0000", 3));
+    }
+}
@@ -2,13 +2,18 @@ package tatracker.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_1;
 import static tatracker.testutil.student.TypicalStudents.ALICE;
+import static tatracker.testutil.student.TypicalStudents.BENSON;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,8 +22,12 @@ import javafx.collections.ObservableList;
 
 import tatracker.model.group.Group;
 import tatracker.model.module.Module;
+import tatracker.model.module.exception.ModuleNotFoundException;
 import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.student.Matric;
 import tatracker.model.student.Student;
+import tatracker.testutil.sessions.SessionBuilder;
 import tatracker.testutil.student.StudentBuilder;
 
 public class TaTrackerTest {
@@ -54,6 +63,116 @@ public class TaTrackerTest {
         assertThrows(DuplicateStudentException.class, () -> taTracker.resetData(newData));
     }*/
 
+    //@@author potatocombat
+    @Test
+    public void getTotalHours_claimsFilteredByModule_countsModuleOnly() {
+        Session lab = new SessionBuilder().withModule("CS2103T").withSessionType("lab").build();
+        Session grading = new SessionBuilder().withModule("CS3243").withSessionType("grading").build();
+        taTracker.addModule(new Module("CS2103T"));
+        taTracker.addDoneSession(lab);
+        taTracker.addDoneSession(grading);
+
+        long labHours = lab.getDurationToNearestHour().toHours();
+        long gradingHours = grading.getDurationToNearestHour().toHours();
+
+        taTracker.setCurrentlyShownModuleClaim("CS2103T");
+        assertEquals(labHours, taTracker.getTotalHours());
+
+        taTracker.setCurrentlyShownModuleClaim("");
+        assertEquals(labHours + gradingHours, taTracker.getTotalHours());
+    }
+
+    @Test
+    public void getLowestRatedStudents_groupOfModule_ranksGroupOnly() {
+        TaTracker typical = getTypicalTaTrackerWithStudents();
+        Module module = typical.getModuleList().get(0);
+        Group group = module.getGroupList().get(0);
+
+        List<Student> lowest = typical.getLowestRatedStudents(module.getIdentifier(), group.getIdentifier(), 2);
+        assertEquals(2, lowest.size());
+        assertTrue(lowest.get(0).getRating().value <= lowest.get(1).getRating().value);
+        assertEquals(lowest, typical.getLowestRatedStudents(module.getIdentifier(), 2));
+
+        assertThrows(ModuleNotFoundException.class, () -> typical.getLowestRatedStudents("CS0000", 2));
+    }
+
+    @Test
+    public void getLowestRatedStudents_hugeK_returnsEveryStudent() {
+        TaTracker typical = getTypicalTaTrackerWithStudents();
+        Module module = typical.getModuleList().get(0);
+        int numStudents = typical.getCompleteStudentList().size();
+
+        assertEquals(numStudents, typical.getLowestRatedStudents(Integer.MAX_VALUE).size());
+        assertEquals(typical.getLowestRatedStudents(module.getIdentifier(), numStudents),
+                typical.getLowestRatedStudents(module.getIdentifier(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void undo_deleteModule_restoresModuleAndItsSessions() {
+        Module first = new Module("CS2103T");
+        Module second = new Module("CS3243");
+        Session session = new SessionBuilder().withModule("CS2103T").build();
+        taTracker.addModule(first);
+        taTracker.addModule(second);
+        taTracker.addSession(session);
+        taTracker.commit();
+
+        taTracker.deleteModule(new Module("CS2103T"));
+        taTracker.commit();
+        assertEquals(List.of(second), taTracker.getModuleList());
+        assertTrue(taTracker.getSessionList().isEmpty());
+
+        taTracker.undo();
+        assertEquals(List.of(first, second), taTracker.getModuleList());
+        assertSame(first, taTracker.getModule("CS2103T"));
+        assertEquals(List.of(session), taTracker.getSessionList());
+
+        taTracker.redo();
+        assertEquals(List.of(second), taTracker.getModuleList());
+        assertTrue(taTracker.getSessionList().isEmpty());
+    }
+
+    @Test
+    public void undo_studentChanges_restoresGroupInOrder() {
+        TaTracker typical = getTypicalTaTrackerWithStudents();
+        typical.clearHistory();
+        Group group = typical.getModule("CS3243").getGroup("G06");
+        List<Student> students = new ArrayList<>(group.getStudentList());
+
+        Student first = students.get(0);
+        Student editedFirst = new StudentBuilder(first).withRating(1).build();
+        typical.setStudent(first, editedFirst, "G06", "CS3243");
+        typical.deleteStudent(students.get(1), "G06", "CS3243");
+        typical.sortModulesByRatingDescending();
+        typical.setRate(10);
+        typical.commit();
+
+        typical.undo();
+        assertEquals(students, group.getStudentList());
+        assertEquals(students.get(1), typical.getStudent(students.get(1).getMatric(), "G06", "CS3243"));
+        assertEquals(first.getRating(), typical.getStudent(first.getMatric(), "G06", "CS3243").getRating());
+        assertEquals(40, typical.getRate());
+        assertFalse(typical.canUndo());
+    }
+
+    @Test
+    public void undo_resetData_restoresReplacedData() {
+        Session session = new SessionBuilder().build();
+        Session doneSession = new SessionBuilder().withDone(true).build();
+        taTracker.addModule(new Module("CS2103T"));
+        taTracker.addSession(session);
+        taTracker.addDoneSession(doneSession);
+        taTracker.commit();
+
+        taTracker.resetData(new TaTracker());
+        taTracker.undo();
+
+        assertEquals(List.of(new Module("CS2103T")), taTracker.getModuleList());
+        assertEquals(List.of(session), taTracker.getSessionList());
+        assertEquals(List.of(doneSession), taTracker.getDoneSessionList());
+    }
+
+    //@@author
     @Test
     public void hasStudent_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> taTracker.hasStudent(null));
@@ -83,8 +202,102 @@ public class TaTrackerTest {
         assertThrows(UnsupportedOperationException.class, () -> taTracker.getStudentList().remove(0));
     }*/
 
+    @Test
+    public void getCompleteStudentList_studentInSeveralGroups_listedOnceWithEveryEnrollment() {
+        Module module = new Module("CS2103T", "Software Engineering");
+        Group tutorial = new Group("T01");
+        Group lab = new Group("L01");
+        taTracker.addModule(module);
+        taTracker.addGroup(tutorial, module);
+        taTracker.addGroup(lab, module);
+
+        taTracker.addStudent(ALICE, "T01", "CS2103T");
+        taTracker.addStudent(BENSON, "T01", "CS2103T");
+        taTracker.addStudent(ALICE, "L01", "CS2103T");
+
+        assertEquals(List.of(ALICE, BENSON), taTracker.getCompleteStudentList());
+        assertEquals(List.of(new Enrollment(module, tutorial), new Enrollment(module, lab)),
+                taTracker.getEnrollments(ALICE.getMatric()));
+
+        taTracker.deleteStudent(ALICE, "T01", "CS2103T");
+        assertEquals(List.of(ALICE, BENSON), taTracker.getCompleteStudentList());
+        assertEquals(List.of(new Enrollment(module, lab)), taTracker.getEnrollments(ALICE.getMatric()));
+
+        taTracker.removeGroup(new Group("L01"), module);
+        assertEquals(List.of(BENSON), taTracker.getCompleteStudentList());
+        assertTrue(taTracker.getEnrollments(ALICE.getMatric()).isEmpty());
+    }
+
+    @Test
+    public void getCompleteStudentList_studentEdited_editedStudentListed() {
+        Module module = new Module("CS2103T", "Software Engineering");
+        taTracker.addModule(module);
+        taTracker.addGroup(new Group("T01"), module);
+        taTracker.addStudent(ALICE, "T01", "CS2103T");
+
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        taTracker.setStudent(ALICE, editedAlice, "T01", "CS2103T");
+        assertEquals(List.of(editedAlice), taTracker.getCompleteStudentList());
+    }
+
+    @Test
+    public void getEnrollments_groupRenamed_newGroupCode() {
+        Module module = new Module("CS2103T", "Software Engineering");
+        Group group = new Group("T01");
+        taTracker.addModule(module);
+        taTracker.addGroup(group, module);
+        taTracker.addStudent(ALICE, "T01", "CS2103T");
+
+        group.setIdentifier("T02");
+        taTracker.setGroup(group, group, module);
+        assertEquals("T02", taTracker.getEnrollments(ALICE.getMatric()).get(0).getGroupCode());
+    }
+
+    @Test
+    public void getCompleteStudentList_moduleDeleted_studentsRemoved() {
+        TaTracker typicalTaTracker = getTypicalTaTrackerWithStudents();
+        assertFalse(typicalTaTracker.getCompleteStudentList().isEmpty());
+
+        for (Module module : List.copyOf(typicalTaTracker.getModuleList())) {
+            typicalTaTracker.deleteModule(module);
+        }
+        assertTrue(typicalTaTracker.getCompleteStudentList().isEmpty());
+    }
+
+    @Test
+    public void resetData_withStudents_registryRebuilt() {
+        taTracker.resetData(getTypicalTaTrackerWithStudents());
+
+        long enrolledStudents = taTracker.getModuleList().stream()
+                .flatMap(module -> module.getGroupList().stream())
+                .flatMap(group -> group.getStudentList().stream())
+                .map(Student::getMatric)
+                .distinct()
+                .count();
+        assertEquals(enrolledStudents, taTracker.getCompleteStudentList().size());
+    }
+
     // TODO: Add test cases for SessionList
 
+    @Test
+    public void getModificationCount_savedDataModified_onlyModifiedSectionCounted() {
+        taTracker.addSession(SESSION_1);
+        taTracker.addModule(new Module("CS2103T", "Software Engineering"));
+
+        assertEquals(1, taTracker.getModificationCount(TaTrackerSection.SESSIONS));
+        assertEquals(0, taTracker.getModificationCount(TaTrackerSection.DONE_SESSIONS));
+        assertEquals(1, taTracker.getModificationCount(TaTrackerSection.MODULES));
+        assertEquals(0, taTracker.getModificationCount(TaTrackerSection.RATE));
+        assertEquals(2, taTracker.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_shownDataChanged_notCounted() {
+        taTracker.addStudent(ALICE);
+        taTracker.setCurrSessionFilter("CS2103T");
+        assertEquals(0, taTracker.getModificationCount());
+    }
+
     /**
      * A stub ReadOnlyTaTracker whose internal lists can violate interface constraints.
      */
@@ -129,10 +342,39 @@ public class TaTrackerTest {
             return null;
         }
 
+        @Override
+        public List<Enrollment> getEnrollments(Matric matric) {
+            return List.of();
+        }
+
         public long getTotalHours() {
             throw new AssertionError("This method should not be called.");
         }
 
+        public long getDoneSessionHours(SessionType type) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public long getDoneSessionHours(String moduleCode, SessionType type) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public int getNumStudentsWithRating(int rating) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public List<Student> getLowestRatedStudents(int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public List<Student> getLowestRatedStudents(String moduleCode, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public List<Student> getLowestRatedStudents(String moduleCode, String groupCode, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         public int getRate() {
             throw new AssertionError("This method should not be called.");
         }
@@ -140,6 +382,21 @@ public class TaTrackerTest {
         public long getTotalEarnings() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getModificationCount(TaTrackerSection section) {
+            return 0;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public TaTrackerSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -4,6 +4,8 @@ package tatracker.model.group;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.group.TypicalGroups.MANY_STUDENTS;
@@ -192,4 +194,36 @@ public class UniqueGroupListTest {
         assertEquals(uniqueGroupList.get("G03"), ONE_STUDENT);
     }
 
+    @Test
+    public void setGroup_editedGroupHasDifferentIdentity_returnsReplacedGroup() {
+        uniqueGroupList.add(MANY_STUDENTS);
+        assertSame(MANY_STUDENTS, uniqueGroupList.setGroup(MANY_STUDENTS_COPY, ONE_STUDENT));
+        assertNull(uniqueGroupList.get("G05"));
+        assertEquals(ONE_STUDENT, uniqueGroupList.get("G03"));
+    }
+
+    @Test
+    public void setGroup_targetRenamedInPlace_indexesNewCode() {
+        Group group = new Group("T01");
+        uniqueGroupList.add(group);
+        uniqueGroupList.add(new Group("T02"));
+
+        group.setIdentifier("T03");
+        assertSame(group, uniqueGroupList.setGroup(group, group));
+
+        assertNull(uniqueGroupList.get("T01"));
+        assertSame(group, uniqueGroupList.get("T03"));
+        assertEquals(2, uniqueGroupList.size());
+
+        uniqueGroupList.add(new Group("T01"));
+        assertEquals(3, uniqueGroupList.size());
+    }
+
+    @Test
+    public void get_afterRemove_returnsNull() {
+        uniqueGroupList.add(NO_STUDENTS);
+        uniqueGroupList.remove(NO_STUDENTS);
+        assertNull(uniqueGroupList.get("G04"));
+        assertFalse(uniqueGroupList.contains(NO_STUDENTS));
+    }
 }
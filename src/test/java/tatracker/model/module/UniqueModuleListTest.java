@@ -4,6 +4,7 @@ package tatracker.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.module.TypicalModules.CS2103T;
@@ -192,4 +193,33 @@ public class UniqueModuleListTest {
         assertEquals(uniqueModuleList.getModule("CS2100"), NO_GROUPS);
     }
 
+    @Test
+    public void getModule_afterEditedModuleHasDifferentIdentity_findsEditedModuleOnly() {
+        uniqueModuleList.add(CS2103T);
+        uniqueModuleList.setModule(CS2103T, CS3243);
+        assertNull(uniqueModuleList.getModule("CS2103T"));
+        assertEquals(CS3243, uniqueModuleList.getModule("CS3243"));
+        assertFalse(uniqueModuleList.contains(CS2103T));
+    }
+
+    @Test
+    public void getModule_afterRemove_returnsNull() {
+        uniqueModuleList.add(CS2103T);
+        uniqueModuleList.remove(CS2103T_COPY);
+        assertNull(uniqueModuleList.getModule(CS2103T));
+    }
+
+    @Test
+    public void getModule_afterSetModules_findsReplacementModulesOnly() {
+        uniqueModuleList.add(NO_GROUPS);
+        uniqueModuleList.setModules(Arrays.asList(CS2103T, CS3243));
+        assertNull(uniqueModuleList.getModule("CS2100"));
+        assertEquals(CS2103T, uniqueModuleList.getModule("CS2103T"));
+
+        UniqueModuleList replacement = new UniqueModuleList();
+        replacement.add(NO_GROUPS);
+        uniqueModuleList.setModules(replacement);
+        assertNull(uniqueModuleList.getModule("CS2103T"));
+        assertEquals(NO_GROUPS, uniqueModuleList.getModule("CS2100"));
+    }
 }
@@ -0,0 +1,40 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class SessionDateRangeTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2020, 5, 20);
+
+    @Test
+    public void constructor_firstDateAfterLastDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionDateRange(WEDNESDAY, WEDNESDAY.minusDays(1)));
+    }
+
+    @Test
+    public void test_sessionsAtEdgesOfRange_returnsTrue() {
+        SessionDateRange range = new SessionDateRange(WEDNESDAY, WEDNESDAY.plusDays(2));
+
+        assertTrue(range.test(new SessionBuilder().withDate(WEDNESDAY).build()));
+        assertTrue(range.test(new SessionBuilder().withDate(WEDNESDAY.plusDays(2)).build()));
+        assertFalse(range.test(new SessionBuilder().withDate(WEDNESDAY.minusDays(1)).build()));
+        assertFalse(range.test(new SessionBuilder().withDate(WEDNESDAY.plusDays(3)).build()));
+    }
+
+    @Test
+    public void getQuery_returnsQueryForRangeOnly() {
+        SessionDateRange range = new SessionDateRange(WEDNESDAY, WEDNESDAY.plusDays(6));
+        assertEquals(new SessionQuery(range, null, null, true), range.getQuery());
+    }
+}
@@ -0,0 +1,90 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class SessionHoursTest {
+
+    private static final Session LAB = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 18))
+            .withStartTime(LocalTime.of(9, 0))
+            .withEndTime(LocalTime.of(10, 30))
+            .withModule("CS2103T")
+            .withSessionType("lab")
+            .build();
+    private static final Session GRADING = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 18))
+            .withStartTime(LocalTime.of(13, 0))
+            .withEndTime(LocalTime.of(14, 0))
+            .withModule("CS3243")
+            .withSessionType("grading")
+            .build();
+
+    private final SessionHours hours = new SessionHours();
+
+    @Test
+    public void add_sessions_roundsEachSessionUpToNearestHour() {
+        hours.add(LAB);
+        hours.add(GRADING);
+
+        assertEquals(3, hours.getTotalHours());
+        assertEquals(2, hours.getHours("CS2103T"));
+        assertEquals(1, hours.getHours(SessionType.LAB)); // Session types count whole hours of the exact total
+        assertEquals(1, hours.getHours("CS3243", SessionType.GRADING));
+        assertEquals(0, hours.getHours("CS3243", SessionType.LAB));
+    }
+
+    @Test
+    public void add_halfHourSessions_typeHoursFromExactTotal() {
+        Session firstConsultation = new SessionBuilder(GRADING).withSessionType("consultation")
+                .withEndTime(LocalTime.of(13, 30)).build();
+        Session secondConsultation = new SessionBuilder(firstConsultation)
+                .withDate(LocalDate.of(2020, 5, 19)).build();
+        hours.add(firstConsultation);
+        hours.add(secondConsultation);
+
+        // Claims round each session up, but the hours of a session type come from the exact total
+        assertEquals(2, hours.getTotalHours());
+        assertEquals(2, hours.getHours("CS3243"));
+        assertEquals(1, hours.getHours(SessionType.CONSULTATION));
+        assertEquals(1, hours.getHours("CS3243", SessionType.CONSULTATION));
+
+        hours.remove(secondConsultation);
+        assertEquals(0, hours.getHours(SessionType.CONSULTATION));
+    }
+
+    @Test
+    public void remove_addedSession_subtractsItsHours() {
+        hours.add(LAB);
+        hours.add(GRADING);
+        hours.remove(LAB);
+
+        assertEquals(1, hours.getTotalHours());
+        assertEquals(0, hours.getHours("CS2103T"));
+        assertEquals(0, hours.getHours(SessionType.LAB));
+        assertEquals(1, hours.getHours("CS3243"));
+    }
+
+    @Test
+    public void copy_laterChanges_notSeenByCopy() {
+        hours.add(LAB);
+        SessionHours copy = new SessionHours(hours);
+
+        hours.add(GRADING);
+        hours.remove(LAB);
+
+        assertEquals(2, copy.getTotalHours());
+        assertEquals(2, copy.getHours("CS2103T"));
+        assertEquals(1, copy.getHours("CS2103T", SessionType.LAB));
+        assertEquals(0, copy.getHours("CS3243"));
+        assertEquals(0, hours.getHours("CS2103T"));
+    }
+}
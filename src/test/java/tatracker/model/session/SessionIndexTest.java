@@ -0,0 +1,102 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2020, 5, 18);
+
+    private final SessionIndex index = new SessionIndex();
+
+    @Test
+    public void query_matchAll_returnsSessionsMatchingEveryField() {
+        Session mondayLab = createSession(MONDAY, SessionType.LAB, "CS2103T");
+        Session mondayTutorial = createSession(MONDAY, SessionType.TUTORIAL, "CS2103T");
+        Session tuesdayLab = createSession(MONDAY.plusDays(1), SessionType.LAB, "CS2103T");
+        Session otherModuleLab = createSession(MONDAY, SessionType.LAB, "CS3243");
+        Arrays.asList(tuesdayLab, otherModuleLab, mondayTutorial, mondayLab).forEach(index::add);
+
+        SessionQuery query = new SessionQuery(SessionDateRange.onDay(MONDAY), "cs2103t", SessionType.LAB, true);
+        assertEquals(List.of(mondayLab), index.query(query));
+
+        query = new SessionQuery(null, "CS2103T", SessionType.LAB, true);
+        assertEquals(Arrays.asList(mondayLab, tuesdayLab), index.query(query));
+    }
+
+    @Test
+    public void query_matchAny_returnsSessionsMatchingAnyField() {
+        Session mondayLab = createSession(MONDAY, SessionType.LAB, "CS2103T");
+        Session tuesdayTutorial = createSession(MONDAY.plusDays(1), SessionType.TUTORIAL, "CS3243");
+        Session wednesdayGrading = createSession(MONDAY.plusDays(2), SessionType.GRADING, "CS2100");
+        Arrays.asList(wednesdayGrading, tuesdayTutorial, mondayLab).forEach(index::add);
+
+        SessionQuery query = new SessionQuery(SessionDateRange.onDay(MONDAY), "CS3243", null, false);
+        assertEquals(Arrays.asList(mondayLab, tuesdayTutorial), index.query(query));
+    }
+
+    @Test
+    public void query_noFields_returnsEverySessionOnlyIfMatchingAll() {
+        Session mondayLab = createSession(MONDAY, SessionType.LAB, "CS2103T");
+        index.add(mondayLab);
+
+        assertEquals(List.of(mondayLab), index.query(new SessionQuery(null, null, null, true)));
+        assertEquals(List.of(), index.query(new SessionQuery(null, null, null, false)));
+    }
+
+    @Test
+    public void query_randomAddsAndRemoves_matchesTestingEverySession() {
+        Random random = new Random(2103);
+        List<Session> added = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                index.remove(added.remove(random.nextInt(added.size())));
+            } else {
+                Session session = createRandomSession(random);
+                added.add(session);
+                index.add(session);
+            }
+
+            SessionPredicate predicate = new SessionPredicate();
+            if (random.nextBoolean()) {
+                predicate.setDate(MONDAY.plusDays(random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                predicate.setModuleCode("CS" + random.nextInt(5));
+            }
+            if (random.nextBoolean()) {
+                predicate.setSessionType(SessionType.values()[random.nextInt(SessionType.NUM_SESSION_TYPES)]);
+            }
+            predicate.setMatchAll(random.nextBoolean());
+
+            List<Session> expected = added.stream()
+                    .filter(predicate)
+                    .sorted(SessionOrder.CHRONOLOGICAL)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.query(predicate.getQuery()));
+        }
+    }
+
+    private static Session createSession(LocalDate date, SessionType type, String moduleCode) {
+        LocalDateTime start = date.atTime(9, 0);
+        return new Session(start, start.plusHours(1), type, 0, moduleCode, "session");
+    }
+
+    private static Session createRandomSession(Random random) {
+        LocalDateTime start = MONDAY.atStartOfDay().plusMinutes(30L * random.nextInt(480));
+        SessionType type = SessionType.values()[random.nextInt(SessionType.NUM_SESSION_TYPES)];
+        return new Session(start, start.plusHours(1), type, 0, "CS" + random.nextInt(5), "random");
+    }
+}
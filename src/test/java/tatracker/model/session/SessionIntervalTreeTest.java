@@ -0,0 +1,91 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionIntervalTreeTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2020, 5, 18, 0, 0);
+
+    private final SessionIntervalTree tree = new SessionIntervalTree();
+
+    @Test
+    public void getClashes_overlappingAndTouchingSessions_returnsOverlappingSessionsOnly() {
+        Session morning = createSession(9, 11);
+        Session noon = createSession(11, 13);
+        Session lunch = createSession(12, 14);
+        Session evening = createSession(18, 20);
+        Arrays.asList(evening, lunch, noon, morning).forEach(tree::add);
+
+        assertEquals(Arrays.asList(morning, noon), tree.getClashes(createSession(10, 12)));
+        assertEquals(Arrays.asList(noon, lunch), tree.getClashes(createSession(12, 13)));
+        assertEquals(List.of(), tree.getClashes(createSession(14, 18)));
+    }
+
+    @Test
+    public void getClashes_sameTiming_returnsAllSessionsWithThatTiming() {
+        Session tutorial = createSession(9, 10);
+        Session lab = new Session(tutorial.getStartDateTime(), tutorial.getEndDateTime(),
+                SessionType.LAB, 0, "CS2103T", "lab");
+        tree.add(tutorial);
+        tree.add(lab);
+
+        assertEquals(Arrays.asList(tutorial, lab), tree.getClashes(createSession(9, 10)));
+
+        tree.remove(tutorial);
+        assertEquals(List.of(lab), tree.getClashes(createSession(9, 10)));
+    }
+
+    @Test
+    public void getClashes_randomAddsAndRemoves_matchesCheckingEverySession() {
+        Random random = new Random(2103);
+        List<Session> added = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                Session removed = added.remove(random.nextInt(added.size()));
+                tree.remove(removed);
+            } else {
+                Session session = createRandomSession(random);
+                added.add(session);
+                tree.add(session);
+            }
+
+            Session query = createRandomSession(random);
+            List<Session> expected = added.stream()
+                    .filter(query::hasTimingClash)
+                    .collect(Collectors.toList());
+            List<Session> actual = tree.getClashes(query);
+
+            assertEquals(expected.size(), actual.size());
+            for (Session session : expected) {
+                assertTrue(actual.stream().anyMatch(clash -> clash == session));
+            }
+            for (int j = 1; j < actual.size(); j++) {
+                assertTrue(SessionOrder.CHRONOLOGICAL.compare(actual.get(j - 1), actual.get(j)) <= 0);
+            }
+        }
+    }
+
+    private static Session createSession(int startHour, int endHour) {
+        return new Session(MONDAY.plusHours(startHour), MONDAY.plusHours(endHour),
+                SessionType.TUTORIAL, 0, "CS2103T", "tutorial");
+    }
+
+    private static Session createRandomSession(Random random) {
+        LocalDateTime start = MONDAY.plusMinutes(30L * random.nextInt(200));
+        LocalDateTime end = start.plusMinutes(30L * random.nextInt(8));
+        return new Session(start, end, SessionType.TUTORIAL, 0, "CS" + random.nextInt(5), "random");
+    }
+}
@@ -1,11 +1,18 @@
 package tatracker.model.session;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import org.junit.jupiter.api.Test;
 
+import tatracker.model.session.exceptions.SessionOutOfRangeException;
 import tatracker.testutil.sessions.SessionBuilder;
 
 class SessionTest {
@@ -34,4 +41,74 @@ class SessionTest {
 
         assertTrue(session1.hasTimingClash(session2));
     }
+
+    @Test
+    public void hasTimingClash_adjacentSessions_noClash() {
+        Session morning = new SessionBuilder()
+                .withStartTime(LocalTime.of(9, 0))
+                .withEndTime(LocalTime.of(10, 0))
+                .build();
+        Session later = new SessionBuilder()
+                .withStartTime(LocalTime.of(10, 0))
+                .withEndTime(LocalTime.of(11, 0))
+                .build();
+
+        assertFalse(morning.hasTimingClash(later));
+        assertFalse(later.hasTimingClash(morning));
+    }
+
+    @Test
+    public void getTiming_beforeEpoch_sameAsGiven() {
+        LocalDateTime start = LocalDateTime.of(1969, 12, 31, 23, 30);
+        LocalDateTime end = LocalDateTime.of(1970, 1, 1, 1, 0);
+        Session session = new Session(start, end, SessionType.OTHER, 0, "CS2103T", "Overnight");
+
+        assertEquals(start, session.getStartDateTime());
+        assertEquals(end, session.getEndDateTime());
+        assertEquals(LocalDate.of(1969, 12, 31), session.getDate());
+        assertEquals(-1, session.getEpochDay());
+    }
+
+    @Test
+    public void getHoursToNearestHour_partialHour_roundedUp() {
+        Session session = new SessionBuilder()
+                .withStartTime(LocalTime.of(14, 0))
+                .withEndTime(LocalTime.of(15, 1))
+                .build();
+
+        assertEquals(2, session.getHoursToNearestHour());
+        assertEquals(2, session.getDurationToNearestHour().toHours());
+    }
+
+    @Test
+    public void constructor_sameModuleCode_shared() {
+        Session first = new SessionBuilder().withModule(new String("CS2103T")).build();
+        Session second = new SessionBuilder().withModule(new String("CS2103T")).build();
+
+        assertSame(first.getModuleCode(), second.getModuleCode());
+    }
+
+    @Test
+    public void constructor_timingOutOfRange_throwsSessionOutOfRangeException() {
+        LocalDateTime start = LocalDateTime.of(9999, 1, 1, 14, 0);
+        assertThrows(SessionOutOfRangeException.class, Session.CONSTRAINTS_TIMING, () -> new Session(start,
+                start.plusHours(1), SessionType.OTHER, 0, "CS2103T", "Description"));
+    }
+
+    @Test
+    public void constructor_timingAtLimits_success() {
+        Session session = new Session(Session.EARLIEST_DATE_TIME, Session.LATEST_DATE_TIME,
+                SessionType.OTHER, 0, "CS2103T", "Description");
+        assertEquals(Session.EARLIEST_DATE_TIME, session.getStartDateTime());
+        assertEquals(Session.LATEST_DATE_TIME, session.getEndDateTime());
+
+        assertThrows(SessionOutOfRangeException.class, () -> new Session(Session.LATEST_DATE_TIME,
+                Session.LATEST_DATE_TIME.plusMinutes(1), SessionType.OTHER, 0, "CS2103T", "Description"));
+    }
+
+    @Test
+    public void constraintsTiming_namesRealLimits() {
+        assertTrue(Session.CONSTRAINTS_TIMING.contains("6053-01-23 02:07"));
+        assertTrue(Session.CONSTRAINTS_TIMING.contains("-2114-12-08 21:52"));
+    }
 }
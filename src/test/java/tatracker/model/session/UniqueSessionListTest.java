@@ -0,0 +1,255 @@
+//@@author potatocombat
+
+package tatracker.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.session.exceptions.DuplicateSessionException;
+import tatracker.model.session.exceptions.SessionNotFoundException;
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class UniqueSessionListTest {
+
+    private static final Session MONDAY_MORNING = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 18))
+            .withStartTime(LocalTime.of(9, 0))
+            .withEndTime(LocalTime.of(10, 0))
+            .build();
+    private static final Session MONDAY_NOON = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 18))
+            .withStartTime(LocalTime.of(12, 0))
+            .withEndTime(LocalTime.of(13, 0))
+            .build();
+    private static final Session MONDAY_NOON_LONGER = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 18))
+            .withStartTime(LocalTime.of(12, 0))
+            .withEndTime(LocalTime.of(14, 0))
+            .build();
+    private static final Session TUESDAY_MORNING = new SessionBuilder()
+            .withDate(LocalDate.of(2020, 5, 19))
+            .withStartTime(LocalTime.of(9, 0))
+            .withEndTime(LocalTime.of(10, 0))
+            .build();
+
+    private final UniqueSessionList uniqueSessionList = new UniqueSessionList();
+
+    @Test
+    public void contains_sessionWithSameIdentity_returnsTrue() {
+        uniqueSessionList.add(MONDAY_MORNING);
+        Session sameSession = new SessionBuilder(MONDAY_MORNING).withDescription("consultation").build();
+        assertTrue(uniqueSessionList.contains(sameSession));
+    }
+
+    @Test
+    public void contains_removedSession_returnsFalse() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON));
+        uniqueSessionList.remove(MONDAY_MORNING);
+        uniqueSessionList.remove(0);
+
+        assertFalse(uniqueSessionList.contains(MONDAY_MORNING));
+        assertFalse(uniqueSessionList.contains(MONDAY_NOON));
+    }
+
+    @Test
+    public void add_duplicateSession_throwsDuplicateSessionException() {
+        uniqueSessionList.add(MONDAY_MORNING);
+        Session sameSession = new SessionBuilder(MONDAY_MORNING).withDescription("consultation").build();
+        assertThrows(DuplicateSessionException.class, () -> uniqueSessionList.add(sameSession));
+    }
+
+    @Test
+    public void setSession_editedSessionSameAsAnotherSession_throwsDuplicateSessionException() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON));
+        assertThrows(DuplicateSessionException.class, () ->
+                uniqueSessionList.setSession(MONDAY_MORNING, MONDAY_NOON));
+    }
+
+    @Test
+    public void setSession_editedSessionHasDifferentIdentity_reindexesSession() {
+        uniqueSessionList.add(MONDAY_MORNING);
+        uniqueSessionList.setSession(MONDAY_MORNING, TUESDAY_MORNING);
+
+        assertFalse(uniqueSessionList.contains(MONDAY_MORNING));
+        assertTrue(uniqueSessionList.contains(TUESDAY_MORNING));
+        uniqueSessionList.add(MONDAY_MORNING);
+    }
+
+    @Test
+    public void add_outOfOrder_keepsChronologicalOrder() {
+        uniqueSessionList.add(TUESDAY_MORNING);
+        uniqueSessionList.add(MONDAY_NOON_LONGER);
+        uniqueSessionList.add(MONDAY_MORNING);
+        uniqueSessionList.add(MONDAY_NOON);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, MONDAY_NOON_LONGER, TUESDAY_MORNING),
+                uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_sameTiming_keepsOrderAdded() {
+        Session lab = new SessionBuilder(MONDAY_MORNING).withSessionType("lab").build();
+        uniqueSessionList.add(MONDAY_MORNING);
+        uniqueSessionList.add(lab);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, lab), uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSession_editedSessionMovesLater_keepsChronologicalOrder() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING));
+        Session movedToWednesday = new SessionBuilder(MONDAY_MORNING).withDate(LocalDate.of(2020, 5, 20)).build();
+
+        uniqueSessionList.setSession(MONDAY_MORNING, movedToWednesday);
+
+        assertEquals(Arrays.asList(MONDAY_NOON, TUESDAY_MORNING, movedToWednesday),
+                uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSession_sameTiming_replacesInPlace() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING));
+        Session renamed = new SessionBuilder(MONDAY_NOON).withDescription("consultation").build();
+
+        uniqueSessionList.setSession(MONDAY_NOON, renamed);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, renamed, TUESDAY_MORNING),
+                uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSessions_unsortedList_sortsList() {
+        List<Session> sessions = Arrays.asList(TUESDAY_MORNING, MONDAY_NOON, MONDAY_MORNING);
+        uniqueSessionList.setSessions(sessions);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING),
+                uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSessions_listWithSameSessionTwice_throwsDuplicateSessionException() {
+        Session sameSession = new SessionBuilder(MONDAY_NOON).withDescription("consultation").build();
+        List<Session> sessions = Arrays.asList(MONDAY_NOON, TUESDAY_MORNING, sameSession);
+
+        assertThrows(DuplicateSessionException.class, () -> uniqueSessionList.setSessions(sessions));
+    }
+
+    @Test
+    public void remove_sessionWithSameTimingOnly_throwsSessionNotFoundException() {
+        uniqueSessionList.add(MONDAY_MORNING);
+        Session sameTiming = new SessionBuilder(MONDAY_MORNING).withDescription("consultation").build();
+
+        assertThrows(SessionNotFoundException.class, () -> uniqueSessionList.remove(sameTiming));
+    }
+
+    @Test
+    public void remove_existingSession_removesSession() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING));
+        uniqueSessionList.remove(MONDAY_NOON);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, TUESDAY_MORNING),
+                uniqueSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getClashingSessions_afterEdits_findsCurrentClashesOnly() {
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING));
+        assertEquals(List.of(MONDAY_NOON), uniqueSessionList.getClashingSessions(MONDAY_NOON_LONGER));
+
+        uniqueSessionList.add(MONDAY_NOON_LONGER);
+        assertEquals(List.of(MONDAY_NOON), uniqueSessionList.getClashingSessions(MONDAY_NOON_LONGER));
+
+        uniqueSessionList.remove(MONDAY_NOON);
+        assertEquals(List.of(), uniqueSessionList.getClashingSessions(MONDAY_NOON_LONGER));
+
+        uniqueSessionList.setSession(MONDAY_MORNING, new SessionBuilder(MONDAY_NOON).build());
+        assertEquals(List.of(MONDAY_NOON), uniqueSessionList.getClashingSessions(MONDAY_NOON_LONGER));
+    }
+
+    @Test
+    public void getClashes_overlappingSessions_returnsEveryClashingPair() {
+        Session mondayAfternoon = new SessionBuilder(MONDAY_NOON_LONGER)
+                .withStartTime(LocalTime.of(13, 30))
+                .withEndTime(LocalTime.of(15, 0))
+                .build();
+        Session lab = new SessionBuilder(MONDAY_NOON).withSessionType("lab").build();
+        uniqueSessionList.setSessions(Arrays.asList(
+                TUESDAY_MORNING, mondayAfternoon, MONDAY_NOON_LONGER, MONDAY_MORNING, MONDAY_NOON, lab));
+
+        assertEquals(Arrays.asList(
+                new SessionClash(MONDAY_NOON, lab),
+                new SessionClash(MONDAY_NOON, MONDAY_NOON_LONGER),
+                new SessionClash(lab, MONDAY_NOON_LONGER),
+                new SessionClash(MONDAY_NOON_LONGER, mondayAfternoon)),
+                uniqueSessionList.getClashes());
+    }
+
+    @Test
+    public void getClashes_backToBackSessions_returnsEmptyList() {
+        Session mondayAfternoon = new SessionBuilder(MONDAY_NOON)
+                .withStartTime(LocalTime.of(13, 0))
+                .withEndTime(LocalTime.of(14, 0))
+                .build();
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, mondayAfternoon, TUESDAY_MORNING));
+
+        assertEquals(List.of(), uniqueSessionList.getClashes());
+    }
+
+    @Test
+    public void setFilter_dateRange_showsSessionsInRangeOnly() {
+        Session nextMonday = new SessionBuilder(MONDAY_MORNING).withDate(LocalDate.of(2020, 5, 25)).build();
+        uniqueSessionList.setSessions(Arrays.asList(nextMonday, TUESDAY_MORNING, MONDAY_NOON, MONDAY_MORNING));
+
+        uniqueSessionList.setFilter(SessionDateRange.onDay(LocalDate.of(2020, 5, 18)));
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON), uniqueSessionList.asUnmodifiableFilteredList());
+
+        uniqueSessionList.setFilter(new SessionDateRange(LocalDate.of(2020, 5, 18), LocalDate.of(2020, 5, 24)));
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON, TUESDAY_MORNING),
+                uniqueSessionList.asUnmodifiableFilteredList());
+
+        uniqueSessionList.setFilter(new SessionDateRange(LocalDate.of(2020, 5, 19), LocalDate.of(2020, 5, 25)));
+        assertEquals(Arrays.asList(TUESDAY_MORNING, nextMonday), uniqueSessionList.asUnmodifiableFilteredList());
+    }
+
+    @Test
+    public void setFilter_sessionPredicateWithModule_matchesSessionsOnAnyDate() {
+        Session otherModule = new SessionBuilder(TUESDAY_MORNING).withModule("CS3243").build();
+        uniqueSessionList.setSessions(Arrays.asList(MONDAY_MORNING, otherModule));
+
+        SessionPredicate predicate = new SessionPredicate();
+        predicate.setDate(LocalDate.of(2020, 5, 18));
+        predicate.setModuleCode("CS3243");
+        uniqueSessionList.setFilter(predicate);
+
+        assertEquals(Arrays.asList(MONDAY_MORNING, otherModule), uniqueSessionList.asUnmodifiableFilteredList());
+    }
+
+    @Test
+    public void setFilter_thenEditList_keepsFilteredSessionsUpdated() {
+        uniqueSessionList.setFilter(SessionDateRange.onDay(LocalDate.of(2020, 5, 18)));
+        uniqueSessionList.add(MONDAY_NOON);
+        uniqueSessionList.add(TUESDAY_MORNING);
+        uniqueSessionList.add(MONDAY_MORNING);
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON), uniqueSessionList.asUnmodifiableFilteredList());
+
+        uniqueSessionList.setSession(MONDAY_NOON, MONDAY_NOON_LONGER);
+        Session tuesdayLab = new SessionBuilder(TUESDAY_MORNING).withSessionType("lab").build();
+        uniqueSessionList.setSession(MONDAY_MORNING, tuesdayLab);
+        uniqueSessionList.remove(TUESDAY_MORNING);
+        assertEquals(List.of(MONDAY_NOON_LONGER), uniqueSessionList.asUnmodifiableFilteredList());
+
+        Session movedToMonday = new SessionBuilder(MONDAY_MORNING).withSessionType("lab").build();
+        uniqueSessionList.setSession(tuesdayLab, movedToMonday);
+        assertEquals(Arrays.asList(movedToMonday, MONDAY_NOON_LONGER),
+                uniqueSessionList.asUnmodifiableFilteredList());
+    }
+}
@@ -0,0 +1,102 @@
+//@@author potatocombat
+
+package tatracker.model.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_2;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_3;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_4;
+import static tatracker.testutil.student.TypicalStudents.BOB;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.TaTracker;
+import tatracker.model.group.Group;
+import tatracker.model.module.Module;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.student.Rating;
+import tatracker.model.student.Student;
+import tatracker.testutil.sessions.SessionBuilder;
+
+public class StatisticTest {
+
+    @Test
+    public void constructor_targetModule_countsHoursOfModuleOnly() {
+        TaTracker taTracker = new TaTracker();
+        taTracker.addModule(new Module("CS2103T"));
+        taTracker.addDoneSession(SESSION_2);
+        taTracker.addDoneSession(SESSION_3);
+        taTracker.addDoneSession(SESSION_4);
+
+        Statistic allModules = new Statistic(taTracker, null);
+        assertEquals(Statistic.ALL_MODULES_STRING, allModules.targetModuleCode);
+        assertEquals(getHours(SESSION_2), allModules.numHoursPerCategory[SessionType.CONSULTATION.ordinal()]);
+        assertEquals(getHours(SESSION_4), allModules.numHoursPerCategory[SessionType.GRADING.ordinal()]);
+        assertEquals(getHours(SESSION_2) + getHours(SESSION_3) + getHours(SESSION_4), allModules.getTotalHours());
+
+        Statistic cs2103t = new Statistic(taTracker, "CS2103T");
+        assertEquals(0, cs2103t.numHoursPerCategory[SessionType.GRADING.ordinal()]);
+        assertEquals(getHours(SESSION_2) + getHours(SESSION_3), cs2103t.getTotalHours());
+    }
+
+    @Test
+    public void constructor_shortSessions_countsWholeHoursOfExactTotal() {
+        // Unlike claims, the report does not round each session up to the nearest hour
+        Session firstConsultation = new SessionBuilder().withSessionType("consultation")
+                .withStartTime(LocalTime.of(13, 0)).withEndTime(LocalTime.of(13, 30)).build();
+        Session secondConsultation = new SessionBuilder(firstConsultation)
+                .withStartTime(LocalTime.of(15, 0)).withEndTime(LocalTime.of(15, 30)).build();
+        TaTracker taTracker = new TaTracker();
+        taTracker.addDoneSession(firstConsultation);
+        taTracker.addDoneSession(secondConsultation);
+
+        Statistic statistic = new Statistic(taTracker, null);
+        assertEquals(1, statistic.numHoursPerCategory[SessionType.CONSULTATION.ordinal()]);
+        assertEquals(2, taTracker.getTotalHours());
+    }
+
+    @Test
+    public void constructor_students_countsRatingsAndFindsWorstStudents() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Statistic statistic = new Statistic(taTracker, null);
+
+        int[] expectedBins = new int[Rating.RANGE];
+        for (Student student : taTracker.getCompleteStudentList()) {
+            expectedBins[student.getRating().value - Rating.MIN_RATING]++;
+        }
+        for (int i = 0; i < Rating.RANGE; i++) {
+            assertEquals(expectedBins[i], statistic.studentRatingBinValues[i]);
+        }
+
+        assertEquals(Rating.MIN_RATING, statistic.worstStudents[0].getRating());
+        for (int i = 1; i < statistic.worstStudents.length; i++) {
+            assertTrue(statistic.worstStudents[i - 1].getRating() <= statistic.worstStudents[i].getRating());
+        }
+    }
+
+    @Test
+    public void constructor_targetModule_ranksStudentsOfModuleOnly() {
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        Module otherModule = new Module("CS2103T");
+        Group otherGroup = new Group("T01");
+        otherGroup.addStudent(BOB);
+        otherModule.addGroup(otherGroup);
+        taTracker.addModule(otherModule);
+
+        Statistic statistic = new Statistic(taTracker, "CS2103T");
+        assertEquals(BOB.getName().fullName, statistic.worstStudents[0].getFullName());
+        assertEquals("", statistic.worstStudents[1].getFullName());
+    }
+
+    /**
+     * Returns the whole hours in the exact duration of {@code session}.
+     */
+    private static int getHours(Session session) {
+        return (session.getEndEpochMinute() - session.getStartEpochMinute()) / 60;
+    }
+}
@@ -2,11 +2,13 @@ package tatracker.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.student.TypicalStudents.ALICE;
 import static tatracker.testutil.student.TypicalStudents.BOB;
+import static tatracker.testutil.student.TypicalStudents.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -113,6 +115,19 @@ public class UniqueStudentListTest {
                 uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_lookedUpByNewMatric() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertEquals(BOB, uniqueStudentList.get(BOB.getMatric()));
+        assertFalse(uniqueStudentList.contains(ALICE.getMatric()));
+        assertNull(uniqueStudentList.get(ALICE.getMatric()));
+
+        // The old matric number can be used again
+        uniqueStudentList.add(ALICE);
+        assertEquals(ALICE, uniqueStudentList.get(ALICE.getMatric()));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -123,6 +138,29 @@ public class UniqueStudentListTest {
         assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(ALICE));
     }
 
+    @Test
+    public void removeAll_studentDoesNotExist_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(StudentNotFoundException.class, () ->
+                uniqueStudentList.removeAll(List.of(ALICE.getMatric(), BOB.getMatric())));
+        assertEquals(ALICE, uniqueStudentList.get(ALICE.getMatric()));
+    }
+
+    @Test
+    public void removeAll_existingStudents_othersKeepTheirOrder() {
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(CARL);
+
+        uniqueStudentList.removeAll(List.of(ALICE.getMatric()));
+        assertEquals(List.of(BOB, CARL), uniqueStudentList.asUnmodifiableObservableList());
+        assertFalse(uniqueStudentList.contains(ALICE.getMatric()));
+
+        // The removed matric number can be used again
+        uniqueStudentList.add(ALICE);
+        assertEquals(ALICE, uniqueStudentList.get(ALICE.getMatric()));
+    }
+
     @Test
     public void remove_existingStudent_removesStudent() {
         uniqueStudentList.add(ALICE);
@@ -131,6 +169,22 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_studentWithSameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+        assertEquals(ALICE, uniqueStudentList.get(ALICE.getMatric()));
+    }
+
+    @Test
+    public void remove_existingStudent_noLongerLookedUp() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertNull(uniqueStudentList.get(ALICE.getMatric()));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -168,6 +222,14 @@ public class UniqueStudentListTest {
                 uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_list_onlyNewStudentsLookedUp() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE.getMatric()));
+        assertEquals(BOB, uniqueStudentList.get(BOB.getMatric()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,106 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+import tatracker.model.session.UniqueSessionList;
+
+/**
+ * Compares checking a list of sessions for duplicates by hashing their identities
+ * against the nested loop over {@code Session#isSameSession} that the session lists used before.
+ * <p>
+ * This is a benchmark, so it is left out of {@code gradlew test}. Run it with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class IdentityUtilBenchmarkTest {
+
+    private static final int[] SIZES = {10_000, 20_000, 40_000};
+    private static final int WARM_UP_SIZE = 2_000;
+    private static final int WARM_UP_ROUNDS = 5;
+
+    @Test
+    public void hasUniqueSessions_hashingVersusNestedLoop() {
+        List<Session> warmUp = createDistinctSessions(WARM_UP_SIZE);
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            assertTrue(areUniqueByNestedLoop(warmUp));
+            assertTrue(areUniqueByHashing(warmUp));
+        }
+
+        for (int size : SIZES) {
+            List<Session> sessions = createDistinctSessions(size);
+
+            long nestedLoopMillis = timeMillis(IdentityUtilBenchmarkTest::areUniqueByNestedLoop, sessions);
+            long hashingMillis = timeMillis(IdentityUtilBenchmarkTest::areUniqueByHashing, sessions);
+            long setSessionsMillis = timeMillis(IdentityUtilBenchmarkTest::setSessions, sessions);
+
+            System.out.printf("%,d sessions: nested loop %,d ms, hashing %,d ms, setSessions %,d ms%n",
+                    size, nestedLoopMillis, hashingMillis, setSessionsMillis);
+        }
+    }
+
+    /**
+     * Returns {@code size} sessions with different timings, one after another.
+     */
+    private static List<Session> createDistinctSessions(int size) {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Session> sessions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime sessionStart = start.plusHours(i);
+            sessions.add(new Session(sessionStart, sessionStart.plusMinutes(30),
+                    SessionType.TUTORIAL, 0, "CS2103T", "Session " + i));
+        }
+        return sessions;
+    }
+
+    /**
+     * Returns the time taken by {@code check} on {@code sessions}, which must pass the check.
+     */
+    private static long timeMillis(Predicate<List<Session>> check, List<Session> sessions) {
+        long start = System.nanoTime();
+        boolean result = check.test(sessions);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(result);
+        return millis;
+    }
+
+    /**
+     * Returns true if {@code sessions} contains only unique sessions, comparing every pair of sessions.
+     */
+    private static boolean areUniqueByNestedLoop(List<Session> sessions) {
+        for (int i = 0; i < sessions.size() - 1; i++) {
+            for (int j = i + 1; j < sessions.size(); j++) {
+                if (sessions.get(i).isSameSession(sessions.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code sessions} contains only unique sessions, the way the session lists check them.
+     */
+    private static boolean areUniqueByHashing(List<Session> sessions) {
+        return IdentityUtil.indexByIdentity(sessions).size() == sessions.size();
+    }
+
+    private static boolean setSessions(List<Session> sessions) {
+        UniqueSessionList list = new UniqueSessionList();
+        list.setSessions(sessions);
+        assertEquals(sessions.size(), list.asUnmodifiableObservableList().size());
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.model.session.Session;
+import tatracker.model.student.Matric;
+import tatracker.model.student.Student;
+import tatracker.testutil.sessions.SessionBuilder;
+import tatracker.testutil.student.StudentBuilder;
+
+public class IdentityUtilTest {
+
+    private static final Session SESSION = new SessionBuilder().build();
+    private static final Student STUDENT = new StudentBuilder().withMatric("A0181234G").build();
+
+    @Test
+    public void indexByIdentity_emptyList_returnsEmptyMap() {
+        assertTrue(IdentityUtil.indexByIdentity(Collections.<Session>emptyList()).isEmpty());
+    }
+
+    @Test
+    public void indexByIdentity_sameSessionWithDifferentDetails_keepsOneEntry() {
+        Session sameSession = new SessionBuilder(SESSION).withDescription("other").withRecurring(5).build();
+        assertEquals(1, IdentityUtil.indexByIdentity(Arrays.asList(SESSION, sameSession)).size());
+    }
+
+    @Test
+    public void indexByIdentity_differentSessions_keepsAllEntries() {
+        Session otherModule = new SessionBuilder(SESSION).withModule("CS3243").build();
+        Session otherType = new SessionBuilder(SESSION).withSessionType("lab").build();
+        assertEquals(3, IdentityUtil.indexByIdentity(Arrays.asList(SESSION, otherModule, otherType)).size());
+    }
+
+    @Test
+    public void indexByIdentity_sameStudentTwice_keepsOneEntry() {
+        Student renamed = new StudentBuilder(STUDENT).withName("Someone Else").build();
+        Map<Matric, Student> index = IdentityUtil.indexByIdentity(Arrays.asList(STUDENT, renamed));
+
+        assertEquals(1, index.size());
+        assertSame(renamed, index.get(STUDENT.getMatric()));
+    }
+
+    @Test
+    public void indexByIdentity_manySessionsWithDuplicateAtEnd_keepsOneEntryEach() {
+        List<Session> sessions = new ArrayList<>();
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 1_000; i++) {
+            sessions.add(new SessionBuilder(SESSION).withDate(date.plusDays(i)).build());
+        }
+        sessions.add(new SessionBuilder(sessions.get(0)).withDescription("other").build());
+
+        assertEquals(sessions.size() - 1, IdentityUtil.indexByIdentity(sessions).size());
+    }
+}
@@ -0,0 +1,57 @@
+//@@author potatocombat
+
+package tatracker.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class RankingUtilTest {
+
+    @Test
+    public void getLowest_fewerElementsThanK_returnsAllInOrder() {
+        List<Integer> lowest = RankingUtil.getLowest(Arrays.asList(3, 1, 2), 5, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(1, 2, 3), lowest);
+    }
+
+    @Test
+    public void getLowest_hugeK_returnsAllInOrder() {
+        List<Integer> lowest = RankingUtil.getLowest(Arrays.asList(3, 1, 2), Integer.MAX_VALUE,
+                Comparator.naturalOrder());
+        assertEquals(Arrays.asList(1, 2, 3), lowest);
+    }
+
+    @Test
+    public void getLowest_nonPositiveK_returnsEmptyList() {
+        assertEquals(List.of(), RankingUtil.getLowest(Arrays.asList(3, 1, 2), 0, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void getLowest_tiedElements_keepsIterationOrder() {
+        List<String> words = Arrays.asList("bb", "a", "cc", "d", "ee");
+        List<String> lowest = RankingUtil.getLowest(words, 3, Comparator.comparingInt(String::length));
+        assertEquals(Arrays.asList("a", "d", "bb"), lowest);
+    }
+
+    @Test
+    public void getLowest_randomElements_matchesStableSort() {
+        Random random = new Random(2103);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(random.nextInt(50));
+        }
+        Comparator<Integer> byTens = Comparator.comparingInt(element -> element / 10);
+
+        for (int k : new int[] {1, 7, 100, 1000}) {
+            List<Integer> expected = elements.stream().sorted(byTens).limit(k).collect(Collectors.toList());
+            assertEquals(expected, RankingUtil.getLowest(elements, k, byTens));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_1;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_2;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_3;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.util.FileUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
+
+public class BinaryTaTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "tatracker.bin"),
+                BinaryTaTrackerStorage.getBinaryFilePath(Paths.get("data", "tatracker.json")));
+        assertEquals(Paths.get("tatracker.bin"), BinaryTaTrackerStorage.getBinaryFilePath(Paths.get("tatracker")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryTaTrackerStorage(filePath).readTaTracker().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.bin");
+        FileUtil.writeToFile(filePath, "{ \"sessions\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryTaTrackerStorage(filePath).readTaTracker());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.bin");
+        new BinaryTaTrackerStorage(filePath).saveTaTracker(getTypicalTaTrackerWithStudents());
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, () -> new BinaryTaTrackerStorage(filePath).readTaTracker());
+    }
+
+    @Test
+    public void readAndSaveTaTracker_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.bin");
+        BinaryTaTrackerStorage storage = new BinaryTaTrackerStorage(filePath);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.addSession(SESSION_1);
+        original.addSession(SESSION_2);
+        Session doneSession = new Session(LocalDateTime.of(1969, 12, 31, 23, 30), LocalDateTime.of(1970, 1, 1, 1, 0),
+                SessionType.GRADING, 0, "CS3243", "Before the epoch");
+        doneSession.done();
+        original.addDoneSession(doneSession);
+        original.setRate(55);
+
+        storage.saveTaTracker(original);
+        assertSameData(original, storage.readTaTracker().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.removeSession(SESSION_1);
+        original.addSession(SESSION_3);
+        storage.saveTaTracker(original);
+        assertSameData(original, storage.readTaTracker().get());
+    }
+
+    @Test
+    public void convertFromJson_jsonFileExists_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempTaTracker.json");
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.addSession(SESSION_2);
+        new JsonTaTrackerStorage(jsonFilePath).saveTaTracker(original);
+
+        BinaryTaTrackerStorage storage =
+                new BinaryTaTrackerStorage(BinaryTaTrackerStorage.getBinaryFilePath(jsonFilePath));
+        assertTrue(storage.convertFromJson(jsonFilePath));
+        assertSameData(original, storage.readTaTracker().get());
+    }
+
+    @Test
+    public void convertFromJson_missingJsonFile_returnsFalse() throws Exception {
+        BinaryTaTrackerStorage storage = new BinaryTaTrackerStorage(testFolder.resolve("TempTaTracker.bin"));
+        assertFalse(storage.convertFromJson(testFolder.resolve("NonExistentFile.json")));
+        assertFalse(storage.readTaTracker().isPresent());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same sessions, modules and rate as {@code expected},
+     * regardless of their order.
+     */
+    private void assertSameData(ReadOnlyTaTracker expected, ReadOnlyTaTracker actual) {
+        assertEquals(new HashSet<>(expected.getSessionList()), new HashSet<>(actual.getSessionList()));
+        assertEquals(new HashSet<>(expected.getDoneSessionList()), new HashSet<>(actual.getDoneSessionList()));
+        assertEquals(new HashSet<>(new JsonSerializableTaTracker(expected).getModules()),
+                new HashSet<>(new JsonSerializableTaTracker(actual).getModules()));
+        assertEquals(expected.getRate(), actual.getRate());
+    }
+}
@@ -0,0 +1,162 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tatracker.storage.ChecksummedDataFile.Status;
+
+public class ChecksummedDataFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeGenerationCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChecksummedDataFile(testFolder.resolve("data"), -1));
+    }
+
+    @Test
+    public void verify_writtenFile_valid() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ChecksummedDataFile(filePath, 0).write(bytes("{ }"));
+        assertEquals(Status.VALID, ChecksummedDataFile.verify(filePath));
+    }
+
+    @Test
+    public void write_streamedContent_sameAsWrittenBytes() throws Exception {
+        Path bytesPath = testFolder.resolve("bytes.json");
+        Path streamedPath = testFolder.resolve("streamed.json");
+        new ChecksummedDataFile(bytesPath, 0).write(bytes("{ \"rate\" : 40 }"));
+        new ChecksummedDataFile(streamedPath, 0).write(out -> {
+            out.write(bytes("{ \"rate\" "));
+            out.write(bytes(": 40 }"));
+        });
+
+        assertEquals(Status.VALID, ChecksummedDataFile.verify(streamedPath));
+        assertArrayEquals(Files.readAllBytes(bytesPath), Files.readAllBytes(streamedPath));
+    }
+
+    @Test
+    public void verify_missingFile_missing() throws Exception {
+        assertEquals(Status.MISSING, ChecksummedDataFile.verify(testFolder.resolve("data.json")));
+    }
+
+    @Test
+    public void verify_fileWithoutChecksum_unverified() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.write(filePath, bytes("{ }"));
+        assertEquals(Status.UNVERIFIED, ChecksummedDataFile.verify(filePath));
+
+        Files.write(filePath, bytes("{ \"sessions\" : [ ], \"modules\" : [ ], \"rate\" : 40 }"));
+        assertEquals(Status.UNVERIFIED, ChecksummedDataFile.verify(filePath));
+    }
+
+    @Test
+    public void verify_changedContent_corrupted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ChecksummedDataFile(filePath, 0).write(bytes("{ \"rate\" : 40 }"));
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 4] = '9';
+        Files.write(filePath, content);
+        assertEquals(Status.CORRUPTED, ChecksummedDataFile.verify(filePath));
+    }
+
+    @Test
+    public void write_manySaves_keepsNewestGenerations() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath, 2);
+        for (int save = 1; save <= 4; save++) {
+            dataFile.write(bytes("save " + save));
+        }
+
+        assertContent("save 4", filePath);
+        assertContent("save 3", ChecksummedDataFile.getGenerationPath(filePath, 1));
+        assertContent("save 2", ChecksummedDataFile.getGenerationPath(filePath, 2));
+        assertFalse(Files.exists(ChecksummedDataFile.getGenerationPath(filePath, 3)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(6, files.count()); // Each file has its checksum next to it
+        }
+    }
+
+    @Test
+    public void write_contentOnly_checksumInSeparateFile() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ChecksummedDataFile(filePath, 0).write(bytes("{ }"));
+
+        assertArrayEquals(bytes("{ }"), Files.readAllBytes(filePath));
+        assertTrue(Files.exists(ChecksummedDataFile.getChecksumPath(filePath)));
+    }
+
+    @Test
+    public void write_corruptedFile_keptAsCorruptInsteadOfGeneration() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ChecksummedDataFile(filePath, 2).write(bytes("save 1"));
+        Files.write(filePath, bytes("Save 1"));
+
+        new ChecksummedDataFile(filePath, 2).write(bytes("save 2"));
+        assertContent("save 2", filePath);
+        assertFalse(Files.exists(ChecksummedDataFile.getGenerationPath(filePath, 1)));
+        assertArrayEquals(bytes("Save 1"), Files.readAllBytes(ChecksummedDataFile.getCorruptPath(filePath)));
+    }
+
+    @Test
+    public void write_withoutGenerations_corruptedFileStillKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ChecksummedDataFile(filePath, 0).write(bytes("save 1"));
+        Files.write(filePath, bytes("Save 1"));
+
+        new ChecksummedDataFile(filePath, 0).write(bytes("save 2"));
+        assertContent("save 2", filePath);
+        assertArrayEquals(bytes("Save 1"), Files.readAllBytes(ChecksummedDataFile.getCorruptPath(filePath)));
+    }
+
+    @Test
+    public void write_knownGoodFileWithStaleChecksum_keptAsUnverifiedGeneration() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath, 2);
+        dataFile.write(bytes("save 1"));
+        Files.write(filePath, bytes("edited"));
+        dataFile.markKnownGood(Status.CORRUPTED);
+
+        dataFile.write(bytes("save 2"));
+        Path newestGeneration = ChecksummedDataFile.getGenerationPath(filePath, 1);
+        assertEquals(Status.UNVERIFIED, ChecksummedDataFile.verify(newestGeneration));
+        assertArrayEquals(bytes("edited"), Files.readAllBytes(newestGeneration));
+    }
+
+    @Test
+    public void write_knownBadFile_keptAsCorrupt() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath, 2);
+        dataFile.write(bytes("save 1"));
+        dataFile.markKnownBad();
+
+        dataFile.write(bytes("save 2"));
+        assertFalse(Files.exists(ChecksummedDataFile.getGenerationPath(filePath, 1)));
+        assertContent("save 1", ChecksummedDataFile.getCorruptPath(filePath));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asserts that the file at {@code path} holds {@code expected}, and matches its checksum.
+     */
+    private static void assertContent(String expected, Path path) throws Exception {
+        assertEquals(Status.VALID, ChecksummedDataFile.verify(path));
+        assertArrayEquals(bytes(expected), Files.readAllBytes(path));
+    }
+}
@@ -0,0 +1,215 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_1;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_2;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_3;
+import static tatracker.testutil.student.TypicalStudents.CS2030;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.util.FileUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+
+public class JournalTaTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournalTaTrackerStorage(testFolder, 0));
+    }
+
+    @Test
+    public void readTaTracker_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalTaTrackerStorage(testFolder).readTaTracker(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalTaTrackerStorage(filePath).readTaTracker().isPresent());
+    }
+
+    @Test
+    public void saveTaTracker_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath);
+
+        // First save writes a full snapshot
+        storage.saveTaTracker(original);
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Later saves only append the changes
+        original.addSession(SESSION_1);
+        original.addSession(SESSION_2);
+        original.addModule(CS2030);
+        storage.saveTaTracker(original);
+        original.removeSession(SESSION_1);
+        original.setRate(100);
+        storage.saveTaTracker(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(5, Files.readAllLines(journalFilePath).size());
+
+        // Unchanged data appends nothing
+        storage.saveTaTracker(original);
+        assertEquals(5, Files.readAllLines(journalFilePath).size());
+
+        assertSameData(original, new JournalTaTrackerStorage(filePath).readTaTracker().get());
+    }
+
+    @Test
+    public void saveTaTracker_checkpointIntervalExceeded_journalFolded() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath, 2);
+
+        storage.saveTaTracker(original);
+        original.addSession(SESSION_1);
+        original.addSession(SESSION_2);
+        storage.saveTaTracker(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.addSession(SESSION_3);
+        storage.saveTaTracker(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        assertSameData(original, new JournalTaTrackerStorage(filePath).readTaTracker().get());
+    }
+
+    @Test
+    public void readTaTracker_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath);
+
+        storage.saveTaTracker(original);
+        original.addSession(SESSION_1);
+        storage.saveTaTracker(original);
+
+        FileUtil.appendToFile(journalFilePath, "{\"op\":\"ADD_SESS");
+        assertSameData(original, new JournalTaTrackerStorage(filePath).readTaTracker().get());
+    }
+
+    @Test
+    public void readTaTracker_corruptedEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath);
+
+        storage.saveTaTracker(original);
+        List<String> lines = List.of("{\"op\":\"UNKNOWN\"}", "{\"op\":\"SET_RATE\",\"rate\":50}");
+        Files.write(journalFilePath, lines);
+
+        assertThrows(DataConversionException.class, () -> new JournalTaTrackerStorage(filePath).readTaTracker());
+    }
+
+    @Test
+    public void readTaTracker_entriesReplayedTwice_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath);
+
+        storage.saveTaTracker(original);
+        original.addSession(SESSION_1);
+        original.addModule(CS2030);
+        storage.saveTaTracker(original);
+
+        // Simulates a crash between writing a checkpoint and emptying the journal
+        List<String> journal = Files.readAllLines(journalFilePath);
+        new JsonTaTrackerStorage(filePath).saveTaTracker(original);
+        Files.write(journalFilePath, journal);
+
+        assertSameData(original, new JournalTaTrackerStorage(filePath).readTaTracker().get());
+    }
+
+    @Test
+    public void readTaTracker_snapshotNewerThanJournal_oldEntriesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        Path journalFilePath = JournalTaTrackerStorage.getJournalFilePath(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath, 2);
+
+        storage.saveTaTracker(original);
+        original.addSession(SESSION_1);
+        original.addModule(CS2030);
+        storage.saveTaTracker(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        // Undoes the journaled changes and checkpoints, then simulates a crash before the journal was emptied
+        original.removeSession(SESSION_1);
+        original.deleteModule(CS2030);
+        original.addSession(SESSION_2);
+        storage.saveTaTracker(original);
+        assertFalse(Files.exists(journalFilePath));
+        Files.write(journalFilePath, journal);
+
+        JournalTaTrackerStorage reloaded = new JournalTaTrackerStorage(filePath, 2);
+        assertSameData(original, reloaded.readTaTracker().get());
+
+        // Later entries are numbered after the snapshot, so they are still replayed
+        original.setRate(100);
+        reloaded.saveTaTracker(original);
+        assertEquals(journal.size() + 1, Files.readAllLines(journalFilePath).size());
+        assertSameData(original, new JournalTaTrackerStorage(filePath).readTaTracker().get());
+    }
+
+    @Test
+    public void saveTaTracker_studentsSorted_orderKeptAfterReload() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        JournalTaTrackerStorage storage = new JournalTaTrackerStorage(filePath);
+
+        original.sortModulesAlphabetically();
+        storage.saveTaTracker(original);
+        original.sortModulesByMatricNumber();
+        storage.saveTaTracker(original);
+        original.sortModulesByRatingDescending();
+        storage.saveTaTracker(original);
+
+        ReadOnlyTaTracker reloaded = new JournalTaTrackerStorage(filePath).readTaTracker().get();
+        assertEquals(new JsonSerializableTaTracker(original).getModules(),
+                new JsonSerializableTaTracker(reloaded).getModules());
+        assertEquals(original.getModuleList().get(0).getGroupList().get(0).getStudentList(),
+                reloaded.getModuleList().get(0).getGroupList().get(0).getStudentList());
+    }
+
+    @Test
+    public void saveTaTracker_nullTaTracker_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalTaTrackerStorage(testFolder).saveTaTracker(null));
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same sessions, modules and rate as {@code expected},
+     * regardless of their order.
+     */
+    private void assertSameData(ReadOnlyTaTracker expected, ReadOnlyTaTracker actual) {
+        assertEquals(new HashSet<>(expected.getSessionList()), new HashSet<>(actual.getSessionList()));
+        assertEquals(new HashSet<>(expected.getDoneSessionList()), new HashSet<>(actual.getDoneSessionList()));
+        assertEquals(new HashSet<>(new JsonSerializableTaTracker(expected).getModules()),
+                new HashSet<>(new JsonSerializableTaTracker(actual).getModules()));
+        assertEquals(expected.getRate(), actual.getRate());
+    }
+}
@@ -5,13 +5,20 @@ import static tatracker.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import tatracker.commons.exceptions.IllegalValueException;
 import tatracker.commons.util.JsonUtil;
 import tatracker.model.TaTracker;
+import tatracker.model.session.Session;
+import tatracker.model.session.SessionType;
 import tatracker.model.util.SampleDataUtil;
 
 public class JsonSerializableTaTrackerTest {
@@ -25,6 +32,8 @@ public class JsonSerializableTaTrackerTest {
             TEST_DATA_FOLDER.resolve("duplicateSessionsTaTracker.json");
     private static final Path DUPLICATE_DONE_SESSIONS_FILE =
             TEST_DATA_FOLDER.resolve("duplicateDoneSessionsTaTracker.json");
+    private static final Path SAME_IDENTITY_SESSIONS_FILE =
+            TEST_DATA_FOLDER.resolve("sameIdentitySessionsTaTracker.json");
 
     @Test
     public void toModelType_typicalSaveFile_success() throws Exception {
@@ -55,4 +64,49 @@ public class JsonSerializableTaTrackerTest {
                 JsonSerializableTaTracker.class).orElseThrow(NoSuchElementException::new);
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_sameIdentityDifferentDescriptions_firstSessionKept() throws Exception {
+        JsonSerializableTaTracker dataFromFile = JsonUtil.readJsonFile(SAME_IDENTITY_SESSIONS_FILE,
+                JsonSerializableTaTracker.class).orElseThrow(NoSuchElementException::new);
+        TaTracker taTracker = dataFromFile.toModelType();
+
+        assertEquals(1, taTracker.getSessionList().size());
+        assertEquals("with Alice", taTracker.getSessionList().get(0).getDescription());
+        assertEquals(1, taTracker.getDoneSessionList().size());
+        assertEquals("first", taTracker.getDoneSessionList().get(0).getDescription());
+    }
+
+    @Test
+    public void toModelType_manySessions_savedOrderKept() throws Exception {
+        List<JsonAdaptedSession> sessions = manySessions();
+        TaTracker taTracker = new JsonSerializableTaTracker(sessions, List.of(), List.of(), 40).toModelType();
+
+        assertEquals(sessions, taTracker.getSessionList().stream()
+                .map(JsonAdaptedSession::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void toModelType_manySessionsWithDuplicateBeforeInvalid_duplicateReported() {
+        List<JsonAdaptedSession> sessions = new ArrayList<>(manySessions());
+        sessions.set(ParallelConverter.PARALLEL_THRESHOLD, sessions.get(1));
+        sessions.set(sessions.size() - 1, new JsonAdaptedSession(null, "2020-01-01T10:00", "lab",
+                "Invalid session", "CS2103T", false, 0));
+
+        JsonSerializableTaTracker taTracker = new JsonSerializableTaTracker(sessions, List.of(), List.of(), 40);
+        assertThrows(IllegalValueException.class, JsonSerializableTaTracker.MESSAGE_DUPLICATE_SESSIONS,
+                taTracker::toModelType);
+    }
+
+    /**
+     * Returns enough distinct sessions to be converted in parallel.
+     */
+    private static List<JsonAdaptedSession> manySessions() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 8, 0);
+        return IntStream.range(0, ParallelConverter.PARALLEL_THRESHOLD * 10)
+                .mapToObj(i -> new JsonAdaptedSession(new Session(start.plusHours(i), start.plusHours(i + 1),
+                        SessionType.LAB, 0, "CS2103T", "Session " + i)))
+                .collect(Collectors.toList());
+    }
 }
@@ -1,20 +1,29 @@
 package tatracker.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_1;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_2;
 import static tatracker.testutil.student.TypicalStudents.CS2030;
 import static tatracker.testutil.student.TypicalStudents.CS3243;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tatracker.commons.exceptions.DataConversionException;
+import tatracker.commons.util.FileUtil;
 import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.TaTracker;
 
@@ -89,6 +98,67 @@ public class JsonTaTrackerStorageTest {
 
     }
 
+    @Test
+    public void readTaTracker_corruptedFile_recoversEarlierSave() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        JsonTaTrackerStorage jsonTaTrackerStorage = new JsonTaTrackerStorage(filePath);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.addSession(SESSION_1);
+        jsonTaTrackerStorage.saveTaTracker(original);
+        original.addSession(SESSION_2);
+        jsonTaTrackerStorage.saveTaTracker(original);
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+        JsonTaTrackerStorage recoveringStorage = new JsonTaTrackerStorage(filePath);
+        ReadOnlyTaTracker readBack = recoveringStorage.readTaTracker().get();
+        assertEquals(List.of(SESSION_1), readBack.getSessionList());
+        assertTrue(recoveringStorage.getReadWarning().isPresent());
+
+        // The damaged file is kept aside instead of being written over
+        recoveringStorage.saveTaTracker(readBack);
+        assertArrayEquals(Arrays.copyOf(content, content.length / 2),
+                Files.readAllBytes(ChecksummedDataFile.getCorruptPath(filePath)));
+    }
+
+    @Test
+    public void readTaTracker_editedFileWithEarlierSave_readsEditedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        JsonTaTrackerStorage jsonTaTrackerStorage = new JsonTaTrackerStorage(filePath);
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.setRate(40);
+        jsonTaTrackerStorage.saveTaTracker(original);
+        jsonTaTrackerStorage.saveTaTracker(original);
+
+        String content = FileUtil.readFromFile(filePath);
+        Files.write(filePath, content.replace("\"rate\" : 40", "\"rate\" : 50").getBytes(StandardCharsets.UTF_8));
+
+        JsonTaTrackerStorage editedStorage = new JsonTaTrackerStorage(filePath);
+        ReadOnlyTaTracker readBack = editedStorage.readTaTracker().get();
+        assertEquals(50, readBack.getRate());
+        assertFalse(editedStorage.getReadWarning().isPresent());
+
+        // The edited file becomes the newest earlier save, which can still be read
+        editedStorage.saveTaTracker(new TaTracker());
+        assertEquals(50, new JsonTaTrackerStorage(filePath)
+                .readTaTracker(ChecksummedDataFile.getGenerationPath(filePath, 1)).get().getRate());
+    }
+
+    @Test
+    public void readTaTracker_editedFileWithoutEarlierSave_readsEditedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.setRate(40);
+        new JsonTaTrackerStorage(filePath).saveTaTracker(original);
+
+        String content = FileUtil.readFromFile(filePath);
+        Files.write(filePath, content.replace("\"rate\" : 40", "\"rate\" : 50").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(50, new JsonTaTrackerStorage(filePath).readTaTracker().get().getRate());
+    }
+
     @Test
     public void saveTaTracker_nullTaTracker_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTaTracker(null, "SomeFile.json"));
@@ -0,0 +1,94 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.commons.util.FileUtil;
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+
+public class JsonTaTrackerStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTaTrackerTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_savedTaTracker_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.setRate(25);
+        JsonUtil.saveJsonFile(new JsonSerializableTaTracker(original), filePath);
+
+        ReadOnlyTaTracker readBack = JsonTaTrackerStreamReader.read(filePath);
+        assertEquals(new HashSet<>(new JsonSerializableTaTracker(original).getModules()),
+                new HashSet<>(new JsonSerializableTaTracker(readBack).getModules()));
+        assertEquals(original.getSessionList(), readBack.getSessionList());
+        assertEquals(25, readBack.getRate());
+    }
+
+    @Test
+    public void read_duplicateModulesFile_sameErrorAsToModelType() throws Exception {
+        assertSameError("duplicateModulesTaTracker.json");
+    }
+
+    @Test
+    public void read_duplicateSessionsFile_sameErrorAsToModelType() throws Exception {
+        assertSameError("duplicateSessionsTaTracker.json");
+    }
+
+    @Test
+    public void read_duplicateDoneSessionsFile_sameErrorAsToModelType() throws Exception {
+        assertSameError("duplicateDoneSessionsTaTracker.json");
+    }
+
+    @Test
+    public void read_sameIdentityDifferentDescriptions_firstSessionKept() throws Exception {
+        ReadOnlyTaTracker readBack = JsonTaTrackerStreamReader.read(
+                TEST_DATA_FOLDER.resolve("sameIdentitySessionsTaTracker.json"));
+
+        assertEquals(1, readBack.getSessionList().size());
+        assertEquals("with Alice", readBack.getSessionList().get(0).getDescription());
+        assertEquals(1, readBack.getDoneSessionList().size());
+        assertEquals("first", readBack.getDoneSessionList().get(0).getDescription());
+    }
+
+    @Test
+    public void read_missingModules_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("TempTaTracker.json");
+        FileUtil.writeToFile(filePath, "{ \"sessions\" : [ ], \"doneSessions\" : [ ], \"rate\" : 40 }");
+
+        String expectedMessage = String.format(JsonTaTrackerStreamReader.MISSING_FIELD_MESSAGE_FORMAT, "modules");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonTaTrackerStreamReader.read(filePath));
+    }
+
+    /**
+     * Asserts that streaming the file in the test data folder fails with the same message
+     * as converting the fully deserialized file.
+     */
+    private void assertSameError(String fileName) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+        JsonSerializableTaTracker dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableTaTracker.class).orElseThrow(NoSuchElementException::new);
+
+        String expectedMessage = null;
+        try {
+            dataFromFile.toModelType();
+        } catch (IllegalValueException ive) {
+            expectedMessage = ive.getMessage();
+        }
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonTaTrackerStreamReader.read(filePath));
+    }
+}
@@ -0,0 +1,58 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.commons.util.JsonUtil;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+
+public class JsonTaTrackerStreamWriterTest {
+
+    private static final Path TYPICAL_TA_TRACKER_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableTaTrackerTest", "typicalTaTracker.json");
+
+    @Test
+    public void write_emptyTaTracker_sameJsonAsSerializable() throws Exception {
+        assertSameJson(new TaTracker());
+    }
+
+    @Test
+    public void write_typicalTaTrackers_sameJsonAsSerializable() throws Exception {
+        assertSameJson(getTypicalTaTrackerWithStudents());
+        assertSameJson(JsonTaTrackerStreamReader.read(TYPICAL_TA_TRACKER_FILE));
+    }
+
+    @Test
+    public void write_writtenJson_readBackAsSameData() throws Exception {
+        TaTracker original = JsonTaTrackerStreamReader.read(TYPICAL_TA_TRACKER_FILE);
+        original.setRate(25);
+
+        TaTracker readBack = JsonUtil.fromJsonString(write(original), JsonSerializableTaTracker.class).toModelType();
+        assertEquals(original.getSessionList(), readBack.getSessionList());
+        assertEquals(original.getDoneSessionList(), readBack.getDoneSessionList());
+        assertEquals(new JsonSerializableTaTracker(original).getModules(),
+                new JsonSerializableTaTracker(readBack).getModules());
+        assertEquals(25, readBack.getRate());
+    }
+
+    private static String write(ReadOnlyTaTracker taTracker) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonTaTrackerStreamWriter.write(taTracker, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asserts that streaming {@code taTracker} writes the same json as serializing its {@code JsonAdapted*} objects.
+     */
+    private static void assertSameJson(ReadOnlyTaTracker taTracker) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTaTracker(taTracker)), write(taTracker));
+    }
+}
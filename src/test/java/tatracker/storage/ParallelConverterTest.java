@@ -0,0 +1,56 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tatracker.storage.ParallelConverter.convertAll;
+import static tatracker.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tatracker.commons.exceptions.IllegalValueException;
+import tatracker.storage.ParallelConverter.Converted;
+
+public class ParallelConverterTest {
+
+    private static final int LARGE_SIZE = ParallelConverter.PARALLEL_THRESHOLD * 20;
+
+    @Test
+    public void convertAll_smallAndLargeLists_sameOrderAsSources() throws Exception {
+        for (int size : new int[] {0, 1, ParallelConverter.PARALLEL_THRESHOLD - 1, LARGE_SIZE}) {
+            List<Integer> sources = IntStream.range(0, size).boxed().collect(Collectors.toList());
+
+            List<String> converted = new ArrayList<>();
+            for (Converted<String> result : convertAll(sources, String::valueOf)) {
+                converted.add(result.get());
+            }
+
+            assertEquals(sources.stream().map(String::valueOf).collect(Collectors.toList()), converted);
+        }
+    }
+
+    @Test
+    public void convertAll_invalidSources_eachErrorKeptWithItsSource() throws Exception {
+        List<Integer> sources = IntStream.range(0, LARGE_SIZE).boxed().collect(Collectors.toList());
+
+        List<Converted<Integer>> results = convertAll(sources, source -> {
+            if (source % 100 == 99) {
+                throw new IllegalValueException("Invalid " + source);
+            }
+            return source;
+        });
+
+        assertEquals(LARGE_SIZE, results.size());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            Converted<Integer> result = results.get(i);
+            if (i % 100 == 99) {
+                assertThrows(IllegalValueException.class, "Invalid " + i, result::get);
+            } else {
+                assertEquals(Integer.valueOf(i), result.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package tatracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
+import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_1;
+import static tatracker.testutil.sessions.TypicalSessions.SESSION_2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tatracker.commons.exceptions.DataConversionException;
+import tatracker.model.ReadOnlyTaTracker;
+import tatracker.model.TaTracker;
+import tatracker.model.group.Group;
+import tatracker.model.group.GroupType;
+import tatracker.model.module.Module;
+
+public class ShardedTaTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardDirectoryPath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "tatracker.shards"),
+                ShardedTaTrackerStorage.getShardDirectoryPath(Paths.get("data", "tatracker.json")));
+    }
+
+    @Test
+    public void read_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedTaTrackerStorage(testFolder.resolve("missing")).readTaTracker().isPresent());
+    }
+
+    @Test
+    public void read_missingModuleShard_exceptionThrown() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedTaTrackerStorage(directoryPath).saveTaTracker(getTypicalTaTrackerWithStudents());
+
+        Files.delete(directoryPath.resolve("module-CS3243.json"));
+        assertThrows(DataConversionException.class, () -> new ShardedTaTrackerStorage(directoryPath).readTaTracker());
+    }
+
+    @Test
+    public void read_missingSessionShard_exceptionThrown() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedTaTrackerStorage(directoryPath).saveTaTracker(getTypicalTaTrackerWithStudents());
+
+        Files.delete(directoryPath.resolve(ShardedTaTrackerStorage.DONE_SESSIONS_FILE_NAME));
+        assertThrows(DataConversionException.class, () -> new ShardedTaTrackerStorage(directoryPath).readTaTracker());
+    }
+
+    @Test
+    public void readAndSaveTaTracker_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        ShardedTaTrackerStorage storage = new ShardedTaTrackerStorage(directoryPath);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.addModule(new Module("CS2103T", "Software Engineering"));
+        original.addSession(SESSION_1);
+        original.setRate(55);
+        storage.saveTaTracker(original);
+        assertSameData(original, new ShardedTaTrackerStorage(directoryPath).readTaTracker().get());
+
+        // Modify data, overwrite existing shards, and read back
+        original.addSession(SESSION_2);
+        original.deleteModule(original.getModule("CS2103T"));
+        storage.saveTaTracker(original);
+        assertSameData(original, new ShardedTaTrackerStorage(directoryPath).readTaTracker().get());
+        assertEquals(List.of("doneSessions.json", "manifest.json", "module-CS3243.json", "sessions.json"),
+                shardFileNames(directoryPath));
+    }
+
+    @Test
+    public void saveTaTracker_oneModuleChanged_onlyChangedShardsWritten() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        ShardedTaTrackerStorage storage = new ShardedTaTrackerStorage(directoryPath);
+
+        TaTracker taTracker = getTypicalTaTrackerWithStudents();
+        taTracker.addModule(new Module("CS2103T", "Software Engineering"));
+        storage.saveTaTracker(taTracker);
+
+        // Shards that are rewritten reappear after being deleted
+        for (String fileName : shardFileNames(directoryPath)) {
+            Files.delete(directoryPath.resolve(fileName));
+        }
+        taTracker.getModule("CS2103T").addGroup(new Group("T02", GroupType.TUTORIAL));
+        storage.saveTaTracker(taTracker);
+
+        assertEquals(List.of("module-CS2103T.json"), shardFileNames(directoryPath));
+    }
+
+    @Test
+    public void saveTaTracker_idsWithSameFileName_separateShards() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        TaTracker original = new TaTracker();
+        original.addModule(new Module("cs2103/t", "Lower"));
+        original.addModule(new Module("CS2103:T", "Upper"));
+        original.setRate(40);
+
+        new ShardedTaTrackerStorage(directoryPath).saveTaTracker(original);
+
+        assertEquals(List.of("doneSessions.json", "manifest.json", "module-CS2103_T-2.json", "module-cs2103_t.json",
+                "sessions.json"), shardFileNames(directoryPath));
+        assertSameData(original, new ShardedTaTrackerStorage(directoryPath).readTaTracker().get());
+    }
+
+    @Test
+    public void convertFromJson_jsonFileExists_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempTaTracker.json");
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        original.addSession(SESSION_2);
+        new JsonTaTrackerStorage(jsonFilePath).saveTaTracker(original);
+
+        ShardedTaTrackerStorage storage =
+                new ShardedTaTrackerStorage(ShardedTaTrackerStorage.getShardDirectoryPath(jsonFilePath));
+        assertTrue(storage.convertFromJson(jsonFilePath));
+        assertSameData(original, storage.readTaTracker().get());
+    }
+
+    private List<String> shardFileNames(Path directoryPath) throws Exception {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same sessions, modules and rate as {@code expected},
+     * regardless of their order.
+     */
+    private void assertSameData(ReadOnlyTaTracker expected, ReadOnlyTaTracker actual) {
+        assertEquals(new HashSet<>(expected.getSessionList()), new HashSet<>(actual.getSessionList()));
+        assertEquals(new HashSet<>(expected.getDoneSessionList()), new HashSet<>(actual.getDoneSessionList()));
+        assertEquals(new HashSet<>(new JsonSerializableTaTracker(expected).getModules()),
+                new HashSet<>(new JsonSerializableTaTracker(actual).getModules()));
+        assertEquals(expected.getRate(), actual.getRate());
+    }
+}
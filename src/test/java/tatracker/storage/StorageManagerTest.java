@@ -1,10 +1,20 @@
 package tatracker.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tatracker.testutil.Assert.assertThrows;
 import static tatracker.testutil.TypicalTaTracker.getTypicalTaTrackerWithStudents;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +23,14 @@ import org.junit.jupiter.api.io.TempDir;
 import tatracker.commons.core.GuiSettings;
 import tatracker.model.ReadOnlyTaTracker;
 import tatracker.model.TaTracker;
+import tatracker.model.TaTrackerSection;
+import tatracker.model.TaTrackerSnapshot;
 import tatracker.model.UserPrefs;
 
 public class StorageManagerTest {
 
+    private static final long LONG_LATENCY = 60_000;
+
     @TempDir
     public Path testFolder;
 
@@ -65,4 +79,187 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getTaTrackerFilePath());
     }
 
+    @Test
+    public void requestSaveTaTracker_backgroundSaving_writtenOnFlush() throws Exception {
+        storageManager.enableBackgroundSaving(LONG_LATENCY);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        storageManager.requestSaveTaTracker(original.getSnapshot());
+        assertFalse(storageManager.readTaTracker().isPresent());
+
+        storageManager.flushTaTracker();
+        assertEquals(original, new TaTracker(storageManager.readTaTracker().get()));
+    }
+
+    @Test
+    public void requestSaveTaTracker_burstOfRequests_coalescedIntoOneWrite() throws Exception {
+        SaveCountingStub taTrackerStorage = new SaveCountingStub(getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(taTrackerStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.enableBackgroundSaving(LONG_LATENCY);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        for (int i = 0; i < 10; i++) {
+            original.setRate(i + 1);
+            storage.requestSaveTaTracker(original.getSnapshot());
+        }
+        storage.flushTaTracker();
+
+        assertEquals(1, taTrackerStorage.saveCount.get());
+        assertEquals(10, storage.readTaTracker().get().getRate());
+    }
+
+    @Test
+    public void requestSaveTaTracker_backgroundSaveFails_failureReported() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        StorageManager storage = new StorageManager(new JsonTaTrackerStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) throws IOException {
+                throw failure;
+            }
+        }, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.enableBackgroundSaving(1);
+
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storage.setSaveFailureHandler(reported::complete);
+        storage.requestSaveTaTracker(getTypicalTaTrackerWithStudents().getSnapshot());
+
+        assertEquals(failure, reported.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void requestSaveTaTracker_olderBackgroundSaveFails_newerRequestKept() throws Exception {
+        FailFirstSaveStub taTrackerStorage = new FailFirstSaveStub(getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(taTrackerStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.enableBackgroundSaving(0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storage.setSaveFailureHandler(reported::complete);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        storage.requestSaveTaTracker(original.getSnapshot());
+        assertTrue(taTrackerStorage.firstSaveStarted.await(5, TimeUnit.SECONDS));
+
+        // Requested while the first save is still being written, which then fails
+        original.setRate(100);
+        TaTrackerSnapshot newer = original.getSnapshot();
+        storage.requestSaveTaTracker(newer);
+        taTrackerStorage.failFirstSave.countDown();
+        reported.get(5, TimeUnit.SECONDS);
+        storage.flushTaTracker();
+
+        assertEquals(2, taTrackerStorage.saveCount.get());
+        assertEquals(EnumSet.noneOf(TaTrackerSection.class), storage.getChangedSections(newer));
+        assertEquals(100, storage.readTaTracker().get().getRate());
+    }
+
+    @Test
+    public void flushTaTracker_saveFails_nextRequestSavedAgain() throws Exception {
+        FailFirstSaveStub taTrackerStorage = new FailFirstSaveStub(getTempFilePath("ab"));
+        taTrackerStorage.failFirstSave.countDown();
+        StorageManager storage = new StorageManager(taTrackerStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.enableBackgroundSaving(LONG_LATENCY);
+
+        TaTrackerSnapshot snapshot = getTypicalTaTrackerWithStudents().getSnapshot();
+        storage.requestSaveTaTracker(snapshot);
+        assertThrows(IOException.class, storage::flushTaTracker);
+
+        assertEquals(EnumSet.allOf(TaTrackerSection.class), storage.getChangedSections(snapshot));
+        storage.requestSaveTaTracker(snapshot);
+        storage.flushTaTracker();
+        assertEquals(2, taTrackerStorage.saveCount.get());
+    }
+
+    @Test
+    public void requestSaveTaTracker_noChangesSinceLastRequest_notSaved() throws Exception {
+        SaveCountingStub taTrackerStorage = new SaveCountingStub(getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(taTrackerStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        storage.requestSaveTaTracker(original.getSnapshot());
+        assertEquals(EnumSet.noneOf(TaTrackerSection.class), storage.getChangedSections(original.getSnapshot()));
+        storage.requestSaveTaTracker(original.getSnapshot());
+        assertEquals(1, taTrackerStorage.saveCount.get());
+
+        original.setRate(100);
+        assertEquals(EnumSet.of(TaTrackerSection.RATE), storage.getChangedSections(original.getSnapshot()));
+        storage.requestSaveTaTracker(original.getSnapshot());
+        assertEquals(2, taTrackerStorage.saveCount.get());
+
+        // A different ta-tracker is always saved
+        storage.requestSaveTaTracker(new TaTracker(original).getSnapshot());
+        assertEquals(3, taTrackerStorage.saveCount.get());
+    }
+
+    @Test
+    public void requestSaveTaTracker_snapshotOfSameTaTracker_savesGivenSnapshot() throws Exception {
+        SaveCountingStub taTrackerStorage = new SaveCountingStub(getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(taTrackerStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.enableBackgroundSaving(LONG_LATENCY);
+
+        TaTracker original = getTypicalTaTrackerWithStudents();
+        storage.requestSaveTaTracker(original.getSnapshot());
+        storage.flushTaTracker();
+
+        original.setRate(100);
+        TaTrackerSnapshot snapshot = original.getSnapshot();
+        assertEquals(EnumSet.of(TaTrackerSection.RATE), storage.getChangedSections(snapshot));
+        storage.requestSaveTaTracker(snapshot);
+        storage.flushTaTracker();
+
+        assertSame(snapshot, taTrackerStorage.lastSaved);
+        assertEquals(2, taTrackerStorage.saveCount.get());
+    }
+
+    /**
+     * A stub class whose first save fails, once {@code failFirstSave} is counted down.
+     */
+    private static class FailFirstSaveStub extends JsonTaTrackerStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch failFirstSave = new CountDownLatch(1);
+
+        private FailFirstSaveStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) throws IOException {
+            if (saveCount.incrementAndGet() > 1) {
+                super.saveTaTracker(taTracker, filePath);
+                return;
+            }
+
+            firstSaveStarted.countDown();
+            try {
+                failFirstSave.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("dummy exception");
+        }
+    }
+
+    /**
+     * A stub class that counts the number of times data is saved.
+     */
+    private static class SaveCountingStub extends JsonTaTrackerStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private volatile ReadOnlyTaTracker lastSaved;
+
+        private SaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaTracker(ReadOnlyTaTracker taTracker, Path filePath) throws IOException {
+            saveCount.incrementAndGet();
+            lastSaved = taTracker;
+            super.saveTaTracker(taTracker, filePath);
+        }
+    }
+
 }